@@ -0,0 +1,110 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * ベンチマーク用のテストデータを作成するクラスです。
+ * 受講生1人あたり3件の受講生コース情報と、コースごとに1件のコース申込状況を作成します。
+ */
+public final class BenchmarkData {
+
+  public static final int COURSES_PER_STUDENT = 3;
+
+  private static final String[] CITIES = {"東京都", "埼玉県", "滋賀県", "秋田県", "大阪府"};
+  private static final String[] GENDERS = {"男性", "女性", "その他"};
+  private static final String[] COURSE_NAMES = {"Java基礎", "Spring Boot入門", "Webアプリ開発", "データベース基礎"};
+  private static final String[] STATUSES = {"仮申込", "本申込", "受講中", "受講終了"};
+
+  private final List<Student> studentList;
+  private final List<StudentCourse> studentCourseList;
+  private final List<StudentCourseStatus> studentCourseStatusList;
+
+  private BenchmarkData(List<Student> studentList, List<StudentCourse> studentCourseList,
+      List<StudentCourseStatus> studentCourseStatusList) {
+    this.studentList = studentList;
+    this.studentCourseList = studentCourseList;
+    this.studentCourseStatusList = studentCourseStatusList;
+  }
+
+  /**
+   * 指定した人数の受講生とその受講生コース情報、コース申込状況を作成します。
+   *
+   * @param studentCount 受講生の人数
+   * @return テストデータ
+   */
+  public static BenchmarkData create(int studentCount) {
+    List<Student> studentList = new ArrayList<>(studentCount);
+    List<StudentCourse> studentCourseList = new ArrayList<>(studentCount * COURSES_PER_STUDENT);
+    List<StudentCourseStatus> studentCourseStatusList = new ArrayList<>(studentCount * COURSES_PER_STUDENT);
+    LocalDate startDate = LocalDate.of(2024, 1, 1);
+
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student();
+      student.setStudentId(String.format("student-%08d", i));
+      student.setName("受講生" + i);
+      student.setFurigana("じゅこうせい");
+      student.setNickname("ニックネーム" + i);
+      student.setEmail("student" + i + "@example.com");
+      student.setCity(CITIES[i % CITIES.length]);
+      student.setAge(10 + i % 90);
+      student.setGender(GENDERS[i % GENDERS.length]);
+      student.setRemark("");
+      studentList.add(student);
+
+      for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setCourseId(student.getStudentId() + "-course-" + j);
+        studentCourse.setStudentId(student.getStudentId());
+        studentCourse.setCourseName(COURSE_NAMES[(i + j) % COURSE_NAMES.length]);
+        studentCourse.setStartDate(startDate.plusDays((i + j) % 365));
+        studentCourse.setEndDate(studentCourse.getStartDate().plusYears(1));
+        studentCourseList.add(studentCourse);
+
+        StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+        studentCourseStatus.setStatusId(studentCourse.getCourseId() + "-status");
+        studentCourseStatus.setCourseId(studentCourse.getCourseId());
+        studentCourseStatus.setStatus(STATUSES[(i + j) % STATUSES.length]);
+        studentCourseStatusList.add(studentCourseStatus);
+      }
+    }
+    return new BenchmarkData(studentList, studentCourseList, studentCourseStatusList);
+  }
+
+  public List<Student> getStudentList() {
+    return studentList;
+  }
+
+  public List<StudentCourse> getStudentCourseList() {
+    return studentCourseList;
+  }
+
+  public List<StudentCourseStatus> getStudentCourseStatusList() {
+    return studentCourseStatusList;
+  }
+
+  /**
+   * コース申込状況を紐づけた受講生詳細の一覧を作成します。
+   *
+   * @return コース申込状況を含む受講生詳細一覧
+   */
+  public List<StudentDetail> toStudentDetailListWithStatus() {
+    List<StudentDetail> studentDetailList = new ArrayList<>(studentList.size());
+    for (int i = 0; i < studentList.size(); i++) {
+      List<StudentCourse> courses = new ArrayList<>(COURSES_PER_STUDENT);
+      for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+        int index = i * COURSES_PER_STUDENT + j;
+        StudentCourse studentCourse = studentCourseList.get(index);
+        studentCourse.setCourseStatus(studentCourseStatusList.get(index));
+        courses.add(studentCourse);
+      }
+      studentDetailList.add(new StudentDetail(studentList.get(i), courses));
+    }
+    return studentDetailList;
+  }
+}
@@ -0,0 +1,73 @@
+package raisetech.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.serializer.StudentDetailModule;
+
+/**
+ * List&lt;StudentDetail&gt; をJSON・CBOR・Smileに変換（encode）・復元（decode）するベンチマークです。
+ * アプリケーションと同じ設定（日付は文字列、受講生詳細のシリアライザー）のObjectMapperを使います。
+ * 形式ごとのバイト数は、Setupで標準出力に表示します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentBinaryFormatBenchmark {
+
+  @Param({"100000"})
+  private int studentCount;
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  private ObjectWriter writer;
+  private ObjectReader reader;
+  private List<StudentDetail> studentDetailList;
+  private byte[] encoded;
+
+  @Setup
+  public void setup() throws IOException {
+    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .modulesToInstall(new StudentDetailModule());
+    ObjectMapper objectMapper = switch (format) {
+      case "cbor" -> builder.factory(new CBORFactory()).build();
+      case "smile" -> builder.factory(new SmileFactory()).build();
+      default -> builder.build();
+    };
+    writer = objectMapper.writer();
+    reader = objectMapper.readerFor(new TypeReference<List<StudentDetail>>() {
+    });
+    studentDetailList = BenchmarkData.create(studentCount).toStudentDetailListWithStatus();
+    encoded = writer.writeValueAsBytes(studentDetailList);
+    System.out.printf("%n%s: 受講生%d人で%dバイト%n", format, studentCount, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return writer.writeValueAsBytes(studentDetailList);
+  }
+
+  @Benchmark
+  public List<StudentDetail> decode() throws IOException {
+    return reader.readValue(encoded);
+  }
+}
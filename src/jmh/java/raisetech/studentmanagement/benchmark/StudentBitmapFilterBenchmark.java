@@ -0,0 +1,107 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.SearchOperator;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.index.StudentBitmapIndex;
+
+/**
+ * 受講生の絞り込み検索のベンチマークです。
+ * 全受講生の受講生詳細を1件ずつ条件と照合する方法と、StudentBitmapIndex でビットマップを組み合わせる方法の
+ * 1回あたりの検索時間を比較します。条件は「（東京都かつ30代）または（女性かつ受講終了のコースがない）」です。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentBitmapFilterBenchmark {
+
+  private static final String[] CITIES = {"東京都", "埼玉県", "滋賀県", "秋田県", "大阪府", "北海道", "福岡県", "愛知県"};
+  private static final String[] GENDERS = {"男性", "女性", "その他"};
+  private static final String[] COURSE_NAMES = {"Java基礎", "Spring Boot入門", "Webアプリ開発", "データベース基礎"};
+  private static final String[] STATUSES = {"仮申込", "本申込", "受講中", "受講終了"};
+
+  @Param({"100000", "1000000"})
+  private int studentCount;
+
+  private List<StudentDetail> studentDetailList;
+  private StudentBitmapIndex studentBitmapIndex;
+  private StudentFilter filter;
+
+  @Setup
+  public void setup() {
+    studentDetailList = new ArrayList<>(studentCount);
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student();
+      student.setStudentId(String.format("student-%08d", i));
+      student.setCity(CITIES[i % CITIES.length]);
+      student.setGender(GENDERS[i % GENDERS.length]);
+      student.setAge(10 + i % 70);
+      List<StudentCourse> studentCourseList = new ArrayList<>();
+      for (int j = 0; j < 2; j++) {
+        StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+        studentCourseStatus.setStatus(STATUSES[(i / 7 + j) % STATUSES.length]);
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setCourseName(COURSE_NAMES[(i + j) % COURSE_NAMES.length]);
+        studentCourse.setCourseStatus(studentCourseStatus);
+        studentCourseList.add(studentCourse);
+      }
+      studentDetailList.add(new StudentDetail(student, studentCourseList));
+    }
+    studentBitmapIndex = new StudentBitmapIndex();
+    studentBitmapIndex.rebuild(studentDetailList);
+
+    StudentFilter tokyoThirties = new StudentFilter();
+    tokyoThirties.setCity("東京都");
+    tokyoThirties.setMinAge(30);
+    tokyoThirties.setMaxAge(39);
+    StudentFilter finished = new StudentFilter();
+    finished.setStatus("受講終了");
+    StudentFilter femaleNotFinished = new StudentFilter();
+    femaleNotFinished.setGender("女性");
+    femaleNotFinished.setOperator(SearchOperator.NOT);
+    femaleNotFinished.setConditions(List.of(finished));
+    filter = new StudentFilter();
+    filter.setOperator(SearchOperator.OR);
+    filter.setConditions(List.of(tokyoThirties, femaleNotFinished));
+  }
+
+  /**
+   * 比較用：全受講生を1件ずつ条件と照合します。
+   */
+  @Benchmark
+  public List<String> linearScan() {
+    List<String> studentIds = new ArrayList<>();
+    for (StudentDetail studentDetail : studentDetailList) {
+      Student student = studentDetail.getStudent();
+      boolean tokyoThirties = student.getCity().equals("東京都") && student.getAge() >= 30 && student.getAge() <= 39;
+      boolean femaleNotFinished = student.getGender().equals("女性") && studentDetail.getStudentCourseList().stream()
+          .noneMatch(studentCourse -> studentCourse.getCourseStatus().getStatus().equals("受講終了"));
+      if (tokyoThirties || femaleNotFinished) {
+        studentIds.add(student.getStudentId());
+      }
+    }
+    return studentIds;
+  }
+
+  /**
+   * ビットマップ索引で条件を評価します。
+   */
+  @Benchmark
+  public List<String> bitmapIndex() {
+    return studentBitmapIndex.searchStudentIds(filter);
+  }
+}
@@ -0,0 +1,41 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.converter.StudentConverter;
+
+/**
+ * StudentConverter#convertStudentDetails のベンチマークです。
+ * 受講生1人あたり3コースのため、333334人で受講生コース情報は約100万行になります。
+ * 件数に比例した時間で処理できていれば、件数を10倍にするとスループットはほぼ10分の1になります。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StudentConverterBenchmark {
+
+  @Param({"1000", "10000", "100000", "333334"})
+  private int studentCount;
+
+  private final StudentConverter converter = new StudentConverter();
+  private BenchmarkData data;
+
+  @Setup
+  public void setup() {
+    data = BenchmarkData.create(studentCount);
+  }
+
+  @Benchmark
+  public List<StudentDetail> convertStudentDetails() {
+    return converter.convertStudentDetails(data.getStudentList(), data.getStudentCourseList());
+  }
+}
@@ -0,0 +1,39 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.domain.assembler.StudentCourseAssembler;
+
+/**
+ * StudentCourseAssembler#assembleCourseListWithStatus のベンチマークです。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StudentCourseAssemblerBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int studentCount;
+
+  private final StudentCourseAssembler assembler = new StudentCourseAssembler();
+  private BenchmarkData data;
+
+  @Setup
+  public void setup() {
+    data = BenchmarkData.create(studentCount);
+  }
+
+  @Benchmark
+  public List<StudentCourse> assembleCourseListWithStatus() {
+    return assembler.assembleCourseListWithStatus(data.getStudentCourseList(), data.getStudentCourseStatusList());
+  }
+}
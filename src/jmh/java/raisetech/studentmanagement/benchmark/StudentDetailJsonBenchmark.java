@@ -0,0 +1,56 @@
+package raisetech.studentmanagement.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.serializer.StudentDetailModule;
+
+/**
+ * List&lt;StudentDetail&gt; のJSONシリアライズのベンチマークです。
+ * Spring Bootの既定設定（日付は文字列で出力）と同じObjectMapperでレスポンスボディ相当のバイト列を作成します。
+ * リフレクションによる変換（reflective）と、受講生詳細のシリアライザー（{@link StudentDetailModule}）による変換（handwritten）を比較します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StudentDetailJsonBenchmark {
+
+  @Param({"1000", "10000", "100000"})
+  private int studentCount;
+
+  @Param({"reflective", "handwritten"})
+  private String serializer;
+
+  private ObjectWriter writer;
+  private List<StudentDetail> studentDetailList;
+
+  @Setup
+  public void setup() {
+    ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    if (serializer.equals("handwritten")) {
+      objectMapper.registerModule(new StudentDetailModule());
+    }
+    writer = objectMapper.writer();
+    studentDetailList = BenchmarkData.create(studentCount).toStudentDetailListWithStatus();
+  }
+
+  @Benchmark
+  public byte[] serializeStudentDetailList() throws JsonProcessingException {
+    return writer.writeValueAsBytes(studentDetailList);
+  }
+}
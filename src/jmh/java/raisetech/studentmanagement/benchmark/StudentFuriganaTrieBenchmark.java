@@ -0,0 +1,83 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jol.info.GraphLayout;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+import raisetech.studentmanagement.index.StudentFuriganaTrie;
+
+/**
+ * ふりがなの入力補完（StudentFuriganaTrie）のベンチマークです。
+ * 1回あたりの検索時間を計測し、セットアップ時にトライ木全体のメモリ使用量（受講生10万人あたり）を標準出力に表示します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentFuriganaTrieBenchmark {
+
+  private static final String[] FAMILY_NAMES = {
+      "すずき", "さとう", "たかはし", "たなか", "いとう", "わたなべ", "やまもと", "なかむら", "こばやし", "かとう",
+      "よしだ", "やまだ", "ささき", "やまぐち", "まつもと", "いのうえ", "きむら", "はやし", "さいとう", "しみず"};
+  private static final String[] GIVEN_NAMES = {
+      "だいすけ", "かな", "けんいち", "りお", "しょうた", "みさき", "たくや", "ひな", "だいき", "ゆい",
+      "れん", "さくら", "ゆうま", "あおい", "みなと", "りん", "そうた", "めい", "りく", "ななみ"};
+  private static final int STUDENTS_PER_REPORT = 100_000;
+
+  @Param({"100000", "1000000"})
+  private int studentCount;
+
+  /**
+   * 入力途中のふりがな。多くの受講生に一致する1文字、姓まで、氏名まで。
+   */
+  @Param({"す", "すずき", "すずきだいすけ"})
+  private String prefix;
+
+  @Param({"10"})
+  private int limit;
+
+  private StudentFuriganaTrie trie;
+
+  @Setup
+  public void setup() {
+    List<StudentDetail> studentDetailList = new ArrayList<>(studentCount);
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student();
+      student.setStudentId(String.format("student-%08d", i));
+      student.setName("受講生" + i);
+      // 同姓同名が多くなりすぎないよう、氏名のあとに番号をひらがなで付ける
+      student.setFurigana(FAMILY_NAMES[i % FAMILY_NAMES.length]
+          + GIVEN_NAMES[(i / FAMILY_NAMES.length) % GIVEN_NAMES.length] + toKana(i));
+      studentDetailList.add(new StudentDetail(student, new ArrayList<>()));
+    }
+    trie = new StudentFuriganaTrie();
+    trie.rebuild(studentDetailList);
+
+    long totalBytes = GraphLayout.parseInstance(trie).totalSize();
+    System.out.printf("%n受講生%d人: ノード数 %d、メモリ使用量 %,d バイト（受講生10万人あたり %,d バイト）%n",
+        studentCount, trie.nodeCount(), totalBytes, totalBytes * STUDENTS_PER_REPORT / studentCount);
+  }
+
+  @Benchmark
+  public List<StudentSuggestion> suggest() {
+    return trie.suggest(prefix, limit);
+  }
+
+  private static String toKana(int number) {
+    StringBuilder kana = new StringBuilder();
+    for (char c : String.valueOf(number).toCharArray()) {
+      kana.append((char) ('あ' + (c - '0')));
+    }
+    return kana.toString();
+  }
+}
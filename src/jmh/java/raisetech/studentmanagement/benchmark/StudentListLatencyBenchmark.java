@@ -0,0 +1,76 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import raisetech.studentmanagement.StudentManagementApplication;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.service.StudentBulkService;
+import raisetech.studentmanagement.service.StudentService;
+
+/**
+ * 互いに依存しない検索を順に実行した場合と、仮想スレッドで同時に実行した場合の一覧検索の応答時間を比較するベンチマークです。
+ * H2（MySQLモード）のインメモリデータベースでアプリケーションを起動し、応答時間の分布（p50、p99など）を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StudentListLatencyBenchmark {
+
+  @Param({"10000"})
+  private int studentCount;
+
+  @Param({"false", "true"})
+  private boolean parallelReads;
+
+  private ConfigurableApplicationContext context;
+  private StudentService studentService;
+
+  @Setup
+  public void setup() {
+    context = new SpringApplicationBuilder(StudentManagementApplication.class)
+        .web(WebApplicationType.NONE)
+        .run("--spring.datasource.url=jdbc:h2:mem:list-latency;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.flyway.locations=classpath:db/migration",
+            "--studentmanagement.parallel-reads.enabled=" + parallelReads);
+    studentService = context.getBean(StudentService.class);
+    context.getBean(StudentBulkService.class)
+        .registerStudents(BenchmarkData.create(studentCount).toStudentDetailListWithStatus());
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  /**
+   * 受講生と受講生コース情報を検索して紐づけます。
+   */
+  @Benchmark
+  public List<StudentDetail> searchStudentList() {
+    return studentService.searchStudentList();
+  }
+
+  /**
+   * 受講生コース情報とコース申込状況を検索して紐づけます。
+   */
+  @Benchmark
+  public List<StudentCourse> studentCourseListWithStatus() {
+    return studentService.studentCourseListWithStatus();
+  }
+}
@@ -0,0 +1,92 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.index.StudentNameIndex;
+
+/**
+ * 受講生名の部分一致検索のベンチマークです。
+ * 全受講生の名前・ふりがな・ニックネームを1件ずつ部分一致で確認する方法（LIKE '%...%' の全件走査に相当）と、
+ * StudentNameIndex で絞り込む方法の1回あたりの検索時間を比較します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StudentNameSearchBenchmark {
+
+  private static final String[][] FAMILY_NAMES = {
+      {"鈴木", "すずき"}, {"佐藤", "さとう"}, {"高橋", "たかはし"}, {"田中", "たなか"}, {"伊藤", "いとう"},
+      {"渡辺", "わたなべ"}, {"山本", "やまもと"}, {"中村", "なかむら"}, {"小林", "こばやし"}, {"加藤", "かとう"},
+      {"吉田", "よしだ"}, {"山田", "やまだ"}, {"佐々木", "ささき"}, {"山口", "やまぐち"}, {"松本", "まつもと"},
+      {"井上", "いのうえ"}, {"木村", "きむら"}, {"林", "はやし"}, {"斎藤", "さいとう"}, {"清水", "しみず"}};
+  private static final String[][] GIVEN_NAMES = {
+      {"大介", "だいすけ"}, {"花奈", "かな"}, {"健一", "けんいち"}, {"りお", "りお"}, {"翔太", "しょうた"},
+      {"美咲", "みさき"}, {"拓也", "たくや"}, {"陽菜", "ひな"}, {"大輝", "だいき"}, {"結衣", "ゆい"},
+      {"蓮", "れん"}, {"さくら", "さくら"}, {"悠真", "ゆうま"}, {"葵", "あおい"}, {"湊", "みなと"},
+      {"凛", "りん"}, {"颯太", "そうた"}, {"芽衣", "めい"}, {"陸", "りく"}, {"七海", "ななみ"}};
+
+  @Param({"1000000"})
+  private int studentCount;
+
+  /**
+   * 検索語。多くの受講生に一致する姓、少数に一致する氏名、ふりがなの一部、ニックネームの一部。
+   */
+  @Param({"鈴木", "鈴木大介", "すずきだい", "ニック12345"})
+  private String keyword;
+
+  private List<String[]> texts;
+  private StudentNameIndex studentNameIndex;
+
+  @Setup
+  public void setup() {
+    List<StudentDetail> studentDetailList = new ArrayList<>(studentCount);
+    texts = new ArrayList<>(studentCount);
+    for (int i = 0; i < studentCount; i++) {
+      String[] familyName = FAMILY_NAMES[i % FAMILY_NAMES.length];
+      String[] givenName = GIVEN_NAMES[(i / FAMILY_NAMES.length) % GIVEN_NAMES.length];
+      Student student = new Student();
+      student.setStudentId(String.format("student-%08d", i));
+      student.setName(familyName[0] + givenName[0]);
+      student.setFurigana(familyName[1] + givenName[1]);
+      student.setNickname("ニック" + i);
+      studentDetailList.add(new StudentDetail(student, new ArrayList<>()));
+      texts.add(new String[] {student.getName(), student.getFurigana(), student.getNickname()});
+    }
+    studentNameIndex = new StudentNameIndex();
+    studentNameIndex.rebuild(studentDetailList);
+  }
+
+  /**
+   * 変更前：全受講生を1件ずつ部分一致で確認します。
+   */
+  @Benchmark
+  public List<Integer> linearScan() {
+    List<Integer> matches = new ArrayList<>();
+    for (int i = 0; i < texts.size(); i++) {
+      String[] text = texts.get(i);
+      if (text[0].contains(keyword) || text[1].contains(keyword) || text[2].contains(keyword)) {
+        matches.add(i);
+      }
+    }
+    return matches;
+  }
+
+  /**
+   * 変更後：受講生名インデックスで受講生IDを絞り込みます。
+   */
+  @Benchmark
+  public List<String> nameIndex() {
+    return studentNameIndex.searchStudentIds(keyword);
+  }
+}
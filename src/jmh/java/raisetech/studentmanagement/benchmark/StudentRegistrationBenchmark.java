@@ -0,0 +1,76 @@
+package raisetech.studentmanagement.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import raisetech.studentmanagement.StudentManagementApplication;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
+import raisetech.studentmanagement.service.StudentBulkService;
+import raisetech.studentmanagement.service.StudentService;
+
+/**
+ * 受講生1件ずつの登録（/registerStudent）と一括登録（/registerStudents）のスループットを比較するベンチマークです。
+ * H2（MySQLモード）のインメモリデータベースでアプリケーションを起動し、受講生1人あたりの登録時間を計測します。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(StudentRegistrationBenchmark.STUDENT_COUNT)
+public class StudentRegistrationBenchmark {
+
+  static final int STUDENT_COUNT = 1000;
+
+  @Param({"50", "500"})
+  private int chunkSize;
+
+  private ConfigurableApplicationContext context;
+  private StudentService studentService;
+  private StudentBulkService studentBulkService;
+  private List<StudentDetail> studentDetailList;
+
+  @Setup
+  public void setup() {
+    context = new SpringApplicationBuilder(StudentManagementApplication.class)
+        .web(WebApplicationType.NONE)
+        .run("--spring.datasource.url=jdbc:h2:mem:registration;MODE=MySQL;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.flyway.locations=classpath:db/migration",
+            "--studentmanagement.bulk.chunk-size=" + chunkSize);
+    studentService = context.getBean(StudentService.class);
+    studentBulkService = context.getBean(StudentBulkService.class);
+    // 受講生IDなどは登録のたびに採番し直されるため、同じ受講生詳細を繰り返し登録できる
+    studentDetailList = BenchmarkData.create(STUDENT_COUNT).toStudentDetailListWithStatus();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public void registerOneByOne() {
+    for (StudentDetail studentDetail : studentDetailList) {
+      studentService.registerStudent(studentDetail);
+    }
+  }
+
+  @Benchmark
+  public List<StudentRegistrationResult> registerInBulk() {
+    return studentBulkService.registerStudents(studentDetailList);
+  }
+}
@@ -0,0 +1,65 @@
+package raisetech.studentmanagement.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+
+/**
+ * 受講生詳細のデータのバージョンです。受講生詳細が変更されるたびに1ずつ増えます。
+ * 一覧・詳細検索のETagに使い、変更がなければ同じETagを返します。
+ *
+ * <p>変更前のデータを新しいバージョンで返さないよう、コミット後に更新します。
+ * 再起動後に以前のETagと重ならないよう、ETagには起動した時刻を含めます。
+ */
+@Component
+public class StudentDataVersion {
+
+  private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+  private final AtomicLong version = new AtomicLong();
+
+  /**
+   * 現在のバージョンを返します。
+   *
+   * @return バージョン
+   */
+  public long current() {
+    return version.get();
+  }
+
+  /**
+   * 現在のバージョンを表す強いETag（引用符付き）を返します。
+   * 検索する前に取得し、検索した結果と一緒に返します。
+   *
+   * @return ETag
+   */
+  public String etag() {
+    return etag(version.get(), null);
+  }
+
+  /**
+   * 指定したバージョンの強いETag（引用符付き）を返します。
+   * 同じデータでも圧縮したものは別の表現になるため、variantに圧縮形式を指定して区別します。
+   *
+   * @param version バージョン
+   * @param variant 表現の種類（gzipなど）。圧縮していない場合はnull
+   * @return ETag
+   */
+  public String etag(long version, String variant) {
+    return "\"" + epoch + "-" + version + (variant == null ? "" : "-" + variant) + "\"";
+  }
+
+  /**
+   * 受講生詳細が変更されたときにバージョンを上げます。
+   * 読み込み中にコミットされた受講生詳細をキャッシュに残さないよう（{@link StudentDetailCache}）、キャッシュの破棄より先に処理します。
+   *
+   * @param event 受講生詳細の変更イベント
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    version.incrementAndGet();
+  }
+}
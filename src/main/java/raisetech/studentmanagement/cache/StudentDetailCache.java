@@ -0,0 +1,56 @@
+package raisetech.studentmanagement.cache;
+
+import java.util.function.Supplier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細を受講生IDごとにキャッシュするクラスです。
+ * キャッシュにない場合は読み込んで登録しますが、読み込み中に別のトランザクションがコミットした場合は登録しません。
+ *
+ * <p>読み込みを始める前のデータのバージョンを覚えておき、登録した後にバージョンが変わっていれば登録したものを破棄します。
+ * バージョンはキャッシュの破棄より先に上がるため（{@link StudentDataVersion#onStudentChanged}）、
+ * コミット前に読み込んだ古い受講生詳細が、コミット後の破棄の後に登録されたまま残ることはありません。
+ * バージョンは他の受講生の変更でも上がるため、その場合も登録せず、次の検索で読み込み直します。
+ */
+@Component
+public class StudentDetailCache {
+
+  private final CacheManager cacheManager;
+  private final StudentDataVersion dataVersion;
+
+  public StudentDetailCache(CacheManager cacheManager, StudentDataVersion dataVersion) {
+    this.cacheManager = cacheManager;
+    this.dataVersion = dataVersion;
+  }
+
+  /**
+   * キャッシュから受講生詳細を返します。キャッシュにない場合は読み込んで登録します。
+   *
+   * @param cacheName キャッシュ名
+   * @param studentId 受講生ID
+   * @param loader 受講生詳細を読み込む処理
+   * @return 受講生詳細
+   */
+  public StudentDetail get(String cacheName, String studentId, Supplier<StudentDetail> loader) {
+    Cache cache = cacheManager.getCache(cacheName);
+    StudentDetail cached = cache.get(studentId, StudentDetail.class);
+    if (cached != null) {
+      return cached;
+    }
+
+    long version = dataVersion.current();
+    StudentDetail loaded = loader.get();
+    if (loaded == null || dataVersion.current() != version) {
+      return loaded;
+    }
+    cache.put(studentId, loaded);
+    if (dataVersion.current() != version) {
+      // 登録する直前にコミットされ、破棄が登録より先に行われた可能性がある
+      cache.evict(studentId);
+    }
+    return loaded;
+  }
+}
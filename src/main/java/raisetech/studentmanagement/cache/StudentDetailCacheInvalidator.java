@@ -0,0 +1,38 @@
+package raisetech.studentmanagement.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentmanagement.config.CacheConfig;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+
+/**
+ * 受講生詳細が変更されたときに、該当する受講生のキャッシュだけを破棄するクラスです。
+ * ロールバックされた変更でキャッシュを破棄しないよう、コミット後に処理します。
+ */
+@Component
+public class StudentDetailCacheInvalidator {
+
+  private final CacheManager cacheManager;
+
+  public StudentDetailCacheInvalidator(CacheManager cacheManager) {
+    this.cacheManager = cacheManager;
+  }
+
+  /**
+   * 変更された受講生のキャッシュを破棄します。
+   *
+   * @param event 受講生詳細の変更イベント
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    Cache studentDetailCache = cacheManager.getCache(CacheConfig.STUDENT_DETAIL);
+    Cache studentDetailWithStatusCache = cacheManager.getCache(CacheConfig.STUDENT_DETAIL_WITH_STATUS);
+
+    for (String studentId : event.getStudentIds()) {
+      studentDetailCache.evict(studentId);
+      studentDetailWithStatusCache.evict(studentId);
+    }
+  }
+}
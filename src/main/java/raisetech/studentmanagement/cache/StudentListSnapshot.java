@@ -0,0 +1,84 @@
+package raisetech.studentmanagement.cache;
+
+import java.util.Locale;
+
+/**
+ * コース申込状況を含む受講生詳細一覧（全件）をJSONに変換したバイト列と、それを圧縮したバイト列です。
+ *
+ * @param version 作成した時点の受講生詳細のデータのバージョン
+ * @param json JSON
+ * @param gzip gzipで圧縮したJSON
+ * @param deflate deflate（zlib形式）で圧縮したJSON
+ */
+public record StudentListSnapshot(long version, byte[] json, byte[] gzip, byte[] deflate) {
+
+  /**
+   * 保持しているバイト数の合計を返します。
+   *
+   * @return バイト数
+   */
+  public long size() {
+    return (long) json.length + gzip.length + deflate.length;
+  }
+
+  /**
+   * Accept-Encodingに合わせて返すバイト列を選びます。gzip、deflate、圧縮なしの順に優先します。
+   *
+   * @param acceptEncoding リクエストのAccept-Encoding（nullの場合は圧縮しない）
+   * @return 返すバイト列とContent-Encoding
+   */
+  public Encoded encode(String acceptEncoding) {
+    if (accepts(acceptEncoding, "gzip")) {
+      return new Encoded("gzip", gzip);
+    }
+    if (accepts(acceptEncoding, "deflate")) {
+      return new Encoded("deflate", deflate);
+    }
+    return new Encoded(null, json);
+  }
+
+  /**
+   * Accept-Encodingが指定した圧縮形式を受け付けるかどうかを判定します。
+   * q=0の形式は受け付けないものとして扱い、形式を名前で指定している場合は「*」より優先します。
+   */
+  static boolean accepts(String acceptEncoding, String coding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+    Boolean wildcard = null;
+    for (String element : acceptEncoding.split(",")) {
+      String[] parts = element.split(";");
+      String name = parts[0].trim().toLowerCase(Locale.ROOT);
+      if (name.equals(coding)) {
+        return !isZeroQuality(parts);
+      }
+      if (name.equals("*")) {
+        wildcard = !isZeroQuality(parts);
+      }
+    }
+    return Boolean.TRUE.equals(wildcard);
+  }
+
+  private static boolean isZeroQuality(String[] parts) {
+    for (int i = 1; i < parts.length; i++) {
+      String parameter = parts[i].trim();
+      if (parameter.startsWith("q=")) {
+        try {
+          return Double.parseDouble(parameter.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 返すバイト列です。
+   *
+   * @param contentEncoding Content-Encoding（圧縮していない場合はnull）
+   * @param body バイト列
+   */
+  public record Encoded(String contentEncoding, byte[] body) {
+  }
+}
@@ -0,0 +1,259 @@
+package raisetech.studentmanagement.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+/**
+ * コース申込状況を含む受講生詳細一覧（全件）を、JSONに変換・圧縮した状態で保持するクラスです。
+ * 一覧検索ではこのバイト列をそのまま返し、検索・変換・圧縮を省きます。
+ *
+ * <p>起動後と受講生詳細が変更されたコミット後に、別スレッドで作り直します。
+ * 変更が続いた場合も作り直すのはdebounceの間に1回だけです。
+ * 作り直すまでの間は古い一覧を返しますが、最初の変更からmax-stalenessを過ぎても作り直せていない場合や、
+ * 一覧がmax-bytesより大きい場合は {@link #getSnapshot()} がnullを返し、通常どおり検索します。
+ *
+ * <p>JSONへの変換と圧縮は書き込んだバイト数を数えながら行い、max-bytesを超えた時点でやめます。
+ * 上限を超えた後は、変更があってもoversize-backoffの間は作り直さず、過ぎてから1回だけ作り直します。
+ */
+@Component
+public class StudentListSnapshotCache {
+
+  private static final Logger logger = LoggerFactory.getLogger(StudentListSnapshotCache.class);
+
+  private static final long NOT_STALE = -1;
+
+  private static final long NOT_OVERSIZED = -1;
+
+  private final StudentRepository repository;
+  private final ObjectMapper objectMapper;
+  private final StudentDataVersion dataVersion;
+  private final boolean enabled;
+  private final Duration debounce;
+  private final Duration maxStaleness;
+  private final long maxBytes;
+  private final Duration oversizeBackoff;
+  private final ScheduledExecutorService scheduler;
+
+  private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+  private final AtomicLong staleSinceNanos = new AtomicLong(NOT_STALE);
+  private volatile StudentListSnapshot snapshot;
+  private volatile long oversizedSinceNanos = NOT_OVERSIZED;
+
+  /**
+   * コンストラクタ
+   *
+   * @param repository 受講生リポジトリ
+   * @param objectMapper 受講生詳細をJSONに変換するObjectMapper
+   * @param dataVersion 受講生詳細のデータのバージョン
+   * @param enabled 一覧を保持するかどうか
+   * @param debounce 変更されてから作り直すまでの待ち時間。この間の変更はまとめて反映する
+   * @param maxStaleness 作り直すまでの間に古い一覧を返してよい時間
+   * @param maxBytes 保持するバイト数（JSONと圧縮したものの合計）の上限
+   * @param oversizeBackoff 上限を超えた後に作り直さない時間
+   */
+  @Autowired
+  public StudentListSnapshotCache(StudentRepository repository, ObjectMapper objectMapper,
+      StudentDataVersion dataVersion,
+      @Value("${studentmanagement.snapshot.student-list.enabled:true}") boolean enabled,
+      @Value("${studentmanagement.snapshot.student-list.debounce:1s}") Duration debounce,
+      @Value("${studentmanagement.snapshot.student-list.max-staleness:10s}") Duration maxStaleness,
+      @Value("${studentmanagement.snapshot.student-list.max-bytes:64MB}") DataSize maxBytes,
+      @Value("${studentmanagement.snapshot.student-list.oversize-backoff:10m}") Duration oversizeBackoff) {
+    this.repository = repository;
+    this.objectMapper = objectMapper;
+    this.dataVersion = dataVersion;
+    this.enabled = enabled;
+    this.debounce = debounce;
+    this.maxStaleness = maxStaleness;
+    this.maxBytes = maxBytes.toBytes();
+    this.oversizeBackoff = oversizeBackoff;
+    this.scheduler = enabled
+        ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("student-list-snapshot").daemon().factory())
+        : null;
+  }
+
+  /**
+   * 返してよい一覧を返します。
+   *
+   * @return 一覧。作成前、古すぎる場合、上限を超えて保持していない場合はnull
+   */
+  public StudentListSnapshot getSnapshot() {
+    StudentListSnapshot current = snapshot;
+    if (current == null || current.version() == dataVersion.current()) {
+      return current;
+    }
+    long staleSince = staleSinceNanos.get();
+    if (staleSince == NOT_STALE || System.nanoTime() - staleSince >= maxStaleness.toNanos()) {
+      return null;
+    }
+    return current;
+  }
+
+  /**
+   * アプリケーションの起動後に、一覧を作成します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void onApplicationReady() {
+    scheduleRebuild(Duration.ZERO);
+  }
+
+  /**
+   * 受講生詳細が変更されたときに、一覧を作り直す予約をします。
+   *
+   * @param event 受講生詳細の変更イベント
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    staleSinceNanos.compareAndSet(NOT_STALE, System.nanoTime());
+    scheduleRebuild(debounce);
+  }
+
+  /**
+   * 一覧を作り直します。作り直している間の変更は、次に作り直すときに反映します。
+   * 上限を超えた後の待ち時間の間は作り直さず、待ち時間が過ぎたときに作り直す予約だけをします。
+   */
+  void rebuild() {
+    rebuildScheduled.set(false);
+    long oversizedSince = oversizedSinceNanos;
+    if (oversizedSince != NOT_OVERSIZED) {
+      long remainingNanos = oversizedSince + oversizeBackoff.toNanos() - System.nanoTime();
+      if (remainingNanos > 0) {
+        scheduleRebuild(Duration.ofNanos(remainingNanos));
+        return;
+      }
+    }
+
+    long start = System.nanoTime();
+    // 変更前の一覧に新しいバージョンを付けないよう、検索する前にバージョンを取得する
+    long version = dataVersion.current();
+    try {
+      List<StudentDetail> studentDetailList = repository.searchStudentDetailListWithStatus();
+      StudentListSnapshot rebuilt;
+      try {
+        byte[] json = toJson(studentDetailList, maxBytes);
+        byte[] gzip = compress(json, GZIPOutputStream::new, maxBytes - json.length);
+        byte[] deflate = compress(json, DeflaterOutputStream::new, maxBytes - json.length - gzip.length);
+        rebuilt = new StudentListSnapshot(version, json, gzip, deflate);
+      } catch (SnapshotTooLargeException e) {
+        discard(studentDetailList.size());
+        return;
+      }
+      snapshot = rebuilt;
+      oversizedSinceNanos = NOT_OVERSIZED;
+      if (version == dataVersion.current()) {
+        staleSinceNanos.set(NOT_STALE);
+      }
+      logger.info("受講生一覧のスナップショットを作成しました（{}件、{}バイト、{}ms）", studentDetailList.size(),
+          rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    } catch (IOException | RuntimeException e) {
+      logger.warn("受講生一覧のスナップショットを作成できませんでした", e);
+    }
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (scheduler != null) {
+      scheduler.shutdownNow();
+    }
+  }
+
+  private void scheduleRebuild(Duration delay) {
+    if (enabled && rebuildScheduled.compareAndSet(false, true)) {
+      scheduler.schedule(this::rebuild, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+  }
+
+  private void discard(int studentCount) {
+    snapshot = null;
+    oversizedSinceNanos = System.nanoTime();
+    logger.warn("受講生一覧のスナップショットを保持しません。JSONと圧縮したものの合計が上限を超えています"
+        + "（{}件、上限 {}バイト）。{}の間は作り直しません", studentCount, maxBytes, oversizeBackoff);
+  }
+
+  private byte[] toJson(List<StudentDetail> studentDetailList, long limit) throws IOException {
+    CappedOutputStream json = new CappedOutputStream(limit);
+    objectMapper.writeValue(json, studentDetailList);
+    return json.toByteArray();
+  }
+
+  private static byte[] compress(byte[] json, CompressorFactory compressorFactory, long limit) throws IOException {
+    CappedOutputStream compressed = new CappedOutputStream(limit);
+    try (OutputStream compressor = compressorFactory.create(compressed)) {
+      compressor.write(json);
+    }
+    return compressed.toByteArray();
+  }
+
+  @FunctionalInterface
+  private interface CompressorFactory {
+
+    OutputStream create(OutputStream outputStream) throws IOException;
+  }
+
+  /**
+   * 書き込んだバイト数を数え、上限を超える書き込みの時点で {@link SnapshotTooLargeException} を投げる出力先です。
+   * 一覧全体を書き出してから大きさを確認するのではなく、上限を超えた時点で変換や圧縮をやめるために使います。
+   */
+  private static final class CappedOutputStream extends OutputStream {
+
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    private final long limit;
+
+    CappedOutputStream(long limit) {
+      this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      ensureCapacity(1);
+      buffer.write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      ensureCapacity(len);
+      buffer.write(b, off, len);
+    }
+
+    byte[] toByteArray() {
+      return buffer.toByteArray();
+    }
+
+    private void ensureCapacity(int len) throws SnapshotTooLargeException {
+      if (buffer.size() + (long) len > limit) {
+        throw new SnapshotTooLargeException();
+      }
+    }
+  }
+
+  /**
+   * 一覧が上限を超えたことを表す例外です。JSONへの変換中にも投げるため、Jacksonがそのまま伝える {@link IOException} にしています。
+   */
+  private static final class SnapshotTooLargeException extends IOException {
+  }
+
+}
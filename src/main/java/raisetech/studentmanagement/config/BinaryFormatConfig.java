@@ -0,0 +1,46 @@
+package raisetech.studentmanagement.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * JSONのほかに、バイナリ形式のCBOR（application/cbor）とSmile（application/x-jackson-smile）でも
+ * リクエスト・レスポンスを読み書きできるようにする設定です。どちらの形式もAcceptで指定した場合だけ使い、既定はJSONのままです。
+ * JSONと同じ設定（日付は文字列、受講生詳細のシリアライザーなど）のObjectMapperで変換します。
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+  /**
+   * Smileのメディアタイプです。
+   */
+  public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+  /**
+   * CBORのメッセージコンバーターです。
+   *
+   * @param builder Spring Bootの設定を適用したObjectMapperのビルダー
+   * @return メッセージコンバーター
+   */
+  @Bean
+  public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+  }
+
+  /**
+   * Smileのメッセージコンバーターです。
+   *
+   * @param builder Spring Bootの設定を適用したObjectMapperのビルダー
+   * @return メッセージコンバーター
+   */
+  @Bean
+  public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+    return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+  }
+}
@@ -0,0 +1,67 @@
+package raisetech.studentmanagement.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細のキャッシュ設定です。
+ * Caffeine（W-TinyLFU）で、受講生コース情報の件数に応じた重みとTTLでキャッシュの量を制限します。
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+  /**
+   * 受講生詳細（受講生情報+受講生コース情報）のキャッシュ名です。
+   */
+  public static final String STUDENT_DETAIL = "studentDetail";
+
+  /**
+   * コース申込状況を含む受講生詳細のキャッシュ名です。
+   */
+  public static final String STUDENT_DETAIL_WITH_STATUS = "studentDetailWithStatus";
+
+  /**
+   * 受講生詳細のキャッシュマネージャーです。
+   * 統計情報を記録するため、ヒット・ミス・追い出しの件数はActuatorのメトリクス（cache.gets / cache.evictions）で確認できます。
+   *
+   * @param maximumWeight キャッシュ全体の重みの上限（受講生1人=1、受講生コース情報1件=1として数える）
+   * @param timeToLive キャッシュに登録してから破棄するまでの時間
+   * @return キャッシュマネージャー
+   */
+  @Bean
+  public CacheManager cacheManager(
+      @Value("${studentmanagement.cache.student-detail.maximum-weight:100000}") long maximumWeight,
+      @Value("${studentmanagement.cache.student-detail.time-to-live:10m}") Duration timeToLive) {
+    CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+    cacheManager.setCaffeine(Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .weigher((key, value) -> weigh(value))
+        .expireAfterWrite(timeToLive)
+        .recordStats());
+    cacheManager.setAllowNullValues(false);
+    cacheManager.setCacheNames(List.of(STUDENT_DETAIL, STUDENT_DETAIL_WITH_STATUS));
+    return cacheManager;
+  }
+
+  /**
+   * キャッシュする値の重みを計算します。受講生コース情報が多い受講生詳細ほど重くなります。
+   *
+   * @param value キャッシュする値
+   * @return 重み
+   */
+  private static int weigh(Object value) {
+    if (value instanceof StudentDetail studentDetail && studentDetail.getStudentCourseList() != null) {
+      return 1 + studentDetail.getStudentCourseList().size();
+    }
+    return 1;
+  }
+}
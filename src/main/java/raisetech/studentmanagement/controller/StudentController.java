@@ -1,26 +1,63 @@
 package raisetech.studentmanagement.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Size;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import raisetech.studentmanagement.cache.StudentDataVersion;
+import raisetech.studentmanagement.cache.StudentListSnapshot;
+import raisetech.studentmanagement.cache.StudentListSnapshotCache;
+import raisetech.studentmanagement.config.BinaryFormatConfig;
 import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentCourseStatusTransition;
+import raisetech.studentmanagement.domain.StudentCourseStatusTransitionResult;
+import raisetech.studentmanagement.domain.StudentCsvImportResult;
 import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.domain.StudentPage;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
+import raisetech.studentmanagement.domain.StudentStatistics;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+import raisetech.studentmanagement.service.StudentBulkService;
+import raisetech.studentmanagement.service.StudentCsvService;
 import raisetech.studentmanagement.service.StudentService;
 
 /**
@@ -30,32 +67,134 @@ import raisetech.studentmanagement.service.StudentService;
 @RestController
 public class StudentController {
 
+  /**
+   * NDJSON（改行区切りJSON）のメディアタイプです。
+   */
+  private static final String NDJSON_VALUE = "application/x-ndjson";
+
+  /**
+   * CSVのメディアタイプです。
+   */
+  private static final String CSV_VALUE = "text/csv";
+
+  /**
+   * 一覧・詳細検索で返せる形式です。Acceptに一致する形式がない場合は406 Not Acceptableになります。
+   */
+  private static final List<MediaType> PRODUCIBLE_MEDIA_TYPES =
+      List.of(MediaType.APPLICATION_JSON, MediaType.APPLICATION_CBOR, BinaryFormatConfig.APPLICATION_SMILE);
+
   private final StudentService service;
+  private final StudentBulkService bulkService;
+  private final StudentCsvService csvService;
+  private final ObjectMapper objectMapper;
+  private final StudentDataVersion dataVersion;
+  private final StudentListSnapshotCache studentListSnapshotCache;
+  private final ContentNegotiationManager contentNegotiationManager;
+  private final boolean unpagedByDefault;
+  private final int defaultPageLimit;
 
   /**
    * コンストラクタ
    *
    * @param service 受講生サービス
+   * @param bulkService 受講生の一括登録サービス
+   * @param csvService 受講生詳細のCSVの出力・取り込みサービス
+   * @param objectMapper ストリーミング出力で受講生詳細をJSONに変換するObjectMapper
+   * @param dataVersion 一覧・詳細検索のETagに使う受講生詳細のデータのバージョン
+   * @param studentListSnapshotCache JSONに変換・圧縮して保持しているコース申込状況を含む受講生詳細一覧
+   * @param contentNegotiationManager レスポンスの形式をAcceptから決めるSpring MVCのコンテンツネゴシエーション
+   * @param unpagedByDefault limitとcursorが指定されなかった一覧検索で、従来どおり全件を返すかどうか
+   * @param defaultPageLimit limitが指定されなかったページ検索の1ページの件数
    */
   @Autowired
-  public StudentController(StudentService service) {
+  public StudentController(StudentService service, StudentBulkService bulkService, StudentCsvService csvService,
+      ObjectMapper objectMapper,
+      StudentDataVersion dataVersion, StudentListSnapshotCache studentListSnapshotCache,
+      ContentNegotiationManager contentNegotiationManager,
+      @Value("${studentmanagement.paging.unpaged-by-default:true}") boolean unpagedByDefault,
+      @Value("${studentmanagement.paging.default-limit:100}") int defaultPageLimit) {
     this.service = service;
+    this.bulkService = bulkService;
+    this.csvService = csvService;
+    this.objectMapper = objectMapper;
+    this.dataVersion = dataVersion;
+    this.studentListSnapshotCache = studentListSnapshotCache;
+    this.contentNegotiationManager = contentNegotiationManager;
+    this.unpagedByDefault = unpagedByDefault;
+    this.defaultPageLimit = defaultPageLimit;
   }
 
   /**
    * 受講生詳細の一覧検索です。
+   * limitかcursorを指定した場合は受講生ID順のページ検索を行い、次のページのカーソルを含めて返します。
+   * If-None-MatchのETagが現在のデータのバージョンと一致する場合は、検索せずに304 Not Modifiedを返します。
    *
-   * @return 受講生詳細一覧（全件）。
+   * @param limit 1ページの件数
+   * @param cursor 前のページで返されたカーソル
+   * @param webRequest ETagを確認するリクエスト
+   * @return 受講生詳細一覧（全件）、または受講生詳細一覧（1ページ分）。
    */
   @Operation(
       summary = "受講生の一覧検索",
-      description = "受講生の一覧を検索します。",
+      description = "受講生の一覧を検索します。limitかcursorを指定した場合はページ単位で検索します。",
       tags = {"student-controller" },
-      operationId = "searchStudentList"
+      operationId = "searchStudentList",
+      parameters = {
+          @Parameter(name = "limit", description = "1ページの件数（1〜1000）", in = ParameterIn.QUERY),
+          @Parameter(name = "cursor", description = "前のページで返された次ページのカーソル", in = ParameterIn.QUERY)
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "受講生詳細一覧（全件）、またはlimitかcursorを指定した場合は受講生詳細一覧（1ページ分）と次ページのカーソル",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(oneOf = {StudentDetail[].class, StudentPage.class})
+              )
+          ),
+          @ApiResponse(responseCode = "304", description = "If-None-MatchのETagが現在のデータのバージョンと一致する場合")
+      }
   )
   @GetMapping("/studentList")
-  public List<StudentDetail> getStudentList() {
-    return service.searchStudentList();
+  public ResponseEntity<?> getStudentList(
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String cursor,
+      WebRequest webRequest) {
+    String etag = currentEtag(webRequest);
+    if (isNotModified(webRequest, etag)) {
+      return notModified(etag);
+    }
+    if (isUnpagedRequest(limit, cursor)) {
+      return ResponseEntity.ok().eTag(etag).body(service.searchStudentList());
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.searchStudentPage(cursor, pageLimit(limit)));
+  }
+
+  /**
+   * 受講生詳細の全件をNDJSON（1行に1件のJSON）で順次出力します。
+   * 受講生詳細をデータベースから1件読み込むごとに書き出すため、件数が増えてもメモリ使用量は一定です。
+   *
+   * @return 受講生詳細一覧（全件）を1件ずつ書き出すレスポンス。
+   */
+  @Operation(
+      summary = "受講生の一覧のストリーミング出力",
+      description = "受講生の一覧をNDJSON形式（1行に1件）で順次出力します。",
+      tags = {"student-controller" },
+      operationId = "streamStudentList"
+  )
+  @GetMapping(value = "/studentList/stream", produces = NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> streamStudentList() {
+    StreamingResponseBody body = outputStream -> {
+      try {
+        service.streamStudentList(studentDetail -> writeLine(outputStream, studentDetail));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+      outputStream.flush();
+    };
+    return ResponseEntity.ok()
+        .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+        .body(body);
   }
 
   /**
@@ -76,17 +215,56 @@ public class StudentController {
 
   /**
    * コース申込状況を含む受講生詳細の一覧検索です。
+   * limitかcursorを指定した場合は受講生ID順のページ検索を行い、次のページのカーソルを含めて返します。
+   * 全件をJSONで返す場合は、JSONに変換・圧縮して保持している一覧があればそのまま返します。
+   * If-None-MatchのETagが現在のデータのバージョンと一致する場合は、検索せずに304 Not Modifiedを返します。
    *
-   * @return コース申込状況を含む受講生詳細一覧（全件）。
+   * @param limit 1ページの件数
+   * @param cursor 前のページで返されたカーソル
+   * @param webRequest ETagを確認するリクエスト
+   * @return コース申込状況を含む受講生詳細一覧（全件）、または受講生詳細一覧（1ページ分）。
    */
   @Operation(
       summary = "コース申込状況を含む受講生の一覧検索",
-      description = "コース申込状況を含む受講生の一覧を検索します。",
+      description = "コース申込状況を含む受講生の一覧を検索します。limitかcursorを指定した場合はページ単位で検索します。",
       tags = {"student-controller" },
-      operationId = "searchStudentListWithStatus"
+      operationId = "searchStudentListWithStatus",
+      parameters = {
+          @Parameter(name = "limit", description = "1ページの件数（1〜1000）", in = ParameterIn.QUERY),
+          @Parameter(name = "cursor", description = "前のページで返された次ページのカーソル", in = ParameterIn.QUERY)
+      },
+      responses = {
+          @ApiResponse(
+              responseCode = "200",
+              description = "コース申込状況を含む受講生詳細一覧（全件）、またはlimitかcursorを指定した場合は受講生詳細一覧（1ページ分）と次ページのカーソル",
+              content = @Content(
+                  mediaType = "application/json",
+                  schema = @Schema(oneOf = {StudentDetail[].class, StudentPage.class})
+              )
+          ),
+          @ApiResponse(responseCode = "304", description = "If-None-MatchのETagが現在のデータのバージョンと一致する場合")
+      }
   )
   @GetMapping("/studentListWithStatus")
-  public List<StudentDetail> getStudentListWithStatus() { return service.searchStudentListWithStatus(); }
+  public ResponseEntity<?> getStudentListWithStatus(
+      @RequestParam(required = false) Integer limit,
+      @RequestParam(required = false) String cursor,
+      WebRequest webRequest) {
+    if (isUnpagedRequest(limit, cursor) && isJson(negotiatedMediaType(webRequest))) {
+      StudentListSnapshot snapshot = studentListSnapshotCache.getSnapshot();
+      if (snapshot != null) {
+        return snapshotResponse(snapshot, webRequest);
+      }
+    }
+    String etag = currentEtag(webRequest);
+    if (isNotModified(webRequest, etag)) {
+      return notModified(etag);
+    }
+    if (isUnpagedRequest(limit, cursor)) {
+      return ResponseEntity.ok().eTag(etag).body(service.searchStudentListWithStatus());
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.searchStudentPageWithStatus(cursor, pageLimit(limit)));
+  }
 
   /**
    * コース申込状況を含む受講生詳細の条件検索です。
@@ -104,10 +282,102 @@ public class StudentController {
     return service.searchStudentListWithStatusByCondition(studentSearchCondition);
   }
 
+  /**
+   * コース申込状況を含む受講生詳細の絞り込み検索です。
+   * 地域・性別・年齢・コース名・申込状況の条件を、AND/OR/NOTで自由に組み合わせて検索します。
+   *
+   * @param studentFilter 絞り込み条件
+   * @return コース申込状況を含む受講生詳細一覧（絞り込み検索）。
+   */
+  @Operation(
+      summary = "コース申込状況を含む受講生の絞り込み検索",
+      description = "AND/OR/NOTを組み合わせた条件で、コース申込状況を含む受講生の一覧を検索します。",
+      tags = {"student-controller" },
+      operationId = "searchStudentListWithStatusByFilter"
+  )
+  @PostMapping("/studentListWithStatus/filter")
+  public List<StudentDetail> getStudentListWithStatusByFilter(@RequestBody StudentFilter studentFilter) {
+    return service.searchStudentListWithStatusByFilter(studentFilter);
+  }
+
+  /**
+   * 受講生の集計です。地域・性別・コース名・申込状況ごとの件数を返します。
+   *
+   * @param webRequest Varyを設定するリクエスト
+   * @return 受講生の集計
+   */
+  @Operation(
+      summary = "受講生の集計",
+      description = "受講生数と、地域・性別・コース名・申込状況ごとの件数を返します。",
+      tags = {"student-controller" },
+      operationId = "getStudentStatistics"
+  )
+  @GetMapping("/stats")
+  public StudentStatistics getStudentStatistics(WebRequest webRequest) {
+    vary(webRequest, HttpHeaders.ACCEPT);
+    return service.getStudentStatistics();
+  }
+
+  /**
+   * 受講生の集計のうち、指定した項目の値ごとの件数を返します。
+   *
+   * @param facet 集計する項目
+   * @param webRequest Varyを設定するリクエスト
+   * @return 値ごとの件数
+   */
+  @Operation(
+      summary = "項目ごとの受講生の集計",
+      description = "指定した項目（city, gender, course, status）の値ごとの件数を返します。",
+      tags = {"student-controller" },
+      operationId = "getStudentStatisticsByFacet",
+      parameters = {
+          @Parameter(
+              name = "facet",
+              description = "集計する項目（city, gender, course, status）",
+              required = true,
+              in = ParameterIn.PATH
+          )
+      }
+  )
+  @GetMapping("/stats/{facet}")
+  public Map<String, Long> getStudentStatisticsByFacet(@PathVariable String facet, WebRequest webRequest) {
+    vary(webRequest, HttpHeaders.ACCEPT);
+    return service.getStudentStatistics(facet);
+  }
+
+  /**
+   * ふりがなの入力補完です。ふりがなが指定した文字列で始まる受講生を、ふりがなの五十音順に返します。
+   *
+   * @param prefix ふりがなの先頭部分
+   * @param limit 最大件数
+   * @param webRequest Varyを設定するリクエスト
+   * @return 受講生の候補
+   */
+  @Operation(
+      summary = "ふりがなの入力補完",
+      description = "ふりがなが指定した文字列で始まる受講生を、ふりがなの五十音順に返します。",
+      tags = {"student-controller" },
+      operationId = "suggestStudents",
+      parameters = {
+          @Parameter(name = "prefix", description = "ふりがなの先頭部分", required = true, in = ParameterIn.QUERY),
+          @Parameter(name = "limit", description = "最大件数（1〜100）", in = ParameterIn.QUERY)
+      }
+  )
+  @GetMapping("/students/suggest")
+  public List<StudentSuggestion> suggestStudents(
+      @RequestParam(required = false) String prefix,
+      @RequestParam(defaultValue = "10") int limit,
+      WebRequest webRequest) {
+    vary(webRequest, HttpHeaders.ACCEPT);
+    return service.suggestStudents(prefix, limit);
+  }
+
   /**
    * 受講生詳細検索です。 IDに紐づく任意の受講生情報を取得します。
+   * ETagが現在のデータのバージョンと一致する場合は、検索せずに304 Not Modifiedを返します。
    *
    * @param studentId 受講生ID
+   * @param webRequest ETagを確認するリクエスト
    * @return 受講生詳細
    */
   @Operation(
@@ -125,15 +395,21 @@ public class StudentController {
       }
   )
   @GetMapping("/student/{studentId}")
-  public StudentDetail getStudent(
-      @PathVariable @Size(min = 1, max = 36) String studentId) {
-    return service.searchStudentById(studentId);
+  public ResponseEntity<StudentDetail> getStudent(
+      @PathVariable @Size(min = 1, max = 36) String studentId, WebRequest webRequest) {
+    String etag = currentEtag(webRequest);
+    if (isNotModified(webRequest, etag)) {
+      return notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.searchStudentById(studentId));
   }
 
   /**
    * コース申込状況を含む受講生詳細検索です。 IDに紐づく任意の受講生詳細情報を取得します。
+   * ETagが現在のデータのバージョンと一致する場合は、検索せずに304 Not Modifiedを返します。
    *
    * @param studentId 受講生ID
+   * @param webRequest ETagを確認するリクエスト
    * @return 受講生詳細
    */
   @Operation(
@@ -151,9 +427,13 @@ public class StudentController {
       }
   )
   @GetMapping("/studentWithCourseStatus/{studentId}")
-  public StudentDetail getStudentWithCourseStatus(
-      @PathVariable @Size(min = 1, max = 36) String studentId) {
-    return service.searchStudentByIdWithStatus(studentId);
+  public ResponseEntity<StudentDetail> getStudentWithCourseStatus(
+      @PathVariable @Size(min = 1, max = 36) String studentId, WebRequest webRequest) {
+    String etag = currentEtag(webRequest);
+    if (isNotModified(webRequest, etag)) {
+      return notModified(etag);
+    }
+    return ResponseEntity.ok().eTag(etag).body(service.searchStudentByIdWithStatus(studentId));
   }
 
   /**
@@ -183,6 +463,83 @@ public class StudentController {
     return ResponseEntity.ok(responseStudentDetail);
   }
 
+  /**
+   * 受講生詳細の一括登録を行います。
+   * 受講生詳細を1件ずつ検証し、検証に成功したものをまとめて登録します。
+   * 一部の受講生詳細の登録に失敗しても、他の受講生詳細は登録されます。
+   *
+   * @param studentDetailList 受講生詳細の一覧
+   * @return リクエストの順番に並んだ1件ごとの登録結果
+   */
+  @Operation(
+      summary = "受講生の一括登録",
+      description = "複数の受講生をまとめて登録し、1件ごとの登録結果を返します。",
+      tags = {"student-controller" },
+      operationId = "registerStudents",
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "登録したい受講生詳細情報の一覧",
+          required = true,
+          content = @Content(
+              mediaType = "application/json",
+              array = @ArraySchema(schema = @Schema(implementation = StudentDetail.class))
+          )
+      )
+  )
+  @PostMapping("/registerStudents")
+  public ResponseEntity<List<StudentRegistrationResult>> registerStudents(
+      @RequestBody List<StudentDetail> studentDetailList) {
+    return ResponseEntity.ok(bulkService.registerStudents(studentDetailList));
+  }
+
+  /**
+   * コース申込状況を含む受講生詳細の全件をCSVで順次出力します。
+   * 受講生詳細をデータベースから1件読み込むごとに書き出すため、件数が増えてもメモリ使用量は一定です。
+   *
+   * @return 受講生のコース1件につき1行のCSVを書き出すレスポンス。
+   */
+  @Operation(
+      summary = "受講生のCSV出力",
+      description = "コース申込状況を含む受講生の一覧を、コース1件につき1行のCSV（UTF-8、BOM付き）で順次出力します。",
+      tags = {"student-controller" },
+      operationId = "exportStudentsCsv"
+  )
+  @GetMapping(value = "/export/students.csv", produces = CSV_VALUE)
+  public ResponseEntity<StreamingResponseBody> exportStudentsCsv() {
+    StreamingResponseBody body = outputStream -> {
+      csvService.exportStudents(outputStream);
+      outputStream.flush();
+    };
+    return ResponseEntity.ok()
+        .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+        .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename("students.csv").build().toString())
+        .body(body);
+  }
+
+  /**
+   * CSVを1行ずつ読み込み、受講生詳細を登録します。
+   * 受講生ごとに一括登録と同じ検証を行い、検証に成功したものをチャンクごとにまとめて登録します。
+   * 一部の受講生の登録に失敗しても、他の受講生は登録されます。
+   *
+   * @param inputStream リクエストボディのCSV（UTF-8）
+   * @return 登録した人数と、登録できなかった行の行番号・理由
+   * @throws IOException リクエストボディの読み込みに失敗した場合
+   */
+  @Operation(
+      summary = "受講生のCSV取り込み",
+      description = "CSV出力と同じ列のCSVを1行ずつ読み込んで受講生を登録し、登録できなかった行の行番号と理由を返します。",
+      tags = {"student-controller" },
+      operationId = "importStudentsCsv",
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "1行目が見出し行の受講生のCSV",
+          required = true,
+          content = @Content(mediaType = CSV_VALUE)
+      )
+  )
+  @PostMapping(value = "/import/students.csv", consumes = CSV_VALUE)
+  public ResponseEntity<StudentCsvImportResult> importStudentsCsv(InputStream inputStream) throws IOException {
+    return ResponseEntity.ok(csvService.importStudents(inputStream));
+  }
+
   /**
    * 受講生詳細の更新を行います。
    *
@@ -235,6 +592,34 @@ public class StudentController {
     return ResponseEntity.ok("更新処理が成功しました。");
   }
 
+  /**
+   * コース申込状況の一括更新を行います。
+   * コース申込状況IDの一覧か、コース名・現在の申込状況で指定したコース申込状況をまとめて更新します。
+   *
+   * @param transition 更新対象と更新後の申込状況
+   * @return 更新した件数
+   */
+  @Operation(
+      summary = "コース申込状況の一括更新",
+      description = "指定したコース申込状況をまとめて更新し、更新した件数を返します。",
+      tags = {"student-controller" },
+      operationId = "updateStudentCourseStatuses",
+      requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+          description = "更新対象と更新後の申込状況",
+          required = true,
+          content = @Content(
+              mediaType = "application/json",
+              schema = @Schema(implementation = StudentCourseStatusTransition.class)
+          )
+      )
+  )
+  @PutMapping("/updateStudentCourseStatuses")
+  public ResponseEntity<StudentCourseStatusTransitionResult> updateStudentCourseStatuses(
+      @Valid @RequestBody StudentCourseStatusTransition transition) {
+    int updatedCount = bulkService.updateStudentCourseStatuses(transition);
+    return ResponseEntity.ok(new StudentCourseStatusTransitionResult(updatedCount));
+  }
+
   /**
    * 受講生詳細の削除（論理削除）を行います。
    *
@@ -261,4 +646,187 @@ public class StudentController {
     return ResponseEntity.ok("削除処理が成功しました。");
   }
 
+  /**
+   * 受講生詳細を1行のJSONとして書き出します。
+   *
+   * @param outputStream 書き出し先
+   * @param studentDetail 受講生詳細
+   */
+  private void writeLine(OutputStream outputStream, StudentDetail studentDetail) {
+    try {
+      outputStream.write(objectMapper.writeValueAsBytes(studentDetail));
+      outputStream.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 現在のデータのバージョンを表すETagを返します。
+   * 変更前のデータに新しいバージョンのETagを付けないよう、検索する前に呼び出します。
+   * JSONとCBOR・Smileは別の表現のため、ETagも別の値にし、304 Not Modifiedを含めてVaryにAcceptを設定します。
+   *
+   * @param webRequest リクエスト
+   * @return ETag
+   */
+  private String currentEtag(WebRequest webRequest) {
+    vary(webRequest, HttpHeaders.ACCEPT);
+    return dataVersion.etag(dataVersion.current(), binaryFormat(webRequest));
+  }
+
+  /**
+   * If-None-MatchのETagが指定したETagと一致するかどうかを判定します。
+   * 受講生が見つからない場合などのエラーのレスポンスにETagが残らないよう、レスポンスにはETagを設定しません。
+   * ETagは一致した場合は304 Not Modifiedに、一致しない場合は検索に成功したレスポンスに設定します。
+   *
+   * @param webRequest リクエスト
+   * @param etag 現在のETag
+   * @return 一致する場合はtrue
+   */
+  private static boolean isNotModified(WebRequest webRequest, String etag) {
+    String[] ifNoneMatchValues = webRequest.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+    if (ifNoneMatchValues == null) {
+      return false;
+    }
+    for (String ifNoneMatch : ifNoneMatchValues) {
+      for (String candidate : ifNoneMatch.split(",")) {
+        String tag = candidate.trim();
+        if (tag.startsWith("W/")) {
+          tag = tag.substring(2);
+        }
+        if (tag.equals("*") || tag.equals(etag)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * ETagを設定した304 Not Modifiedのレスポンスを返します。
+   *
+   * @param etag 現在のETag
+   * @return 304 Not Modified
+   */
+  private static <T> ResponseEntity<T> notModified(String etag) {
+    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+  }
+
+  /**
+   * レスポンスのVaryに、表現を選ぶのに使ったリクエストヘッダーを追加します。
+   * キャッシュがJSONとCBOR・Smile、圧縮形式の異なる表現を取り違えないようにするためです。
+   *
+   * @param webRequest リクエスト
+   * @param headerNames 表現を選ぶのに使ったリクエストヘッダー
+   */
+  private static void vary(WebRequest webRequest, String... headerNames) {
+    HttpServletResponse response = webRequest instanceof NativeWebRequest nativeWebRequest
+        ? nativeWebRequest.getNativeResponse(HttpServletResponse.class)
+        : null;
+    if (response == null) {
+      return;
+    }
+    for (String headerName : headerNames) {
+      if (!response.getHeaders(HttpHeaders.VARY).contains(headerName)) {
+        response.addHeader(HttpHeaders.VARY, headerName);
+      }
+    }
+  }
+
+  /**
+   * レスポンスに使われる形式のうち、JSONと区別するバイナリ形式を返します。
+   *
+   * @param webRequest リクエスト
+   * @return CBORの場合は "cbor"、Smileの場合は "smile"、それ以外（JSON）の場合はnull
+   */
+  private String binaryFormat(WebRequest webRequest) {
+    MediaType mediaType = negotiatedMediaType(webRequest);
+    if (mediaType == null) {
+      return null;
+    }
+    if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+      return "cbor";
+    }
+    if (mediaType.isCompatibleWith(BinaryFormatConfig.APPLICATION_SMILE)) {
+      return "smile";
+    }
+    return null;
+  }
+
+  /**
+   * Acceptに対してレスポンスに使われる形式を、Spring MVCのコンテンツネゴシエーションと同じ順で求めます。
+   * Acceptの形式を優先度（q値）と具体性の順に並べ、このコントローラーが返せる形式（JSON・CBOR・Smile）と最初に一致したものを選びます。
+   *
+   * @param webRequest リクエスト
+   * @return レスポンスに使われる形式。返せる形式がない場合やAcceptが不正な場合はnull
+   */
+  private MediaType negotiatedMediaType(WebRequest webRequest) {
+    if (!(webRequest instanceof NativeWebRequest nativeWebRequest)) {
+      return MediaType.APPLICATION_JSON;
+    }
+    List<MediaType> acceptableMediaTypes;
+    try {
+      acceptableMediaTypes = new ArrayList<>(contentNegotiationManager.resolveMediaTypes(nativeWebRequest));
+    } catch (HttpMediaTypeNotAcceptableException e) {
+      return null;
+    }
+    acceptableMediaTypes.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+    for (MediaType acceptable : acceptableMediaTypes) {
+      for (MediaType producible : PRODUCIBLE_MEDIA_TYPES) {
+        if (acceptable.isCompatibleWith(producible)) {
+          return producible;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static boolean isJson(MediaType mediaType) {
+    return mediaType != null && mediaType.isCompatibleWith(MediaType.APPLICATION_JSON);
+  }
+
+  /**
+   * 保持している一覧を、Accept-Encodingに合わせた圧縮形式のまま返します。
+   * ETagは一覧を作成した時点のバージョンと圧縮形式から作ります。JSONの表現のため、VaryにはAccept-Encodingに加えてAcceptも設定します。
+   *
+   * @param snapshot 保持している一覧
+   * @param webRequest リクエスト
+   * @return 一覧のバイト列。ETagが一致する場合はnull（304 Not Modified）
+   */
+  private ResponseEntity<byte[]> snapshotResponse(StudentListSnapshot snapshot, WebRequest webRequest) {
+    StudentListSnapshot.Encoded encoded = snapshot.encode(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    vary(webRequest, HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+    if (webRequest.checkNotModified(dataVersion.etag(snapshot.version(), encoded.contentEncoding()))) {
+      return null;
+    }
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_JSON);
+    if (encoded.contentEncoding() != null) {
+      response.header(HttpHeaders.CONTENT_ENCODING, encoded.contentEncoding());
+    }
+    return response.body(encoded.body());
+  }
+
+  /**
+   * ページングせずに全件を返すリクエストかどうかを判定します。
+   * 既存のクライアントのため、limitとcursorがどちらも指定されていない場合は設定に従って全件を返します。
+   *
+   * @param limit 1ページの件数
+   * @param cursor 前のページで返されたカーソル
+   * @return 全件を返す場合はtrue
+   */
+  private boolean isUnpagedRequest(Integer limit, String cursor) {
+    return unpagedByDefault && limit == null && cursor == null;
+  }
+
+  /**
+   * ページ検索の1ページの件数を決定します。
+   *
+   * @param limit リクエストで指定された1ページの件数
+   * @return 1ページの件数
+   */
+  private int pageLimit(Integer limit) {
+    return limit != null ? limit : defaultPageLimit;
+  }
+
 }
@@ -0,0 +1,23 @@
+package raisetech.studentmanagement.domain;
+
+/**
+ * 絞り込み条件（{@link StudentFilter}）の子の条件の結合方法です。
+ */
+public enum SearchOperator {
+
+  /**
+   * 子の条件をすべて満たす
+   */
+  AND,
+
+  /**
+   * 子の条件のいずれかを満たす
+   */
+  OR,
+
+  /**
+   * 子の条件をすべて満たす受講生を除く
+   */
+  NOT
+
+}
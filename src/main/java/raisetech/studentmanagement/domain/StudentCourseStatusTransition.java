@@ -0,0 +1,30 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Schema(description = "コース申込状況の一括更新。コース申込状況IDの一覧か、コース名・現在の申込状況のどちらかで対象を指定する")
+@Getter
+@Setter
+public class StudentCourseStatusTransition {
+
+  @Schema(description = "更新したいコース申込状況IDの一覧")
+  private List<String> statusIds;
+
+  @Schema(description = "更新したいコースのコース名", example = "Java基礎")
+  private String courseName;
+
+  @Schema(description = "現在の申込状況。指定した場合はこの申込状況のコースだけを更新する", example = "仮申込")
+  @Pattern(regexp = "^(仮申込|本申込|受講中|受講終了)$", message = "申込状況は 仮申込・本申込・受講中・受講終了 のいずれかで入力してください")
+  private String currentStatus;
+
+  @Schema(description = "更新後の申込状況", example = "本申込")
+  @NotBlank(message = "申込状況を入力してください")
+  @Pattern(regexp = "^(仮申込|本申込|受講中|受講終了)$", message = "申込状況は 仮申込・本申込・受講中・受講終了 のいずれかで入力してください")
+  private String newStatus;
+
+}
@@ -0,0 +1,19 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "コース申込状況の一括更新の結果")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentCourseStatusTransitionResult {
+
+  @Schema(description = "更新したコース申込状況の件数", example = "10000")
+  private int updatedCount;
+
+}
@@ -0,0 +1,18 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "CSVの取り込みで登録できなかった行")
+@Getter
+@AllArgsConstructor
+public class StudentCsvImportError {
+
+  @Schema(description = "見出し行を1行目とした行番号。受講生が複数行の場合は先頭の行", example = "2")
+  private final long line;
+
+  @Schema(description = "登録できなかった理由", example = "student.email: 正しいメールアドレスを入力してください")
+  private final String message;
+
+}
@@ -0,0 +1,22 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "CSVの取り込みの結果")
+@Getter
+@AllArgsConstructor
+public class StudentCsvImportResult {
+
+  @Schema(description = "登録した受講生の人数", example = "9998")
+  private final long importedCount;
+
+  @Schema(description = "登録できなかった受講生の人数", example = "2")
+  private final long failedCount;
+
+  @Schema(description = "登録できなかった行の一覧。上限を超えた分は含まない")
+  private final List<StudentCsvImportError> errors;
+
+}
@@ -0,0 +1,34 @@
+package raisetech.studentmanagement.domain;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 受講生CSVの1行です。受講生のコース1件につき1行で、コースがない受講生は1行でコースの列が空になります。
+ * 取り込みでは数値や日付の誤りを行ごとのエラーとして返すため、全ての列を文字列で保持します。
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonPropertyOrder({"studentId", "name", "furigana", "nickname", "email", "city", "age", "gender", "remark",
+    "courseId", "courseName", "startDate", "endDate", "status"})
+public class StudentCsvRow {
+
+  private String studentId;
+  private String name;
+  private String furigana;
+  private String nickname;
+  private String email;
+  private String city;
+  private String age;
+  private String gender;
+  private String remark;
+  private String courseId;
+  private String courseName;
+  private String startDate;
+  private String endDate;
+  private String status;
+
+}
@@ -2,6 +2,7 @@ package raisetech.studentmanagement.domain;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -21,6 +22,6 @@ public class StudentDetail {
   private Student student;
 
   @Valid
-  private List<StudentCourse> studentCourseList;
+  private List<StudentCourse> studentCourseList = new ArrayList<>();
 
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 受講生の絞り込み条件です。条件を入れ子にして、AND/OR/NOTを自由に組み合わせられます。
+ * 1つの条件に指定した項目はすべて満たす必要があり（AND）、operatorを指定した場合はさらに子の条件をoperatorで結合した結果も満たす必要があります。
+ */
+@Schema(description = "受講生の絞り込み条件（AND/OR/NOTの組み合わせ）")
+@Getter
+@Setter
+public class StudentFilter {
+
+  @Schema(description = "子の条件の結合方法。conditionsを指定する場合は必須")
+  private SearchOperator operator;
+
+  @Schema(description = "子の条件")
+  private List<StudentFilter> conditions;
+
+  @Schema(description = "地域（完全一致）")
+  private String city;
+
+  @Schema(description = "性別（完全一致）")
+  private String gender;
+
+  @Schema(description = "最小年齢")
+  private Integer minAge;
+
+  @Schema(description = "最大年齢")
+  private Integer maxAge;
+
+  @Schema(description = "受講しているコースのコース名（前方一致）。申込状況も指定した場合は、両方を満たすコースを受講している受講生に絞り込みます")
+  private String courseName;
+
+  @Schema(description = "受講しているコースの申込状況（完全一致）")
+  private String status;
+
+}
@@ -0,0 +1,23 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生詳細の一覧（1ページ分）")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentPage {
+
+  @Schema(description = "このページに含まれる受講生詳細の一覧")
+  private List<StudentDetail> studentDetailList;
+
+  @Schema(description = "次のページを取得するためのカーソル。最後のページの場合はnull")
+  private String nextCursor;
+
+}
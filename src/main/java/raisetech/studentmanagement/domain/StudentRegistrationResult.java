@@ -0,0 +1,50 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "一括登録の1件ごとの結果")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentRegistrationResult {
+
+  @Schema(description = "リクエストの一覧での位置（0始まり）", example = "0")
+  private int index;
+
+  @Schema(description = "登録に成功したかどうか")
+  private boolean registered;
+
+  @Schema(description = "登録した受講生ID。登録に失敗した場合はnull")
+  private String studentId;
+
+  @Schema(description = "登録に失敗した理由。登録に成功した場合はnull")
+  private String errorMessage;
+
+  /**
+   * 登録に成功した結果を作成します。
+   *
+   * @param index リクエストの一覧での位置
+   * @param studentId 登録した受講生ID
+   * @return 登録結果
+   */
+  public static StudentRegistrationResult registered(int index, String studentId) {
+    return new StudentRegistrationResult(index, true, studentId, null);
+  }
+
+  /**
+   * 登録に失敗した結果を作成します。
+   *
+   * @param index リクエストの一覧での位置
+   * @param errorMessage 登録に失敗した理由
+   * @return 登録結果
+   */
+  public static StudentRegistrationResult failed(int index, String errorMessage) {
+    return new StudentRegistrationResult(index, false, null, errorMessage);
+  }
+
+}
@@ -18,21 +18,19 @@ public class StudentSearchCondition {
     @Schema(description = "性別（完全一致）")
     private String gender;
 
-    // フェーズ2：後で追加（今はコメントアウトでもOK）
-    // @Schema(description = "コース名（部分一致）")
-    // private String courseName;
+    // フェーズ2
+    @Schema(description = "コース名（前方一致）")
+    private String courseName;
 
-    // @Schema(description = "最小年齢")
-    // private Integer minAge;
+    @Schema(description = "最小年齢")
+    private Integer minAge;
 
-    // @Schema(description = "最大年齢")
-    // private Integer maxAge;
+    @Schema(description = "最大年齢")
+    private Integer maxAge;
 
-    // @Schema(description = "申込状況（完全一致）")
-    // private String status;
+    @Schema(description = "申込状況（完全一致）")
+    private String status;
 
-    // フェーズ3：さらに将来
-    // @Schema(description = "検索条件の結合方法（AND/OR）")
-    // private SearchOperator operator;  // ANDかOR
+    // フェーズ3：AND/OR/NOTの組み合わせは StudentFilter で指定する（POST /studentListWithStatus/filter）
 
 }
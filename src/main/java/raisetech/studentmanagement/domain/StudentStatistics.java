@@ -0,0 +1,32 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "受講生の集計")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StudentStatistics {
+
+  @Schema(description = "受講生数（論理削除された受講生を除く）", example = "1000")
+  private long studentCount;
+
+  @Schema(description = "地域ごとの受講生数")
+  private Map<String, Long> city;
+
+  @Schema(description = "性別ごとの受講生数")
+  private Map<String, Long> gender;
+
+  @Schema(description = "コース名ごとの受講生コース情報の件数")
+  private Map<String, Long> courseName;
+
+  @Schema(description = "申込状況ごとの受講生コース情報の件数")
+  private Map<String, Long> status;
+
+}
@@ -0,0 +1,21 @@
+package raisetech.studentmanagement.domain;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Schema(description = "ふりがなの入力補完の候補")
+@Getter
+@AllArgsConstructor
+public class StudentSuggestion {
+
+  @Schema(description = "受講生ID", example = "5998cf0a-8d5a-11ef-b0c8-6b3f5a9d6a53")
+  private final String studentId;
+
+  @Schema(description = "名前", example = "山田太郎")
+  private final String name;
+
+  @Schema(description = "ふりがな", example = "やまだたろう")
+  private final String furigana;
+
+}
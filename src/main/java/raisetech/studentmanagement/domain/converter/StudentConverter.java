@@ -1,9 +1,9 @@
 package raisetech.studentmanagement.domain.converter;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.Map;
 import org.springframework.stereotype.Component;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
@@ -17,28 +17,31 @@ public class StudentConverter {
 
   /**
    * 受講生に紐づく受講生コース情報をマッピングする。
-   * 受講生コース情報は受講生に対して複数存在するので、ループを回して受講生詳細情報を組み立てる。
-   * 受講生とその受講生が受講している受講生コース情報の一覧
+   * 受講生コース情報を一度だけ走査して受講生IDごとにまとめ、受講生一覧の順番で受講生詳細情報を組み立てる。
+   * 受講生数×コース数の総当たりにならないため、件数に比例した時間で処理が終わります。
+   *
    * @param studentList 受講生一覧。
    * @param studentCourseList 受講生コース情報のリスト。
    * @return 受講生詳細情報のリスト。
    */
   public List<StudentDetail> convertStudentDetails(List<Student> studentList, List<StudentCourse> studentCourseList) {
 
-    List<StudentDetail> studentDetails = new ArrayList<>();
+    Map<String, List<StudentCourse>> studentCourseMap = HashMap.newHashMap(studentList.size());
 
-    studentList.forEach(student -> {
-      StudentDetail studentDetail = new StudentDetail();
-      studentDetail.setStudent(student);
+    for (StudentCourse studentCourse : studentCourseList) {
+      studentCourseMap.computeIfAbsent(studentCourse.getStudentId(), studentId -> new ArrayList<>())
+          .add(studentCourse);
+    }
 
-      List<StudentCourse> convertStudentCourseList = studentCourseList.stream()
-          .filter(studentCourse -> Objects.equals(student.getStudentId(), studentCourse.getStudentId()))
-          .collect(Collectors.toList());
+    List<StudentDetail> studentDetails = new ArrayList<>(studentList.size());
 
-      studentDetail.setStudentCourseList(convertStudentCourseList);
-      studentDetails.add(studentDetail);
-    });
+    for (Student student : studentList) {
+      List<StudentCourse> convertStudentCourseList = studentCourseMap.get(student.getStudentId());
+      studentDetails.add(new StudentDetail(student,
+          convertStudentCourseList == null ? new ArrayList<>() : convertStudentCourseList));
+    }
 
     return studentDetails;
   }
+
 }
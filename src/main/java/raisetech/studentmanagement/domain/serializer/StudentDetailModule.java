@@ -0,0 +1,18 @@
+package raisetech.studentmanagement.domain.serializer;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細のシリアライザー（{@link StudentDetailSerializer}）を登録するJacksonのモジュールです。
+ * Beanとして登録すると、Spring BootがアプリケーションのObjectMapperに登録します。
+ */
+@Component
+public class StudentDetailModule extends SimpleModule {
+
+  public StudentDetailModule() {
+    super(StudentDetailModule.class.getSimpleName());
+    addSerializer(StudentDetail.class, new StudentDetailSerializer());
+  }
+}
@@ -0,0 +1,169 @@
+package raisetech.studentmanagement.domain.serializer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細をJSONに変換するシリアライザーです。
+ * リフレクションでゲッターを呼び出す代わりに、項目を直接書き出します。
+ * 項目名はUTF-8に変換済みの値を使い、コースの開始日・終了日は日付ごとに変換した文字列を使い回します。
+ *
+ * <p>出力はSpring Bootの既定設定のObjectMapper（日付は yyyy-MM-dd の文字列、nullの項目も出力）と同じ並び・同じバイト列です。
+ * 受講生詳細や受講生・受講生コース情報・コース申込状況に項目を追加した場合は、このクラスにも追加してください。
+ */
+public class StudentDetailSerializer extends StdSerializer<StudentDetail> {
+
+  /**
+   * 変換した日付を保持する件数の上限です。上限を超えた日付は毎回変換します。
+   */
+  static final int MAX_CACHED_DATES = 4096;
+
+  private static final SerializedString STUDENT = new SerializedString("student");
+  private static final SerializedString STUDENT_COURSE_LIST = new SerializedString("studentCourseList");
+
+  private static final SerializedString STUDENT_ID = new SerializedString("studentId");
+  private static final SerializedString NAME = new SerializedString("name");
+  private static final SerializedString FURIGANA = new SerializedString("furigana");
+  private static final SerializedString NICKNAME = new SerializedString("nickname");
+  private static final SerializedString EMAIL = new SerializedString("email");
+  private static final SerializedString CITY = new SerializedString("city");
+  private static final SerializedString AGE = new SerializedString("age");
+  private static final SerializedString GENDER = new SerializedString("gender");
+  private static final SerializedString REMARK = new SerializedString("remark");
+  private static final SerializedString DELETED = new SerializedString("deleted");
+
+  private static final SerializedString COURSE_ID = new SerializedString("courseId");
+  private static final SerializedString COURSE_NAME = new SerializedString("courseName");
+  private static final SerializedString START_DATE = new SerializedString("startDate");
+  private static final SerializedString END_DATE = new SerializedString("endDate");
+  private static final SerializedString COURSE_STATUS = new SerializedString("courseStatus");
+
+  private static final SerializedString STATUS_ID = new SerializedString("statusId");
+  private static final SerializedString STATUS = new SerializedString("status");
+
+  private final Map<LocalDate, SerializableString> dateCache = new ConcurrentHashMap<>();
+
+  public StudentDetailSerializer() {
+    super(StudentDetail.class);
+  }
+
+  @Override
+  public void serialize(StudentDetail studentDetail, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    generator.writeStartObject(studentDetail);
+    generator.writeFieldName(STUDENT);
+    writeStudent(studentDetail.getStudent(), generator);
+    generator.writeFieldName(STUDENT_COURSE_LIST);
+    writeStudentCourseList(studentDetail.getStudentCourseList(), generator, provider);
+    generator.writeEndObject();
+  }
+
+  private void writeStudent(Student student, JsonGenerator generator) throws IOException {
+    if (student == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject(student);
+    writeString(generator, STUDENT_ID, student.getStudentId());
+    writeString(generator, NAME, student.getName());
+    writeString(generator, FURIGANA, student.getFurigana());
+    writeString(generator, NICKNAME, student.getNickname());
+    writeString(generator, EMAIL, student.getEmail());
+    writeString(generator, CITY, student.getCity());
+    generator.writeFieldName(AGE);
+    generator.writeNumber(student.getAge());
+    writeString(generator, GENDER, student.getGender());
+    writeString(generator, REMARK, student.getRemark());
+    generator.writeFieldName(DELETED);
+    generator.writeBoolean(student.isDeleted());
+    generator.writeEndObject();
+  }
+
+  private void writeStudentCourseList(List<StudentCourse> studentCourseList, JsonGenerator generator,
+      SerializerProvider provider) throws IOException {
+    if (studentCourseList == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartArray(studentCourseList, studentCourseList.size());
+    for (StudentCourse studentCourse : studentCourseList) {
+      writeStudentCourse(studentCourse, generator, provider);
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeStudentCourse(StudentCourse studentCourse, JsonGenerator generator, SerializerProvider provider)
+      throws IOException {
+    if (studentCourse == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject(studentCourse);
+    writeString(generator, COURSE_ID, studentCourse.getCourseId());
+    writeString(generator, STUDENT_ID, studentCourse.getStudentId());
+    writeString(generator, COURSE_NAME, studentCourse.getCourseName());
+    generator.writeFieldName(START_DATE);
+    writeDate(studentCourse.getStartDate(), generator, provider);
+    generator.writeFieldName(END_DATE);
+    writeDate(studentCourse.getEndDate(), generator, provider);
+    generator.writeFieldName(COURSE_STATUS);
+    writeStudentCourseStatus(studentCourse.getCourseStatus(), generator);
+    generator.writeEndObject();
+  }
+
+  private void writeStudentCourseStatus(StudentCourseStatus studentCourseStatus, JsonGenerator generator)
+      throws IOException {
+    if (studentCourseStatus == null) {
+      generator.writeNull();
+      return;
+    }
+    generator.writeStartObject(studentCourseStatus);
+    writeString(generator, STATUS_ID, studentCourseStatus.getStatusId());
+    writeString(generator, COURSE_ID, studentCourseStatus.getCourseId());
+    writeString(generator, STATUS, studentCourseStatus.getStatus());
+    generator.writeEndObject();
+  }
+
+  /**
+   * 日付を書き出します。日付を数値で出力する設定（WRITE_DATES_AS_TIMESTAMPS）の場合は、設定どおりのシリアライザーに任せます。
+   */
+  private void writeDate(LocalDate date, JsonGenerator generator, SerializerProvider provider) throws IOException {
+    if (date == null) {
+      generator.writeNull();
+      return;
+    }
+    if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+      provider.defaultSerializeValue(date, generator);
+      return;
+    }
+    SerializableString encoded = dateCache.get(date);
+    if (encoded == null) {
+      // LocalDate#toString は ISO_LOCAL_DATE（yyyy-MM-dd）と同じ形式
+      encoded = new SerializedString(date.toString());
+      if (dateCache.size() < MAX_CACHED_DATES) {
+        dateCache.put(date, encoded);
+      }
+    }
+    generator.writeString(encoded);
+  }
+
+  private static void writeString(JsonGenerator generator, SerializableString fieldName, String value)
+      throws IOException {
+    generator.writeFieldName(fieldName);
+    generator.writeString(value);
+  }
+
+}
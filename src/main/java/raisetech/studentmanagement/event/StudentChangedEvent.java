@@ -0,0 +1,28 @@
+package raisetech.studentmanagement.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 受講生詳細が登録・更新・削除されたことを通知するイベントです。
+ * 受講生詳細を書き換えるサービスのメソッドが、トランザクション内で発行します。
+ */
+@Getter
+@AllArgsConstructor
+public class StudentChangedEvent {
+
+  /**
+   * 変更の種類です。
+   */
+  public enum ChangeType {
+    REGISTERED,
+    UPDATED,
+    DELETED
+  }
+
+  private final ChangeType changeType;
+
+  private final List<String> studentIds;
+
+}
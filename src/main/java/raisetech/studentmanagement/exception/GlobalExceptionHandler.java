@@ -3,6 +3,7 @@ package raisetech.studentmanagement.exception;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedExceptionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -52,6 +53,28 @@ public class GlobalExceptionHandler {
     return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ex.getMessage());
   }
 
+  /**
+   * ServiceUnavailableException用のハンドラです。
+   * @param ex 実際に発生した例外オブジェクト。
+   * @return 503SERVICE_UNAVAILABLEを返している。
+   */
+  @ExceptionHandler(ServiceUnavailableException.class)
+  public ResponseEntity<String> handleServiceUnavailable(ServiceUnavailableException ex) {
+    logger.warn("一時的に処理できません: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+  }
+
+  /**
+   * QueryBudgetExceededException用のハンドラです。
+   * @param ex 実際に発生した例外オブジェクト。
+   * @return 503SERVICE_UNAVAILABLEを返している。
+   */
+  @ExceptionHandler(QueryBudgetExceededException.class)
+  public ResponseEntity<String> handleQueryBudgetExceeded(QueryBudgetExceededException ex) {
+    logger.warn("ステートメントの上限を超えたリクエストを拒否しました: {}", ex.getMessage());
+    return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(ex.getMessage());
+  }
+
   /**
    * MethodArgumentNotValidException用のハンドラです。
    * @param ex 実際に発生した例外オブジェクト
@@ -73,12 +96,16 @@ public class GlobalExceptionHandler {
 
   /**
    * 予期しない例外(全ての例外)用のハンドラです。
+   * QueryBudgetExceededExceptionはMyBatisのインターセプターで発生し、MyBatisの例外に包まれて届くため、ここで取り出します。
    *
    * @param ex 実際に発生した予期しない例外オブジェクト。
    * @return 500INTERNAL_SERVER_ERRORを返している。
    */
   @ExceptionHandler(Exception.class)
   public ResponseEntity<String> handleGeneralException(Exception ex) {
+    if (NestedExceptionUtils.getMostSpecificCause(ex) instanceof QueryBudgetExceededException queryBudgetExceeded) {
+      return handleQueryBudgetExceeded(queryBudgetExceeded);
+    }
     logger.error("予期しないエラーが発生しました", ex);
     return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("サーバーエラーが発生しました。管理者に連絡してください。");
   }
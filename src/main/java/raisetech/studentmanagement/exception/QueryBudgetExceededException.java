@@ -0,0 +1,11 @@
+package raisetech.studentmanagement.exception;
+
+/**
+ * 1リクエストで実行したステートメントの件数や行数が上限を超えた時に投げる例外です。
+ * 上限を超えたリクエストを拒否する設定（studentmanagement.query-budget.action=reject）の場合だけ発生します。
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+  public QueryBudgetExceededException(String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,14 @@
+package raisetech.studentmanagement.exception;
+
+/**
+ * 起動直後などで一時的にリクエストを処理できない時に投げる例外です。
+ * HTTPステータス 503 Service Unavailable を返します。
+ */
+public class ServiceUnavailableException extends RuntimeException {
+  public ServiceUnavailableException(String message) {
+    super(message);
+  }
+  public ServiceUnavailableException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
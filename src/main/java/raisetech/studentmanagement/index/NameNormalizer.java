@@ -0,0 +1,44 @@
+package raisetech.studentmanagement.index;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 名前やふりがなを索引と検索で同じ形にそろえるクラスです。
+ * 全角・半角をそろえ（NFKC）、英字を小文字に、カタカナをひらがなにして、空白を取り除きます。
+ */
+public final class NameNormalizer {
+
+  private static final char KATAKANA_FIRST = 'ァ';
+  private static final char KATAKANA_LAST = 'ヶ';
+  private static final int KATAKANA_TO_HIRAGANA = 'ァ' - 'ぁ';
+
+  private NameNormalizer() {
+  }
+
+  /**
+   * 文字列を索引用の形にそろえます。
+   *
+   * @param text 名前、ふりがな、ニックネーム、または検索語
+   * @return そろえた文字列。nullの場合は空文字列
+   */
+  public static String normalize(String text) {
+    if (text == null || text.isEmpty()) {
+      return "";
+    }
+    String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    StringBuilder builder = new StringBuilder(normalized.length());
+    for (int i = 0; i < normalized.length(); i++) {
+      char c = normalized.charAt(i);
+      if (Character.isWhitespace(c) || Character.isISOControl(c)) {
+        continue;
+      }
+      if (c >= KATAKANA_FIRST && c <= KATAKANA_LAST) {
+        c = (char) (c - KATAKANA_TO_HIRAGANA);
+      }
+      builder.append(c);
+    }
+    return builder.toString();
+  }
+
+}
@@ -0,0 +1,340 @@
+package raisetech.studentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.index.StudentFacets.Course;
+
+/**
+ * 受講生の絞り込み（{@link StudentFilter}）を行う、メモリ上のビットマップ索引です。
+ * 地域・性別・年齢帯（10歳ごと）・受講しているコース名・申込状況の値ごとに、該当する受講生の番号を圧縮ビットマップで持ち、
+ * 条件の組み合わせをビットマップの積・和・差で求めます。受講生を1件ずつ確認するのは、範囲の端にかかる年齢帯だけです。
+ *
+ * <p>コース名と申込状況の両方を指定した場合は、両方を満たすコースを受講している受講生だけを返すよう、
+ * コースごとのコース名と申込状況の組にもビットマップを持ちます。コース名は受講生の条件検索（SQL）と同じく前方一致で、
+ * コース名の種類は少ないため、前方一致するコース名のビットマップの和で求めます。
+ */
+@Component
+public class StudentBitmapIndex implements StudentIndex {
+
+  private static final int AGE_BUCKET_SIZE = 10;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Postings postings = new Postings();
+  private Map<String, Integer> docIdByStudentId = new HashMap<>();
+  private List<String> studentIdByDocId = new ArrayList<>();
+  private List<StudentFacets> facetsByDocId = new ArrayList<>();
+  private volatile boolean ready;
+
+  /**
+   * 索引が作成済みかどうかを返します。起動直後で作成前の場合は false です。
+   *
+   * @return 索引が作成済みの場合はtrue
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 絞り込み条件に一致する受講生のIDを検索します。
+   *
+   * @param filter 絞り込み条件
+   * @return 受講生IDの一覧
+   * @throws BadRequestException 絞り込み条件が不正な場合
+   */
+  public List<String> searchStudentIds(StudentFilter filter) {
+    lock.readLock().lock();
+    try {
+      RoaringBitmap matched = evaluate(filter);
+      List<String> studentIds = new ArrayList<>(matched.getCardinality());
+      matched.forEach((int docId) -> studentIds.add(studentIdByDocId.get(docId)));
+      return studentIds;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void rebuild(List<StudentDetail> studentDetailList) {
+    Postings newPostings = new Postings();
+    Map<String, Integer> newDocIdByStudentId = HashMap.newHashMap(studentDetailList.size());
+    List<String> newStudentIdByDocId = new ArrayList<>(studentDetailList.size());
+    List<StudentFacets> newFacetsByDocId = new ArrayList<>(studentDetailList.size());
+
+    for (StudentDetail studentDetail : studentDetailList) {
+      int docId = newStudentIdByDocId.size();
+      StudentFacets facets = StudentFacets.of(studentDetail);
+      newDocIdByStudentId.put(studentDetail.getStudent().getStudentId(), docId);
+      newStudentIdByDocId.add(studentDetail.getStudent().getStudentId());
+      newFacetsByDocId.add(facets);
+      newPostings.add(docId, facets);
+    }
+    newPostings.runOptimize();
+
+    lock.writeLock().lock();
+    try {
+      postings = newPostings;
+      docIdByStudentId = newDocIdByStudentId;
+      studentIdByDocId = newStudentIdByDocId;
+      facetsByDocId = newFacetsByDocId;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void upsert(StudentDetail studentDetail) {
+    String studentId = studentDetail.getStudent().getStudentId();
+    StudentFacets facets = StudentFacets.of(studentDetail);
+
+    lock.writeLock().lock();
+    try {
+      Integer docId = docIdByStudentId.get(studentId);
+      if (docId == null) {
+        docId = studentIdByDocId.size();
+        docIdByStudentId.put(studentId, docId);
+        studentIdByDocId.add(studentId);
+        facetsByDocId.add(null);
+      }
+      StudentFacets oldFacets = facetsByDocId.get(docId);
+      if (oldFacets != null) {
+        postings.remove(docId, oldFacets);
+      }
+      facetsByDocId.set(docId, facets);
+      postings.add(docId, facets);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(String studentId) {
+    lock.writeLock().lock();
+    try {
+      // 番号は再登録に備えて残し、ビットマップからだけ取り除く
+      Integer docId = docIdByStudentId.get(studentId);
+      if (docId == null || facetsByDocId.get(docId) == null) {
+        return;
+      }
+      postings.remove(docId, facetsByDocId.get(docId));
+      facetsByDocId.set(docId, null);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 絞り込み条件に一致する受講生の番号を求めます。読み取りロックを取得してから呼び出します。
+   * 索引のビットマップは書き換えず、結果は新しいビットマップで返します。
+   *
+   * @param filter 絞り込み条件
+   * @return 一致した受講生の番号
+   */
+  private RoaringBitmap evaluate(StudentFilter filter) {
+    if (filter == null) {
+      throw new BadRequestException("絞り込み条件を指定してください。");
+    }
+    Integer minAge = filter.getMinAge();
+    Integer maxAge = filter.getMaxAge();
+    if (minAge != null && maxAge != null && minAge > maxAge) {
+      throw new BadRequestException("minAgeはmaxAge以下で指定してください。");
+    }
+
+    List<RoaringBitmap> required = new ArrayList<>();
+    addIfPresent(required, postings.city, filter.getCity());
+    addIfPresent(required, postings.gender, filter.getGender());
+    String courseName = filter.getCourseName();
+    String status = filter.getStatus();
+    if (isPresent(courseName) && isPresent(status)) {
+      required.add(union(postings.course,
+          course -> course.courseName().startsWith(courseName) && course.status().equals(status)));
+    } else if (isPresent(courseName)) {
+      required.add(union(postings.courseName, value -> value.startsWith(courseName)));
+    } else {
+      addIfPresent(required, postings.status, status);
+    }
+    if (minAge != null || maxAge != null) {
+      required.add(ageRange(minAge == null ? Integer.MIN_VALUE : minAge, maxAge == null ? Integer.MAX_VALUE : maxAge));
+    }
+    if (filter.getOperator() != null) {
+      required.add(combine(filter));
+    } else if (filter.getConditions() != null && !filter.getConditions().isEmpty()) {
+      throw new BadRequestException("conditionsを指定する場合はoperatorを指定してください。");
+    }
+
+    return and(required);
+  }
+
+  /**
+   * 子の条件をoperatorで結合します。
+   */
+  private RoaringBitmap combine(StudentFilter filter) {
+    List<StudentFilter> conditions = filter.getConditions();
+    if (conditions == null || conditions.isEmpty()) {
+      throw new BadRequestException("operatorを指定する場合はconditionsを1件以上指定してください。");
+    }
+    List<RoaringBitmap> children = new ArrayList<>(conditions.size());
+    for (StudentFilter condition : conditions) {
+      children.add(evaluate(condition));
+    }
+
+    return switch (filter.getOperator()) {
+      case AND -> and(children);
+      case OR -> {
+        RoaringBitmap result = new RoaringBitmap();
+        for (RoaringBitmap child : children) {
+          result.or(child);
+        }
+        yield result;
+      }
+      case NOT -> RoaringBitmap.andNot(postings.all, and(children));
+    };
+  }
+
+  /**
+   * ビットマップの積を求めます。件数の少ないものから積を取り、途中の結果を小さく保ちます。
+   * ビットマップがない場合は全受講生を返します。
+   */
+  private RoaringBitmap and(List<RoaringBitmap> bitmaps) {
+    if (bitmaps.isEmpty()) {
+      return postings.all.clone();
+    }
+    bitmaps.sort((a, b) -> Integer.compare(a.getCardinality(), b.getCardinality()));
+    RoaringBitmap result = bitmaps.get(0).clone();
+    for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+      result.and(bitmaps.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * 年齢が範囲内の受講生を求めます。範囲に含まれる年齢帯はビットマップの和で、端にかかる年齢帯だけ年齢を1件ずつ確認します。
+   */
+  private RoaringBitmap ageRange(int minAge, int maxAge) {
+    RoaringBitmap result = new RoaringBitmap();
+    for (Map.Entry<Integer, RoaringBitmap> entry : postings.ageBucket.entrySet()) {
+      int bucketMin = entry.getKey() * AGE_BUCKET_SIZE;
+      int bucketMax = bucketMin + AGE_BUCKET_SIZE - 1;
+      if (bucketMax < minAge || bucketMin > maxAge) {
+        continue;
+      }
+      if (minAge <= bucketMin && bucketMax <= maxAge) {
+        result.or(entry.getValue());
+      } else {
+        entry.getValue().forEach((int docId) -> {
+          int age = facetsByDocId.get(docId).age();
+          if (minAge <= age && age <= maxAge) {
+            result.add(docId);
+          }
+        });
+      }
+    }
+    return result;
+  }
+
+  private static void addIfPresent(List<RoaringBitmap> required, Map<String, RoaringBitmap> postings, String value) {
+    if (isPresent(value)) {
+      RoaringBitmap posting = postings.get(value);
+      required.add(posting == null ? new RoaringBitmap() : posting);
+    }
+  }
+
+  /**
+   * 条件を満たす値のビットマップの和を求めます。
+   */
+  private static <K> RoaringBitmap union(Map<K, RoaringBitmap> postings, Predicate<K> condition) {
+    RoaringBitmap result = new RoaringBitmap();
+    postings.forEach((value, posting) -> {
+      if (condition.test(value)) {
+        result.or(posting);
+      }
+    });
+    return result;
+  }
+
+  private static boolean isPresent(String value) {
+    return value != null && !value.isEmpty();
+  }
+
+  private static int ageBucket(int age) {
+    return Math.floorDiv(age, AGE_BUCKET_SIZE);
+  }
+
+  /**
+   * 項目の値ごとのビットマップです。
+   */
+  private static class Postings {
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> city = new HashMap<>();
+    private final Map<String, RoaringBitmap> gender = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> ageBucket = new HashMap<>();
+    private final Map<String, RoaringBitmap> courseName = new HashMap<>();
+    private final Map<String, RoaringBitmap> status = new HashMap<>();
+    private final Map<Course, RoaringBitmap> course = new HashMap<>();
+
+    void add(int docId, StudentFacets facets) {
+      all.add(docId);
+      addPosting(city, facets.city(), docId);
+      addPosting(gender, facets.gender(), docId);
+      addPosting(ageBucket, ageBucket(facets.age()), docId);
+      for (Course value : facets.courses()) {
+        addPosting(courseName, value.courseName(), docId);
+        addPosting(status, value.status(), docId);
+        if (value.courseName() != null && value.status() != null) {
+          addPosting(course, value, docId);
+        }
+      }
+    }
+
+    void remove(int docId, StudentFacets facets) {
+      // 受講生の項目はまとめて取り除くため、同じ値のコースが複数あっても取り除きすぎることはない
+      all.remove(docId);
+      removePosting(city, facets.city(), docId);
+      removePosting(gender, facets.gender(), docId);
+      removePosting(ageBucket, ageBucket(facets.age()), docId);
+      for (Course value : facets.courses()) {
+        removePosting(courseName, value.courseName(), docId);
+        removePosting(status, value.status(), docId);
+        removePosting(course, value, docId);
+      }
+    }
+
+    void runOptimize() {
+      all.runOptimize();
+      List.of(city, gender, courseName, status).forEach(postings -> postings.values().forEach(RoaringBitmap::runOptimize));
+      ageBucket.values().forEach(RoaringBitmap::runOptimize);
+      course.values().forEach(RoaringBitmap::runOptimize);
+    }
+
+    private static <K> void addPosting(Map<K, RoaringBitmap> postings, K value, int docId) {
+      if (value != null) {
+        postings.computeIfAbsent(value, key -> new RoaringBitmap()).add(docId);
+      }
+    }
+
+    private static <K> void removePosting(Map<K, RoaringBitmap> postings, K value, int docId) {
+      if (value == null) {
+        return;
+      }
+      RoaringBitmap posting = postings.get(value);
+      if (posting != null) {
+        posting.remove(docId);
+        if (posting.isEmpty()) {
+          postings.remove(value);
+        }
+      }
+    }
+  }
+
+}
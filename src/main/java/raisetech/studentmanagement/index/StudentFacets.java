@@ -0,0 +1,47 @@
+package raisetech.studentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 索引や集計に登録する受講生の項目です。受講しているコースは、コースごとにコース名と申込状況の組で持ちます。
+ * 受講生が変更されたときに変更前の値を取り除けるよう、索引は受講生ごとにこの項目を覚えておきます。
+ *
+ * @param city 地域
+ * @param gender 性別
+ * @param age 年齢
+ * @param courses 受講しているコース
+ */
+record StudentFacets(String city, String gender, int age, List<Course> courses) {
+
+  /**
+   * 受講生詳細から項目を取り出します。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 受講生の項目
+   */
+  static StudentFacets of(StudentDetail studentDetail) {
+    Student student = studentDetail.getStudent();
+    List<Course> courses = new ArrayList<>();
+    if (studentDetail.getStudentCourseList() != null) {
+      for (StudentCourse studentCourse : studentDetail.getStudentCourseList()) {
+        String status = studentCourse.getCourseStatus() == null ? null : studentCourse.getCourseStatus().getStatus();
+        courses.add(new Course(studentCourse.getCourseName(), status));
+      }
+    }
+    return new StudentFacets(student.getCity(), student.getGender(), student.getAge(), List.copyOf(courses));
+  }
+
+  /**
+   * 受講しているコース1件のコース名と申込状況です。どちらもnullの場合があります。
+   *
+   * @param courseName コース名
+   * @param status 申込状況
+   */
+  record Course(String courseName, String status) {
+  }
+
+}
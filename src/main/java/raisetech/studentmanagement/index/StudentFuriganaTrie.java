@@ -0,0 +1,305 @@
+package raisetech.studentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+
+/**
+ * 受講生のふりがなの前方一致検索（入力補完）を行う、メモリ上のトライ木です。
+ * ノードはオブジェクトではなく配列の添字で表し、子は兄弟のリストとして文字の順に並べます。
+ * 各ノードに配下の受講生数を持たせ、受講生がいない枝はたどらずに、ふりがなの五十音順で先頭から指定件数を返します。
+ */
+@Component
+public class StudentFuriganaTrie implements StudentIndex {
+
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final int INITIAL_CAPACITY = 1024;
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // ノード（添字がノード番号）
+  private char[] nodeChar;
+  private int[] firstChild;
+  private int[] nextSibling;
+  private int[] firstEntry;
+  private int[] subtreeCount;
+  private int nodeCount;
+
+  // ノードに登録された受講生（ふりがなが同じ受講生は同じノードに連結する）
+  private int[] entryDocId;
+  private int[] nextEntry;
+  private int entryCount;
+  private int freeEntry;
+
+  // 受講生（添字が受講生の番号）
+  private final Map<String, Integer> docIdByStudentId = new HashMap<>();
+  private final List<StudentSuggestion> suggestionByDocId = new ArrayList<>();
+  private final List<String> keyByDocId = new ArrayList<>();
+
+  private volatile boolean ready;
+
+  public StudentFuriganaTrie() {
+    clear();
+  }
+
+  /**
+   * 索引が作成済みかどうかを返します。起動直後で作成前の場合は false です。
+   *
+   * @return 索引が作成済みの場合はtrue
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * ふりがなが指定した文字列で始まる受講生を、ふりがなの五十音順に指定件数まで返します。
+   *
+   * @param prefix ふりがなの先頭部分（カタカナや半角でもよい）
+   * @param limit 最大件数
+   * @return 受講生の候補
+   */
+  public List<StudentSuggestion> suggest(String prefix, int limit) {
+    String key = NameNormalizer.normalize(prefix);
+    List<StudentSuggestion> suggestions = new ArrayList<>(Math.min(limit, 16));
+
+    lock.readLock().lock();
+    try {
+      int node = ROOT;
+      for (int i = 0; i < key.length() && node != NONE; i++) {
+        node = findChild(node, key.charAt(i));
+      }
+      if (node != NONE) {
+        collect(node, limit, suggestions);
+      }
+      return suggestions;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void rebuild(List<StudentDetail> studentDetailList) {
+    lock.writeLock().lock();
+    try {
+      clear();
+      for (StudentDetail studentDetail : studentDetailList) {
+        insert(studentDetail.getStudent());
+      }
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void upsert(StudentDetail studentDetail) {
+    lock.writeLock().lock();
+    try {
+      delete(studentDetail.getStudent().getStudentId());
+      insert(studentDetail.getStudent());
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(String studentId) {
+    lock.writeLock().lock();
+    try {
+      delete(studentId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * トライ木のノード数を返します。削除された受講生のノードも含みます。
+   *
+   * @return ノード数
+   */
+  public int nodeCount() {
+    lock.readLock().lock();
+    try {
+      return nodeCount;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private void clear() {
+    nodeChar = new char[INITIAL_CAPACITY];
+    firstChild = new int[INITIAL_CAPACITY];
+    nextSibling = new int[INITIAL_CAPACITY];
+    firstEntry = new int[INITIAL_CAPACITY];
+    subtreeCount = new int[INITIAL_CAPACITY];
+    nodeCount = 0;
+    entryDocId = new int[INITIAL_CAPACITY];
+    nextEntry = new int[INITIAL_CAPACITY];
+    entryCount = 0;
+    freeEntry = NONE;
+    docIdByStudentId.clear();
+    suggestionByDocId.clear();
+    keyByDocId.clear();
+    newNode('\0');
+  }
+
+  /**
+   * 受講生を追加します。書き込みロックを取得してから呼び出します。
+   */
+  private void insert(Student student) {
+    String key = NameNormalizer.normalize(student.getFurigana());
+    StudentSuggestion suggestion = new StudentSuggestion(student.getStudentId(), student.getName(),
+        student.getFurigana());
+    Integer docId = docIdByStudentId.get(student.getStudentId());
+    if (docId == null) {
+      docId = suggestionByDocId.size();
+      docIdByStudentId.put(student.getStudentId(), docId);
+      suggestionByDocId.add(suggestion);
+      keyByDocId.add(key);
+    } else {
+      suggestionByDocId.set(docId, suggestion);
+      keyByDocId.set(docId, key);
+    }
+
+    int node = ROOT;
+    subtreeCount[node]++;
+    for (int i = 0; i < key.length(); i++) {
+      node = findOrCreateChild(node, key.charAt(i));
+      subtreeCount[node]++;
+    }
+    int entry = newEntry(docId);
+    nextEntry[entry] = firstEntry[node];
+    firstEntry[node] = entry;
+  }
+
+  /**
+   * 受講生を取り除きます。書き込みロックを取得してから呼び出します。
+   * 受講生の番号は再登録に備えて残し、ノードも残します（配下の受講生数が0の枝は検索でたどりません）。
+   */
+  private void delete(String studentId) {
+    Integer docId = docIdByStudentId.get(studentId);
+    if (docId == null || keyByDocId.get(docId) == null) {
+      return;
+    }
+    String key = keyByDocId.get(docId);
+
+    int node = ROOT;
+    subtreeCount[node]--;
+    for (int i = 0; i < key.length(); i++) {
+      node = findChild(node, key.charAt(i));
+      subtreeCount[node]--;
+    }
+
+    int previous = NONE;
+    for (int entry = firstEntry[node]; entry != NONE; previous = entry, entry = nextEntry[entry]) {
+      if (entryDocId[entry] == docId) {
+        if (previous == NONE) {
+          firstEntry[node] = nextEntry[entry];
+        } else {
+          nextEntry[previous] = nextEntry[entry];
+        }
+        nextEntry[entry] = freeEntry;
+        freeEntry = entry;
+        break;
+      }
+    }
+    suggestionByDocId.set(docId, null);
+    keyByDocId.set(docId, null);
+  }
+
+  /**
+   * ノード配下の受講生を、ふりがなの五十音順に指定件数まで集めます。
+   */
+  private void collect(int node, int limit, List<StudentSuggestion> suggestions) {
+    if (suggestions.size() >= limit || subtreeCount[node] == 0) {
+      return;
+    }
+    for (int entry = firstEntry[node]; entry != NONE && suggestions.size() < limit; entry = nextEntry[entry]) {
+      suggestions.add(suggestionByDocId.get(entryDocId[entry]));
+    }
+    for (int child = firstChild[node]; child != NONE && suggestions.size() < limit; child = nextSibling[child]) {
+      collect(child, limit, suggestions);
+    }
+  }
+
+  private int findChild(int node, char c) {
+    for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+      if (nodeChar[child] == c) {
+        return child;
+      }
+      if (nodeChar[child] > c) {
+        return NONE;
+      }
+    }
+    return NONE;
+  }
+
+  /**
+   * 文字に対応する子ノードを返します。ない場合は、兄弟が文字の順に並ぶ位置に作成します。
+   */
+  private int findOrCreateChild(int node, char c) {
+    int previous = NONE;
+    int child = firstChild[node];
+    while (child != NONE && nodeChar[child] < c) {
+      previous = child;
+      child = nextSibling[child];
+    }
+    if (child != NONE && nodeChar[child] == c) {
+      return child;
+    }
+
+    int created = newNode(c);
+    nextSibling[created] = child;
+    if (previous == NONE) {
+      firstChild[node] = created;
+    } else {
+      nextSibling[previous] = created;
+    }
+    return created;
+  }
+
+  private int newNode(char c) {
+    if (nodeCount == nodeChar.length) {
+      int capacity = nodeCount * 2;
+      nodeChar = Arrays.copyOf(nodeChar, capacity);
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      nextSibling = Arrays.copyOf(nextSibling, capacity);
+      firstEntry = Arrays.copyOf(firstEntry, capacity);
+      subtreeCount = Arrays.copyOf(subtreeCount, capacity);
+    }
+    int node = nodeCount++;
+    nodeChar[node] = c;
+    firstChild[node] = NONE;
+    nextSibling[node] = NONE;
+    firstEntry[node] = NONE;
+    subtreeCount[node] = 0;
+    return node;
+  }
+
+  private int newEntry(int docId) {
+    int entry;
+    if (freeEntry != NONE) {
+      entry = freeEntry;
+      freeEntry = nextEntry[entry];
+    } else {
+      if (entryCount == entryDocId.length) {
+        int capacity = entryCount * 2;
+        entryDocId = Arrays.copyOf(entryDocId, capacity);
+        nextEntry = Arrays.copyOf(nextEntry, capacity);
+      }
+      entry = entryCount++;
+    }
+    entryDocId[entry] = docId;
+    nextEntry[entry] = NONE;
+    return entry;
+  }
+
+}
@@ -0,0 +1,33 @@
+package raisetech.studentmanagement.index;
+
+import java.util.List;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生詳細から作成するメモリ上の索引です。
+ * 起動時に全件から作成し、その後は {@link StudentIndexUpdater} が変更された受講生だけを反映します。
+ */
+public interface StudentIndex {
+
+  /**
+   * 受講生詳細の全件から索引を作り直します。
+   *
+   * @param studentDetailList コース申込状況を含む受講生詳細の全件（論理削除された受講生を除く）
+   */
+  void rebuild(List<StudentDetail> studentDetailList);
+
+  /**
+   * 受講生詳細を索引に追加します。すでに索引にある受講生の場合は置き換えます。
+   *
+   * @param studentDetail コース申込状況を含む受講生詳細
+   */
+  void upsert(StudentDetail studentDetail);
+
+  /**
+   * 受講生を索引から取り除きます。索引にない受講生の場合は何もしません。
+   *
+   * @param studentId 受講生ID
+   */
+  void remove(String studentId);
+
+}
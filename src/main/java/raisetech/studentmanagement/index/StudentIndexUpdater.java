@@ -0,0 +1,116 @@
+package raisetech.studentmanagement.index;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.repository.StudentRepository;
+import raisetech.studentmanagement.service.StudentService;
+
+/**
+ * メモリ上の索引（{@link StudentIndex}）をデータベースの内容に合わせて更新するクラスです。
+ * 起動時に全件から作成し、受講生詳細が変更されたときはコミット後にその受講生だけを読み直して反映します。
+ *
+ * <p>受講生の読み直しと索引への反映は1つずつ順番に行います。後から読み直した受講生詳細ほど新しいため、
+ * 同じ受講生の変更が続けてコミットされても、古い受講生詳細が新しいものを上書きすることはありません。
+ * 全件から作成している間に届いた変更は受講生IDだけを覚えておき、作成した索引に入れ替えた後に読み直します。
+ */
+@Component
+public class StudentIndexUpdater {
+
+  private static final Logger logger = LoggerFactory.getLogger(StudentIndexUpdater.class);
+
+  private final StudentRepository repository;
+  private final List<StudentIndex> studentIndexes;
+
+  /** 読み直しと索引への反映を順番に行うためのロックです。 */
+  private final Object lock = new Object();
+
+  /** 全件から作成している間に変更された受講生IDです。作成していないときはnullです。 */
+  private Set<String> pendingStudentIds;
+
+  public StudentIndexUpdater(StudentRepository repository, List<StudentIndex> studentIndexes) {
+    this.repository = repository;
+    this.studentIndexes = studentIndexes;
+  }
+
+  /**
+   * アプリケーションの起動後に、受講生詳細の全件から索引を作成します。
+   * 全件を検索している間に変更された受講生は、索引を作成した後に読み直して反映します。
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void rebuildAll() {
+    long start = System.nanoTime();
+    synchronized (lock) {
+      pendingStudentIds = new LinkedHashSet<>();
+    }
+
+    List<StudentDetail> studentDetailList;
+    try {
+      studentDetailList = repository.searchStudentDetailListWithStatus();
+    } catch (RuntimeException e) {
+      synchronized (lock) {
+        pendingStudentIds = null;
+      }
+      throw e;
+    }
+
+    synchronized (lock) {
+      for (StudentIndex studentIndex : studentIndexes) {
+        studentIndex.rebuild(studentDetailList);
+      }
+      List<String> changedStudentIds = List.copyOf(pendingStudentIds);
+      pendingStudentIds = null;
+      if (!changedStudentIds.isEmpty()) {
+        reload(changedStudentIds);
+      }
+    }
+    logger.info("受講生の索引を作成しました（{}件、{}ms）", studentDetailList.size(),
+        (System.nanoTime() - start) / 1_000_000);
+  }
+
+  /**
+   * 変更された受講生を読み直して索引に反映します。論理削除された受講生は索引から取り除きます。
+   * 変更された受講生はIN句の上限件数ごとにまとめて読み直すため、ステートメントは受講生1000人につき1回です。
+   * 反映に失敗しても変更のコミットには影響しないため、例外はログに出力するだけにします。
+   *
+   * @param event 受講生詳細の変更イベント
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onStudentChanged(StudentChangedEvent event) {
+    try {
+      synchronized (lock) {
+        if (pendingStudentIds != null) {
+          pendingStudentIds.addAll(event.getStudentIds());
+          return;
+        }
+        reload(event.getStudentIds());
+      }
+    } catch (RuntimeException e) {
+      logger.error("受講生の索引を更新できませんでした（受講生ID: {}）", event.getStudentIds(), e);
+    }
+  }
+
+  private void reload(List<String> studentIds) {
+    List<StudentDetail> studentDetailList = StudentService.searchInChunks(studentIds,
+        repository::searchStudentDetailListWithStatusByStudentIds);
+
+    Set<String> removedStudentIds = new LinkedHashSet<>(studentIds);
+    for (StudentDetail studentDetail : studentDetailList) {
+      removedStudentIds.remove(studentDetail.getStudent().getStudentId());
+    }
+
+    for (StudentIndex studentIndex : studentIndexes) {
+      studentDetailList.forEach(studentIndex::upsert);
+      removedStudentIds.forEach(studentIndex::remove);
+    }
+  }
+
+}
@@ -0,0 +1,236 @@
+package raisetech.studentmanagement.index;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+/**
+ * 受講生の名前・ふりがな・ニックネームの部分一致検索を行う、メモリ上の転置索引です。
+ * 1文字（ユニグラム）と2文字（バイグラム）ごとに、その文字を含む受講生の番号を圧縮ビットマップで持ちます。
+ * 検索語のバイグラムを全て含む受講生に絞り込んでから部分一致を確認するため、全件を走査せずに受講生IDが求まります。
+ * 漢字・ひらがな・カタカナのどれで検索しても、名前かふりがなかニックネームに一致すれば見つかります。
+ */
+@Component
+public class StudentNameIndex implements StudentIndex {
+
+  /**
+   * 名前・ふりがな・ニックネームの区切り文字です。区切りをまたぐバイグラムは作りません。
+   */
+  private static final char FIELD_SEPARATOR = '\u0000';
+
+  private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+  private Map<Long, RoaringBitmap> postings = new HashMap<>();
+  private Map<String, Integer> docIdByStudentId = new HashMap<>();
+  private List<String> studentIdByDocId = new ArrayList<>();
+  private List<String> textByDocId = new ArrayList<>();
+  private volatile boolean ready;
+
+  /**
+   * 索引が作成済みかどうかを返します。起動直後で作成前の場合は false です。
+   *
+   * @return 索引が作成済みの場合はtrue
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 名前・ふりがな・ニックネームのいずれかに検索語を含む受講生のIDを検索します。
+   *
+   * @param keyword 検索語
+   * @return 受講生IDの一覧
+   */
+  public List<String> searchStudentIds(String keyword) {
+    String query = NameNormalizer.normalize(keyword);
+    int[] codePoints = query.codePoints().toArray();
+
+    lock.readLock().lock();
+    try {
+      RoaringBitmap candidates = candidates(codePoints);
+      List<String> studentIds = new ArrayList<>(candidates.getCardinality());
+      candidates.forEach((int docId) -> {
+        if (textByDocId.get(docId).contains(query)) {
+          studentIds.add(studentIdByDocId.get(docId));
+        }
+      });
+      return studentIds;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void rebuild(List<StudentDetail> studentDetailList) {
+    Map<Long, RoaringBitmap> newPostings = new HashMap<>();
+    Map<String, Integer> newDocIdByStudentId = HashMap.newHashMap(studentDetailList.size());
+    List<String> newStudentIdByDocId = new ArrayList<>(studentDetailList.size());
+    List<String> newTextByDocId = new ArrayList<>(studentDetailList.size());
+
+    for (StudentDetail studentDetail : studentDetailList) {
+      Student student = studentDetail.getStudent();
+      int docId = newStudentIdByDocId.size();
+      String text = indexText(student);
+      newDocIdByStudentId.put(student.getStudentId(), docId);
+      newStudentIdByDocId.add(student.getStudentId());
+      newTextByDocId.add(text);
+      addPostings(newPostings, docId, text);
+    }
+    newPostings.values().forEach(RoaringBitmap::runOptimize);
+
+    lock.writeLock().lock();
+    try {
+      postings = newPostings;
+      docIdByStudentId = newDocIdByStudentId;
+      studentIdByDocId = newStudentIdByDocId;
+      textByDocId = newTextByDocId;
+      ready = true;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void upsert(StudentDetail studentDetail) {
+    Student student = studentDetail.getStudent();
+    String text = indexText(student);
+
+    lock.writeLock().lock();
+    try {
+      Integer docId = docIdByStudentId.get(student.getStudentId());
+      if (docId == null) {
+        docId = studentIdByDocId.size();
+        docIdByStudentId.put(student.getStudentId(), docId);
+        studentIdByDocId.add(student.getStudentId());
+        textByDocId.add(null);
+      }
+      String oldText = textByDocId.get(docId);
+      if (oldText != null) {
+        removePostings(docId, oldText);
+      }
+      textByDocId.set(docId, text);
+      addPostings(postings, docId, text);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void remove(String studentId) {
+    lock.writeLock().lock();
+    try {
+      // 番号は再登録に備えて残し、文字列と転置リストからだけ取り除く
+      Integer docId = docIdByStudentId.get(studentId);
+      if (docId == null || textByDocId.get(docId) == null) {
+        return;
+      }
+      removePostings(docId, textByDocId.get(docId));
+      textByDocId.set(docId, null);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * 検索語の文字をすべて含む可能性がある受講生の番号を求めます。読み取りロックを取得してから呼び出します。
+   *
+   * @param codePoints 検索語の文字
+   * @return 候補の受講生の番号
+   */
+  private RoaringBitmap candidates(int[] codePoints) {
+    if (codePoints.length == 0) {
+      RoaringBitmap all = new RoaringBitmap();
+      for (int docId = 0; docId < textByDocId.size(); docId++) {
+        if (textByDocId.get(docId) != null) {
+          all.add(docId);
+        }
+      }
+      return all;
+    }
+    if (codePoints.length == 1) {
+      RoaringBitmap posting = postings.get(unigram(codePoints[0]));
+      return posting == null ? new RoaringBitmap() : posting;
+    }
+
+    List<RoaringBitmap> bigramPostings = new ArrayList<>(codePoints.length - 1);
+    for (int i = 0; i + 1 < codePoints.length; i++) {
+      RoaringBitmap posting = postings.get(bigram(codePoints[i], codePoints[i + 1]));
+      if (posting == null) {
+        return new RoaringBitmap();
+      }
+      bigramPostings.add(posting);
+    }
+    // 件数の少ない転置リストから積を取り、途中の結果を小さく保つ
+    bigramPostings.sort(Comparator.comparingInt(RoaringBitmap::getCardinality));
+    RoaringBitmap result = bigramPostings.get(0).clone();
+    for (int i = 1; i < bigramPostings.size() && !result.isEmpty(); i++) {
+      result.and(bigramPostings.get(i));
+    }
+    return result;
+  }
+
+  private void removePostings(int docId, String text) {
+    forEachGram(text, gram -> {
+      RoaringBitmap posting = postings.get(gram);
+      if (posting != null) {
+        posting.remove(docId);
+        if (posting.isEmpty()) {
+          postings.remove(gram);
+        }
+      }
+    });
+  }
+
+  private static void addPostings(Map<Long, RoaringBitmap> postings, int docId, String text) {
+    forEachGram(text, gram -> postings.computeIfAbsent(gram, key -> new RoaringBitmap()).add(docId));
+  }
+
+  /**
+   * 文字列のユニグラムとバイグラムを順に渡します。区切り文字をまたぐバイグラムは渡しません。
+   *
+   * @param text 索引用の文字列
+   * @param consumer ユニグラム・バイグラムを受け取る処理
+   */
+  private static void forEachGram(String text, LongConsumer consumer) {
+    int[] codePoints = text.codePoints().toArray();
+    for (int i = 0; i < codePoints.length; i++) {
+      if (codePoints[i] == FIELD_SEPARATOR) {
+        continue;
+      }
+      consumer.accept(unigram(codePoints[i]));
+      if (i + 1 < codePoints.length && codePoints[i + 1] != FIELD_SEPARATOR) {
+        consumer.accept(bigram(codePoints[i], codePoints[i + 1]));
+      }
+    }
+  }
+
+  private static long unigram(int codePoint) {
+    return codePoint;
+  }
+
+  private static long bigram(int first, int second) {
+    // 1文字目は区切り文字（0）以外なので、ユニグラムの値（Unicodeの範囲内）とは重ならない
+    return ((long) first << 32) | second;
+  }
+
+  /**
+   * 受講生の名前・ふりがな・ニックネームを、索引用にそろえて区切り文字でつなげます。
+   *
+   * @param student 受講生
+   * @return 索引用の文字列
+   */
+  private static String indexText(Student student) {
+    return NameNormalizer.normalize(student.getName()) + FIELD_SEPARATOR
+        + NameNormalizer.normalize(student.getFurigana()) + FIELD_SEPARATOR
+        + NameNormalizer.normalize(student.getNickname());
+  }
+
+}
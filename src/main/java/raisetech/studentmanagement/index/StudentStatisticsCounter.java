@@ -0,0 +1,120 @@
+package raisetech.studentmanagement.index;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentStatistics;
+import raisetech.studentmanagement.index.StudentFacets.Course;
+
+/**
+ * 地域・性別・コース名・申込状況ごとの件数を数えるカウンターです。
+ * 起動時に全件から数え、受講生が変更されたときは変更前の値を減らして変更後の値を増やします。
+ * 件数の読み取りはロックを取らずにカウンターを合計するだけなので、受講生数によらず一定の時間で返せます。
+ */
+@Component
+public class StudentStatisticsCounter implements StudentIndex {
+
+  private volatile Counters counters = new Counters();
+  private volatile boolean ready;
+
+  /**
+   * 集計が作成済みかどうかを返します。起動直後で作成前の場合は false です。
+   *
+   * @return 集計が作成済みの場合はtrue
+   */
+  public boolean isReady() {
+    return ready;
+  }
+
+  /**
+   * 現在の件数を返します。
+   *
+   * @return 受講生の集計
+   */
+  public StudentStatistics statistics() {
+    Counters current = counters;
+    return new StudentStatistics(current.studentCount.sum(), snapshot(current.city), snapshot(current.gender),
+        snapshot(current.courseName), snapshot(current.status));
+  }
+
+  @Override
+  public void rebuild(List<StudentDetail> studentDetailList) {
+    Counters newCounters = new Counters();
+    for (StudentDetail studentDetail : studentDetailList) {
+      StudentFacets facets = StudentFacets.of(studentDetail);
+      newCounters.facetsByStudentId.put(studentDetail.getStudent().getStudentId(), facets);
+      newCounters.add(facets, 1);
+    }
+    synchronized (this) {
+      counters = newCounters;
+      ready = true;
+    }
+  }
+
+  @Override
+  public synchronized void upsert(StudentDetail studentDetail) {
+    StudentFacets facets = StudentFacets.of(studentDetail);
+    StudentFacets oldFacets = counters.facetsByStudentId.put(studentDetail.getStudent().getStudentId(), facets);
+    if (oldFacets != null) {
+      counters.add(oldFacets, -1);
+    }
+    counters.add(facets, 1);
+  }
+
+  @Override
+  public synchronized void remove(String studentId) {
+    StudentFacets oldFacets = counters.facetsByStudentId.remove(studentId);
+    if (oldFacets != null) {
+      counters.add(oldFacets, -1);
+    }
+  }
+
+  /**
+   * カウンターの値を、値の順に並べた件数の一覧にします。件数が0の値は含めません。
+   */
+  private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+    Map<String, Long> snapshot = new TreeMap<>();
+    counters.forEach((value, counter) -> {
+      long count = counter.sum();
+      if (count > 0) {
+        snapshot.put(value, count);
+      }
+    });
+    return snapshot;
+  }
+
+  /**
+   * 値ごとのカウンターです。書き込みが重なっても読み取りを妨げないよう、LongAdderで数えます。
+   */
+  private static class Counters {
+
+    private final LongAdder studentCount = new LongAdder();
+    private final Map<String, LongAdder> city = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> gender = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> courseName = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> status = new ConcurrentHashMap<>();
+    private final Map<String, StudentFacets> facetsByStudentId = new HashMap<>();
+
+    void add(StudentFacets facets, int delta) {
+      studentCount.add(delta);
+      increment(city, facets.city(), delta);
+      increment(gender, facets.gender(), delta);
+      for (Course value : facets.courses()) {
+        increment(courseName, value.courseName(), delta);
+        increment(status, value.status(), delta);
+      }
+    }
+
+    private static void increment(Map<String, LongAdder> counters, String value, int delta) {
+      if (value != null) {
+        counters.computeIfAbsent(value, key -> new LongAdder()).add(delta);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,191 @@
+package raisetech.studentmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * MyBatisのステートメントごとの実行時間・行数・エラー件数を記録するインターセプターです。
+ * 実行時間は Actuator のメトリクス {@value #TIMER_NAME}（p50/p95/p99 は {@value #TIMER_NAME}.percentile）、
+ * 取得・更新した行数は {@value #ROWS_NAME} で、タグ statement にステートメントIDを付けて確認できます。
+ * 実行時間が閾値を超えたステートメントは、SQLとバインドしたパラメータを警告ログに出力します。
+ * リクエストの処理中は、実行したステートメントを {@link RequestQueryCounter} にも記録します。
+ */
+@Component
+@Intercepts({
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+    @Signature(type = Executor.class, method = "query",
+        args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+    @Signature(type = Executor.class, method = "queryCursor",
+        args = {MappedStatement.class, Object.class, RowBounds.class}),
+    @Signature(type = Executor.class, method = "update",
+        args = {MappedStatement.class, Object.class})
+})
+public class MapperMetricsInterceptor implements Interceptor {
+
+  static final String TIMER_NAME = "mybatis.statement";
+  static final String ROWS_NAME = "mybatis.statement.rows";
+
+  /**
+   * 遅いステートメントのログに出力するパラメータの上限です。IN句の長い一覧などはここで打ち切ります。
+   */
+  static final int MAX_LOGGED_PARAMETERS = 20;
+
+  private static final Logger logger = LoggerFactory.getLogger(MapperMetricsInterceptor.class);
+
+  private final MeterRegistry meterRegistry;
+  private final Duration slowQueryThreshold;
+
+  /**
+   * コンストラクタ
+   *
+   * @param meterRegistry メトリクスの登録先
+   * @param slowQueryThreshold 警告ログに出力する実行時間の閾値。0以下の場合は出力しない
+   */
+  @Autowired
+  public MapperMetricsInterceptor(MeterRegistry meterRegistry,
+      @Value("${studentmanagement.mybatis.slow-query-threshold:500ms}") Duration slowQueryThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryThreshold = slowQueryThreshold;
+  }
+
+  @Override
+  public Object intercept(Invocation invocation) throws Throwable {
+    Object[] args = invocation.getArgs();
+    MappedStatement mappedStatement = (MappedStatement) args[0];
+    Object parameter = args[1];
+
+    long start = System.nanoTime();
+    String outcome = "success";
+    Object result = null;
+    try {
+      result = invocation.proceed();
+    } catch (Throwable e) {
+      outcome = "error";
+      throw e;
+    } finally {
+      long elapsedNanos = System.nanoTime() - start;
+      record(mappedStatement, outcome, elapsedNanos, result);
+      if (isSlow(elapsedNanos)) {
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(parameter);
+        logger.warn("遅いステートメントを検出しました: {}（{}ms）SQL: {} パラメータ: {}", mappedStatement.getId(),
+            elapsedNanos / 1_000_000, boundSql.getSql().replaceAll("\\s+", " ").trim(),
+            describeParameters(mappedStatement.getConfiguration(), boundSql));
+      }
+    }
+
+    RequestQueryCounter counter = RequestQueryCounter.current();
+    if (counter != null) {
+      counter.checkBudget();
+    }
+    return result;
+  }
+
+  private void record(MappedStatement mappedStatement, String outcome, long elapsedNanos, Object result) {
+    String statementId = mappedStatement.getId();
+    String commandType = mappedStatement.getSqlCommandType().name();
+    Timer.builder(TIMER_NAME)
+        .description("MyBatisのステートメントの実行時間")
+        .tag("statement", statementId)
+        .tag("type", commandType)
+        .tag("outcome", outcome)
+        .publishPercentiles(0.5, 0.95, 0.99)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(Duration.ofNanos(elapsedNanos));
+
+    int rows = rowCount(result);
+    RequestQueryCounter counter = RequestQueryCounter.current();
+    if (counter != null) {
+      counter.record(statementId, Math.max(rows, 0));
+    }
+    if (rows >= 0) {
+      DistributionSummary.builder(ROWS_NAME)
+          .description("MyBatisのステートメントで取得・更新した行数")
+          .baseUnit("rows")
+          .tag("statement", statementId)
+          .tag("type", commandType)
+          .register(meterRegistry)
+          .record(rows);
+    }
+  }
+
+  private boolean isSlow(long elapsedNanos) {
+    return !slowQueryThreshold.isZero() && !slowQueryThreshold.isNegative()
+        && elapsedNanos >= slowQueryThreshold.toNanos();
+  }
+
+  /**
+   * 取得・更新した行数を返します。カーソルなど行数が分からない場合は-1です。
+   */
+  private static int rowCount(Object result) {
+    if (result instanceof Collection<?> collection) {
+      return collection.size();
+    }
+    if (result instanceof Integer updatedCount) {
+      return updatedCount;
+    }
+    return -1;
+  }
+
+  /**
+   * SQLにバインドするパラメータを、プレースホルダーの順に「名前=値」の一覧にします。
+   * 値の求め方は MyBatis の DefaultParameterHandler と同じです。
+   *
+   * @param configuration MyBatisの設定
+   * @param boundSql 実行したSQL
+   * @return パラメータの一覧
+   */
+  static List<String> describeParameters(Configuration configuration, BoundSql boundSql) {
+    List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+    Object parameterObject = boundSql.getParameterObject();
+    MetaObject metaObject = null;
+    List<String> parameters = new ArrayList<>(Math.min(parameterMappings.size(), MAX_LOGGED_PARAMETERS) + 1);
+
+    for (int i = 0; i < parameterMappings.size() && i < MAX_LOGGED_PARAMETERS; i++) {
+      String property = parameterMappings.get(i).getProperty();
+      Object value;
+      if (boundSql.hasAdditionalParameter(property)) {
+        value = boundSql.getAdditionalParameter(property);
+      } else if (parameterObject == null) {
+        value = null;
+      } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+        value = parameterObject;
+      } else {
+        if (metaObject == null) {
+          metaObject = configuration.newMetaObject(parameterObject);
+        }
+        value = metaObject.getValue(property);
+      }
+      parameters.add(property + "=" + value);
+    }
+    if (parameterMappings.size() > MAX_LOGGED_PARAMETERS) {
+      parameters.add("...（ほか" + (parameterMappings.size() - MAX_LOGGED_PARAMETERS) + "件）");
+    }
+    return parameters;
+  }
+
+}
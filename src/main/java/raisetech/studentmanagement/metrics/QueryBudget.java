@@ -0,0 +1,26 @@
+package raisetech.studentmanagement.metrics;
+
+/**
+ * 1リクエストで実行してよいステートメントの件数と、読み込んでよい行数の上限です。
+ *
+ * @param maxStatements ステートメントの件数の上限
+ * @param maxRows 取得・更新した行数の上限
+ */
+public record QueryBudget(long maxStatements, long maxRows) {
+
+  /**
+   * 上限を設けない場合の値です。
+   */
+  public static final QueryBudget UNLIMITED = new QueryBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+
+  /**
+   * 実行したステートメントの件数または行数が上限を超えているかどうかを返します。
+   *
+   * @param statementCount 実行したステートメントの件数
+   * @param rowCount 取得・更新した行数
+   * @return 上限を超えている場合はtrue
+   */
+  public boolean isExceededBy(long statementCount, long rowCount) {
+    return statementCount > maxStatements || rowCount > maxRows;
+  }
+}
@@ -0,0 +1,133 @@
+package raisetech.studentmanagement.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import raisetech.studentmanagement.metrics.QueryBudgetProperties.Action;
+import raisetech.studentmanagement.metrics.QueryBudgetProperties.Endpoint;
+
+/**
+ * リクエストごとに実行したステートメントの件数と行数を数えるフィルターです。
+ * 上限（{@link QueryBudgetProperties}）を超えたリクエストと、同じステートメントを繰り返し実行したリクエスト（N+1の疑い）を警告ログに出力します。
+ * 上限を超えたリクエストを拒否する設定の場合は、上限を超えた時点で {@link MapperMetricsInterceptor} がエラーにします。
+ *
+ * <p>非同期で出力する処理（/studentList/stream）の中で実行したステートメントは数えません。
+ */
+@Component
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+  private static final Logger logger = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+  private final QueryBudgetProperties properties;
+  private final QueryBudget defaultBudget;
+  private final List<EndpointBudget> endpointBudgets;
+
+  /**
+   * コンストラクタ
+   *
+   * @param properties ステートメントの上限の設定
+   */
+  @Autowired
+  public QueryBudgetFilter(QueryBudgetProperties properties) {
+    this.properties = properties;
+    this.defaultBudget = new QueryBudget(properties.getMaxStatements(), properties.getMaxRows());
+    this.endpointBudgets = properties.getEndpoints().stream()
+        .map(endpoint -> EndpointBudget.of(endpoint, defaultBudget))
+        .toList();
+  }
+
+  @Override
+  protected boolean shouldNotFilter(HttpServletRequest request) {
+    return !properties.isEnabled();
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+      throws ServletException, IOException {
+    QueryBudget budget = resolveBudget(request);
+    RequestQueryCounter counter = RequestQueryCounter.begin(budget, properties.getAction() == Action.REJECT);
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      counter.close();
+      report(request, counter);
+    }
+  }
+
+  /**
+   * リクエストに当てはまるエンドポイントの上限を返します。当てはまるものがない場合は全体の上限です。
+   */
+  QueryBudget resolveBudget(HttpServletRequest request) {
+    PathContainer path = PathContainer.parsePath(requestPath(request));
+    for (EndpointBudget endpointBudget : endpointBudgets) {
+      if (endpointBudget.matches(request.getMethod(), path)) {
+        return endpointBudget.budget();
+      }
+    }
+    return defaultBudget;
+  }
+
+  private void report(HttpServletRequest request, RequestQueryCounter counter) {
+    if (counter.statementCount() == 0) {
+      return;
+    }
+    String endpoint = request.getMethod() + " " + endpointPattern(request);
+    QueryBudget budget = counter.getBudget();
+    if (counter.isOverBudget()) {
+      logger.warn("ステートメントの上限を超えました: {} ステートメント: {}件（上限 {}件） 行数: {}件（上限 {}件）", endpoint,
+          counter.statementCount(), budget.maxStatements(), counter.rowCount(), budget.maxRows());
+    }
+    Map<String, Long> repeatedStatements = counter.repeatedStatements(properties.getRepeatThreshold());
+    if (!repeatedStatements.isEmpty()) {
+      logger.warn("同じステートメントを繰り返し実行しています（N+1の疑い）: {} {}", endpoint, repeatedStatements);
+    }
+    logger.debug("{} ステートメント: {}件 行数: {}件", endpoint, counter.statementCount(), counter.rowCount());
+  }
+
+  /**
+   * ログに出力するエンドポイントです。コントローラーのパスのパターンが分かる場合はパターンにまとめます。
+   */
+  private static String endpointPattern(HttpServletRequest request) {
+    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+    return pattern != null ? pattern.toString() : requestPath(request);
+  }
+
+  private static String requestPath(HttpServletRequest request) {
+    return request.getRequestURI().substring(request.getContextPath().length());
+  }
+
+  private record EndpointBudget(String method, PathPattern pathPattern, QueryBudget budget) {
+
+    static EndpointBudget of(Endpoint endpoint, QueryBudget defaultBudget) {
+      if (endpoint.getPath() == null) {
+        throw new IllegalArgumentException("studentmanagement.query-budget.endpoints のpathを指定してください。");
+      }
+      QueryBudget budget = !endpoint.isEnabled()
+          ? QueryBudget.UNLIMITED
+          : new QueryBudget(
+              endpoint.getMaxStatements() != null ? endpoint.getMaxStatements() : defaultBudget.maxStatements(),
+              endpoint.getMaxRows() != null ? endpoint.getMaxRows() : defaultBudget.maxRows());
+      return new EndpointBudget(endpoint.getMethod(), PathPatternParser.defaultInstance.parse(endpoint.getPath()), budget);
+    }
+
+    boolean matches(String requestMethod, PathContainer path) {
+      return (method == null || method.equalsIgnoreCase(requestMethod)) && pathPattern.matches(path);
+    }
+  }
+
+}
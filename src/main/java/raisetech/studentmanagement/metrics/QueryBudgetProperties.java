@@ -0,0 +1,84 @@
+package raisetech.studentmanagement.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 1リクエストで実行するステートメントの上限（studentmanagement.query-budget.*）の設定です。
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "studentmanagement.query-budget")
+public class QueryBudgetProperties {
+
+  /**
+   * リクエストごとにステートメントを数えるかどうか
+   */
+  private boolean enabled = true;
+
+  /**
+   * 上限を超えたリクエストの扱い
+   */
+  private Action action = Action.LOG;
+
+  /**
+   * エンドポイントごとの設定がない場合のステートメントの件数の上限
+   */
+  private long maxStatements = 20;
+
+  /**
+   * エンドポイントごとの設定がない場合の行数の上限
+   */
+  private long maxRows = Long.MAX_VALUE;
+
+  /**
+   * 1リクエストで同じステートメントをこの回数以上実行した場合にN+1の疑いとして警告する
+   */
+  private int repeatThreshold = 5;
+
+  /**
+   * エンドポイントごとの上限
+   */
+  private List<Endpoint> endpoints = new ArrayList<>();
+
+  /**
+   * 上限を超えたリクエストの扱いです。
+   */
+  public enum Action {
+    /** 警告ログを出力する */
+    LOG,
+    /** 上限を超えた時点でステートメントの実行を止め、エラーを返す */
+    REJECT
+  }
+
+  /**
+   * エンドポイントごとの上限です。指定しなかった上限は全体の設定を使います。
+   */
+  @Getter
+  @Setter
+  public static class Endpoint {
+
+    /**
+     * HTTPメソッド（省略した場合は全てのメソッド）
+     */
+    private String method;
+
+    /**
+     * パスのパターン（例: /student/{studentId}）
+     */
+    private String path;
+
+    /**
+     * 上限を確認するかどうか（falseの場合は件数・行数の上限を設けない）
+     */
+    private boolean enabled = true;
+
+    private Long maxStatements;
+
+    private Long maxRows;
+  }
+
+}
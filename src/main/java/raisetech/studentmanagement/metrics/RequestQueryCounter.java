@@ -0,0 +1,160 @@
+package raisetech.studentmanagement.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import raisetech.studentmanagement.exception.QueryBudgetExceededException;
+
+/**
+ * 1リクエストの間に実行したステートメントの件数と、取得・更新した行数を数えるクラスです。
+ * 数えている間はスレッドに紐づけ、{@link MapperMetricsInterceptor} がステートメントを実行するたびに記録します。
+ * 仮想スレッドで実行する検索には {@link #propagate(Supplier)} で引き継ぎます。
+ *
+ * <p>数えている間に別のカウンターを開始した場合は、子のカウンターに記録した件数を親のカウンターにも記録します。
+ */
+public final class RequestQueryCounter implements AutoCloseable {
+
+  private static final ThreadLocal<RequestQueryCounter> CURRENT = new ThreadLocal<>();
+
+  private final RequestQueryCounter parent;
+  private final QueryBudget budget;
+  private final boolean rejectOverBudget;
+  private final Map<String, LongAdder> statementCounts = new ConcurrentHashMap<>();
+  private final LongAdder statementCount = new LongAdder();
+  private final LongAdder rowCount = new LongAdder();
+
+  private RequestQueryCounter(RequestQueryCounter parent, QueryBudget budget, boolean rejectOverBudget) {
+    this.parent = parent;
+    this.budget = budget;
+    this.rejectOverBudget = rejectOverBudget;
+  }
+
+  /**
+   * 現在のスレッドで数え始めます。終わったら {@link #close()} を呼び出します。
+   *
+   * @param budget ステートメントの件数と行数の上限
+   * @param rejectOverBudget 上限を超えた時に {@link #checkBudget()} で例外を投げるかどうか
+   * @return 開始したカウンター
+   */
+  public static RequestQueryCounter begin(QueryBudget budget, boolean rejectOverBudget) {
+    RequestQueryCounter counter = new RequestQueryCounter(CURRENT.get(), budget, rejectOverBudget);
+    CURRENT.set(counter);
+    return counter;
+  }
+
+  /**
+   * 現在のスレッドで数えているカウンターを返します。
+   *
+   * @return カウンター。数えていない場合はnull
+   */
+  public static RequestQueryCounter current() {
+    return CURRENT.get();
+  }
+
+  /**
+   * 呼び出し元のスレッドのカウンターを、別のスレッドで実行する処理に引き継ぎます。
+   *
+   * @param task 別のスレッドで実行する処理
+   * @return 実行中だけ呼び出し元のカウンターに記録する処理
+   */
+  public static <T> Supplier<T> propagate(Supplier<T> task) {
+    RequestQueryCounter counter = CURRENT.get();
+    if (counter == null) {
+      return task;
+    }
+    return () -> {
+      RequestQueryCounter previous = CURRENT.get();
+      CURRENT.set(counter);
+      try {
+        return task.get();
+      } finally {
+        restore(previous);
+      }
+    };
+  }
+
+  /**
+   * 実行したステートメントを記録します。親のカウンターにも記録します。
+   *
+   * @param statementId ステートメントID
+   * @param rows 取得・更新した行数
+   */
+  public void record(String statementId, long rows) {
+    for (RequestQueryCounter counter = this; counter != null; counter = counter.parent) {
+      counter.statementCounts.computeIfAbsent(statementId, key -> new LongAdder()).increment();
+      counter.statementCount.increment();
+      counter.rowCount.add(rows);
+    }
+  }
+
+  /**
+   * 上限を超えたリクエストを拒否する設定の場合に、上限を超えていないか確認します。
+   *
+   * @throws QueryBudgetExceededException 上限を超えている場合
+   */
+  public void checkBudget() {
+    if (rejectOverBudget && isOverBudget()) {
+      throw new QueryBudgetExceededException("1リクエストで実行できるステートメントの上限を超えました。"
+          + "ステートメント: " + statementCount() + "件（上限 " + budget.maxStatements() + "件）、"
+          + "行数: " + rowCount() + "件（上限 " + budget.maxRows() + "件）");
+    }
+  }
+
+  /**
+   * 上限を超えているかどうかを返します。
+   *
+   * @return 上限を超えている場合はtrue
+   */
+  public boolean isOverBudget() {
+    return budget.isExceededBy(statementCount(), rowCount());
+  }
+
+  public QueryBudget getBudget() {
+    return budget;
+  }
+
+  public long statementCount() {
+    return statementCount.sum();
+  }
+
+  public long rowCount() {
+    return rowCount.sum();
+  }
+
+  /**
+   * 同じステートメントを指定した回数以上実行したもの（N+1の疑いがあるもの）を返します。
+   *
+   * @param threshold 回数の閾値
+   * @return ステートメントIDごとの実行回数（ステートメントIDの順）
+   */
+  public Map<String, Long> repeatedStatements(int threshold) {
+    Map<String, Long> repeated = new TreeMap<>();
+    statementCounts.forEach((statementId, count) -> {
+      if (count.sum() >= threshold) {
+        repeated.put(statementId, count.sum());
+      }
+    });
+    return repeated;
+  }
+
+  /**
+   * 数え終わります。現在のスレッドのカウンターを、開始する前のカウンターに戻します。
+   */
+  @Override
+  public void close() {
+    if (CURRENT.get() == this) {
+      restore(parent);
+    }
+  }
+
+  private static void restore(RequestQueryCounter counter) {
+    if (counter == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(counter);
+    }
+  }
+
+}
@@ -2,9 +2,12 @@ package raisetech.studentmanagement.repository;
 
 import java.util.List;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import raisetech.studentmanagement.data.StudentCourseStatus;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.domain.StudentDetail;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
 
 /**
@@ -21,6 +24,14 @@ public interface StudentRepository {
    */
   List<Student> searchStudent();
 
+  /**
+   * 受講生のページ検索を行います。受講生IDの昇順で、指定した受講生IDより後ろの受講生を取得します。
+   * @param afterStudentId 前のページの最後の受講生ID。先頭ページの場合はnull。
+   * @param limit 取得件数
+   * @return 受講生一覧（1ページ分）
+   */
+  List<Student> searchStudentPage(@Param("afterStudentId") String afterStudentId, @Param("limit") int limit);
+
   /**
    * 受講生の検索を行います。
    * @return 受講生。ID検索した受講生に関する情報一覧。
@@ -28,12 +39,22 @@ public interface StudentRepository {
   Student searchStudentById(String studentId);
 
   /**
-   * 受講生の条件検索を行います。
-   * @param studentSearchCondition 受講生検索条件
+   * 受講生の条件検索を名前以外の条件で行います。名前が指定された場合は {@link #searchStudentByConditionInIds} を使います。
+   * @param studentSearchCondition 受講生検索条件（名前は使わない）
    * @return 受講生一覧（条件検索）
    */
   List<Student> searchStudentByCondition(StudentSearchCondition studentSearchCondition);
 
+  /**
+   * 受講生IDの一覧に含まれる受講生を、名前以外の条件で検索します。
+   * 名前の部分一致を受講生名インデックスで受講生IDに絞り込んだ後に使います。
+   * @param condition 受講生検索条件（名前は使わない）
+   * @param studentIds 受講生IDの一覧（空でないこと）
+   * @return 受講生一覧
+   */
+  List<Student> searchStudentByConditionInIds(@Param("condition") StudentSearchCondition condition,
+      @Param("studentIds") List<String> studentIds);
+
   /**
    * 受講生のコース情報の全件検索を行います。
    * @return 受講生コース情報（全件）。
@@ -47,12 +68,28 @@ public interface StudentRepository {
    */
   List<StudentCourse> searchStudentCourseListById(String studentId);
 
+  /**
+   * 受講生IDの一覧に紐づくコース情報を検索します。
+   * IN句の件数上限を超えないよう、呼び出し側で受講生IDの一覧を分割して渡してください。
+   * @param studentIds 受講生IDの一覧（空でないこと）
+   * @return 受講生IDの一覧に紐づく受講生コース情報。
+   */
+  List<StudentCourse> searchStudentCourseListByStudentIds(@Param("studentIds") List<String> studentIds);
+
   /**
    * コース情報に対するコース申込状況の全件検索を行います。
    * @return コース申込状況一覧（全件）。
    */
   List<StudentCourseStatus> searchStudentCourseStatusList();
 
+  /**
+   * 受講生IDの一覧に紐づくコース申込状況を検索します。
+   * IN句の件数上限を超えないよう、呼び出し側で受講生IDの一覧を分割して渡してください。
+   * @param studentIds 受講生IDの一覧（空でないこと）
+   * @return 受講生IDの一覧に紐づくコース申込状況。
+   */
+  List<StudentCourseStatus> searchStudentCourseStatusListByStudentIds(@Param("studentIds") List<String> studentIds);
+
   /**
    * 受講生コースIDに紐づくコース申込状況を検索します。
    * @param courseId 受講生コースID
@@ -60,6 +97,73 @@ public interface StudentRepository {
    */
   StudentCourseStatus searchStudentCourseStatusById(String courseId);
 
+  /**
+   * 受講生詳細の全件をカーソルで1件ずつ読み込みます。受講生IDの順に返します。
+   * カーソルはトランザクション内で使用し、読み終えたら閉じてください。
+   * @return 受講生詳細のカーソル（全件）。
+   */
+  Cursor<StudentDetail> searchStudentDetailCursor();
+
+  /**
+   * コース申込状況を含む受講生詳細の全件をカーソルで1件ずつ読み込みます。受講生IDの順に返します。
+   * カーソルはトランザクション内で使用し、読み終えたら閉じてください。
+   * @return コース申込状況を含む受講生詳細のカーソル（全件）。
+   */
+  Cursor<StudentDetail> searchStudentDetailWithStatusCursor();
+
+  /**
+   * コース申込状況を含む受講生詳細の全件検索を行います。
+   * 受講生・受講生コース情報・コース申込状況を結合し、1回のクエリで取得します。
+   * @return コース申込状況を含む受講生詳細一覧（全件）。
+   */
+  List<StudentDetail> searchStudentDetailListWithStatus();
+
+  /**
+   * 受講生IDに紐づくコース申込状況を含む受講生詳細を検索します。
+   * @param studentId 受講生ID
+   * @return コース申込状況を含む受講生詳細。該当する受講生がいない場合はnull。
+   */
+  StudentDetail searchStudentDetailByIdWithStatus(String studentId);
+
+  /**
+   * 受講生IDの一覧に紐づくコース申込状況を含む受講生詳細を検索します。
+   * @param studentIds 受講生IDの一覧
+   * @return コース申込状況を含む受講生詳細一覧。論理削除された受講生と該当する受講生がいない受講生IDは含みません。
+   */
+  List<StudentDetail> searchStudentDetailListWithStatusByStudentIds(@Param("studentIds") List<String> studentIds);
+
+  /**
+   * コース申込状況を含む受講生詳細のページ検索を行います。受講生IDの昇順で、指定した受講生IDより後ろの受講生を取得します。
+   * コース情報と申込状況はページに含まれる受講生の分だけ取得します。
+   * @param afterStudentId 前のページの最後の受講生ID。先頭ページの場合はnull。
+   * @param limit 取得する受講生の件数
+   * @return コース申込状況を含む受講生詳細一覧（1ページ分）
+   */
+  List<StudentDetail> searchStudentDetailPageWithStatus(@Param("afterStudentId") String afterStudentId,
+      @Param("limit") int limit);
+
+  /**
+   * コース申込状況IDから、そのコースを受講している受講生IDを検索します。
+   * @param statusId コース申込状況ID
+   * @return 受講生ID。該当するコース申込状況がない場合はnull。
+   */
+  String searchStudentIdByStatusId(String statusId);
+
+  /**
+   * コース申込状況IDの一覧から、それらのコースを受講している受講生IDを重複なく検索します。
+   * @param statusIds コース申込状況IDの一覧（空でないこと）
+   * @return 受講生IDの一覧
+   */
+  List<String> searchStudentIdListByStatusIds(@Param("statusIds") List<String> statusIds);
+
+  /**
+   * コース名と申込状況に一致するコース申込状況IDを検索します。nullの条件では絞り込みません。
+   * @param courseName コース名
+   * @param status 申込状況
+   * @return コース申込状況IDの一覧
+   */
+  List<String> searchStatusIdListByCondition(@Param("courseName") String courseName, @Param("status") String status);
+
   /**
    * 受講生を新規登録します。IDに関しては自動採番を行う（UUID）。
    * @param student 受講生
@@ -78,6 +182,24 @@ public interface StudentRepository {
    */
   void registerStudentCourseStatus(StudentCourseStatus studentCourseStatus);
 
+  /**
+   * 受講生をまとめて新規登録します。1回のINSERT文で複数行を登録します。
+   * @param students 受講生の一覧（空でないこと）
+   */
+  void registerStudents(@Param("students") List<Student> students);
+
+  /**
+   * 受講生コース情報をまとめて新規登録します。1回のINSERT文で複数行を登録します。
+   * @param studentCourses 受講生コース情報の一覧（空でないこと）
+   */
+  void registerStudentCourses(@Param("studentCourses") List<StudentCourse> studentCourses);
+
+  /**
+   * コース申込状況をまとめて新規登録します。1回のINSERT文で複数行を登録します。
+   * @param studentCourseStatuses コース申込状況の一覧（空でないこと）
+   */
+  void registerStudentCourseStatuses(@Param("studentCourseStatuses") List<StudentCourseStatus> studentCourseStatuses);
+
   /**
    * 受講生を更新します。
    * @param student 受講生
@@ -96,6 +218,16 @@ public interface StudentRepository {
    */
   void updateStudentCourseStatus(StudentCourseStatus studentCourseStatus);
 
+  /**
+   * コース申込状況IDの一覧のコース申込状況をまとめて更新します。
+   * @param statusIds コース申込状況IDの一覧（空でないこと）
+   * @param status 更新後の申込状況
+   * @param currentStatus 現在の申込状況。指定した場合はこの申込状況の行だけを更新する
+   * @return 更新した件数
+   */
+  int updateStudentCourseStatusByStatusIds(@Param("statusIds") List<String> statusIds,
+      @Param("status") String status, @Param("currentStatus") String currentStatus);
+
   /**
    * 受講生を削除（論理削除）します。
    * @param studentId 受講生ID
@@ -0,0 +1,111 @@
+package raisetech.studentmanagement.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.studentmanagement.metrics.RequestQueryCounter;
+
+/**
+ * 互いに依存しない2つの検索を、仮想スレッドで同時に実行するクラスです。
+ * 一方を仮想スレッドで、もう一方を呼び出し元のスレッドで実行し、両方の結果がそろってから結合します。
+ * 同時に実行する検索の数はコネクションプールを使い切らない件数までに制限し、上限に達している場合は順に実行します。
+ *
+ * <p>同時に実行した検索はそれぞれ別のコネクションで読み込むため、同じ時点のデータを読むとは限りません。
+ * トランザクションの中で呼び出した場合は、同じコネクション（同じスナップショット）で読み込むよう順に実行します。
+ */
+@Component
+public class ParallelQueryExecutor {
+
+  private final boolean enabled;
+  private final Semaphore permits;
+  private final ExecutorService executor;
+
+  /**
+   * コンストラクタ
+   *
+   * @param enabled 検索を同時に実行するかどうか。falseの場合は常に順に実行する
+   * @param maxConcurrency 仮想スレッドで同時に実行する検索の上限。コネクションプールの最大数より小さくする
+   */
+  @Autowired
+  public ParallelQueryExecutor(
+      @Value("${studentmanagement.parallel-reads.enabled:true}") boolean enabled,
+      @Value("${studentmanagement.parallel-reads.max-concurrency:5}") int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new IllegalArgumentException("studentmanagement.parallel-reads.max-concurrency は1以上で指定してください。");
+    }
+    this.enabled = enabled;
+    this.permits = new Semaphore(maxConcurrency);
+    this.executor = enabled ? Executors.newVirtualThreadPerTaskExecutor() : null;
+  }
+
+  /**
+   * 2つの検索を実行し、結果を結合します。
+   *
+   * @param first 1つ目の検索（仮想スレッドで実行する）
+   * @param second 2つ目の検索（呼び出し元のスレッドで実行する）
+   * @param combiner 2つの検索結果を結合する処理
+   * @return 結合した結果
+   */
+  public <A, B, R> R both(Supplier<A> first, Supplier<B> second, BiFunction<A, B, R> combiner) {
+    if (!enabled || TransactionSynchronizationManager.isActualTransactionActive() || !permits.tryAcquire()) {
+      return combiner.apply(first.get(), second.get());
+    }
+
+    // 呼び出し元のリクエストで実行したステートメントとして数えるよう、カウンターを仮想スレッドに引き継ぐ
+    Supplier<A> firstTask = RequestQueryCounter.propagate(first);
+    Future<A> firstResult;
+    try {
+      firstResult = executor.submit(() -> {
+        try {
+          return firstTask.get();
+        } finally {
+          permits.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+
+    // 2つ目の検索が失敗しても1つ目の検索は取り消さない（実行前に取り消すと同時実行数の枠が戻らないため）
+    B secondResult = second.get();
+    return combiner.apply(join(firstResult), secondResult);
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    if (executor != null) {
+      executor.close();
+    }
+  }
+
+  /**
+   * 仮想スレッドで実行した検索の結果を待ちます。検索で発生した例外はそのまま投げ直します。
+   */
+  private static <T> T join(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("検索の完了を待っている間に割り込まれました。", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (e.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+}
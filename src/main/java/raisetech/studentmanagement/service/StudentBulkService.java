@@ -0,0 +1,224 @@
+package raisetech.studentmanagement.service;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentCourseStatusTransition;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+/**
+ * 受講生詳細の一括登録や、コース申込状況の一括更新を行うServiceです。
+ * 一括登録では受講生詳細をチャンクに分け、チャンクごとに1つのトランザクションで複数行INSERTを実行します。
+ * あるチャンクの登録に失敗しても、他のチャンクの登録結果には影響しません。
+ */
+@Service
+public class StudentBulkService {
+
+  private static final Logger logger = LoggerFactory.getLogger(StudentBulkService.class);
+
+  private final StudentRepository repository;
+  private final TransactionTemplate transactionTemplate;
+  private final Validator validator;
+  private final ApplicationEventPublisher eventPublisher;
+  private final int chunkSize;
+
+  /**
+   * コンストラクタ
+   *
+   * @param repository 受講生リポジトリ
+   * @param transactionTemplate チャンクごとのトランザクションを実行するテンプレート
+   * @param validator 受講生詳細を1件ずつ検証するバリデーター
+   * @param eventPublisher 受講生詳細の変更イベントの発行元
+   * @param chunkSize 1トランザクション（1回のINSERT文）で登録する件数
+   */
+  @Autowired
+  public StudentBulkService(StudentRepository repository, TransactionTemplate transactionTemplate,
+      Validator validator, ApplicationEventPublisher eventPublisher,
+      @Value("${studentmanagement.bulk.chunk-size:500}") int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("studentmanagement.bulk.chunk-size は1以上を指定してください: " + chunkSize);
+    }
+    this.repository = repository;
+    this.transactionTemplate = transactionTemplate;
+    this.validator = validator;
+    this.eventPublisher = eventPublisher;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * 受講生詳細をまとめて登録します。
+   * 検証に失敗した受講生詳細は登録せず、残りの受講生詳細をチャンクごとに登録します。
+   *
+   * @param studentDetailList 受講生詳細の一覧
+   * @return リクエストの順番に並んだ1件ごとの登録結果
+   */
+  public List<StudentRegistrationResult> registerStudents(List<StudentDetail> studentDetailList) {
+    StudentRegistrationResult[] results = new StudentRegistrationResult[studentDetailList.size()];
+    List<Integer> validIndexes = new ArrayList<>(studentDetailList.size());
+
+    for (int i = 0; i < studentDetailList.size(); i++) {
+      String errorMessage = validate(studentDetailList.get(i));
+      if (errorMessage == null) {
+        validIndexes.add(i);
+      } else {
+        results[i] = StudentRegistrationResult.failed(i, errorMessage);
+      }
+    }
+
+    for (int from = 0; from < validIndexes.size(); from += chunkSize) {
+      List<Integer> chunkIndexes = validIndexes.subList(from, Math.min(from + chunkSize, validIndexes.size()));
+      List<StudentDetail> chunk = chunkIndexes.stream().map(studentDetailList::get).toList();
+      try {
+        transactionTemplate.executeWithoutResult(status -> registerChunk(chunk));
+        for (int index : chunkIndexes) {
+          results[index] = StudentRegistrationResult.registered(index,
+              studentDetailList.get(index).getStudent().getStudentId());
+        }
+      } catch (DataAccessException e) {
+        logger.warn("受講生の一括登録に失敗しました（{}件）: {}", chunk.size(), e.getMessage());
+        for (int index : chunkIndexes) {
+          results[index] = StudentRegistrationResult.failed(index, "登録処理に失敗しました。");
+        }
+      }
+    }
+
+    return Arrays.asList(results);
+  }
+
+  /**
+   * コース申込状況をまとめて更新します。
+   * 対象のコース申込状況IDをIN句の上限件数ごとに分けてUPDATE文を実行し、全体を1つのトランザクションで処理します。
+   *
+   * @param transition 更新対象と更新後の申込状況
+   * @return 更新した件数
+   */
+  public int updateStudentCourseStatuses(StudentCourseStatusTransition transition) {
+    boolean hasStatusIds = transition.getStatusIds() != null && !transition.getStatusIds().isEmpty();
+    boolean hasCourseName = transition.getCourseName() != null && !transition.getCourseName().isEmpty();
+    boolean hasCurrentStatus = transition.getCurrentStatus() != null && !transition.getCurrentStatus().isEmpty();
+
+    if (hasStatusIds && hasCourseName) {
+      throw new BadRequestException("コース申込状況IDとコース名は同時に指定できません。");
+    }
+    if (!hasStatusIds && !hasCourseName && !hasCurrentStatus) {
+      throw new BadRequestException("更新対象のコース申込状況IDか、コース名・現在の申込状況を指定してください。");
+    }
+
+    return transactionTemplate.execute(status -> {
+      List<String> statusIds = hasStatusIds
+          ? transition.getStatusIds()
+          : repository.searchStatusIdListByCondition(transition.getCourseName(), transition.getCurrentStatus());
+      if (statusIds.isEmpty()) {
+        return 0;
+      }
+
+      List<String> studentIds = List.copyOf(new LinkedHashSet<>(
+          StudentService.searchInChunks(statusIds, repository::searchStudentIdListByStatusIds)));
+
+      int updatedCount = 0;
+      for (int from = 0; from < statusIds.size(); from += StudentService.IN_CLAUSE_CHUNK_SIZE) {
+        updatedCount += repository.updateStudentCourseStatusByStatusIds(
+            statusIds.subList(from, Math.min(from + StudentService.IN_CLAUSE_CHUNK_SIZE, statusIds.size())),
+            transition.getNewStatus(), transition.getCurrentStatus());
+      }
+
+      if (updatedCount > 0 && !studentIds.isEmpty()) {
+        eventPublisher.publishEvent(new StudentChangedEvent(ChangeType.UPDATED, studentIds));
+      }
+      return updatedCount;
+    });
+  }
+
+  /**
+   * 1チャンク分の受講生詳細を登録します。トランザクション内で呼び出されます。
+   *
+   * @param chunk 1チャンク分の受講生詳細
+   */
+  private void registerChunk(List<StudentDetail> chunk) {
+    List<Student> students = new ArrayList<>(chunk.size());
+    List<StudentCourse> studentCourses = new ArrayList<>();
+    List<StudentCourseStatus> studentCourseStatuses = new ArrayList<>();
+
+    for (StudentDetail studentDetail : chunk) {
+      Student student = studentDetail.getStudent();
+      StudentService.initStudent(student);
+      students.add(student);
+
+      for (StudentCourse studentCourse : studentDetail.getStudentCourseList()) {
+        StudentService.initStudentCourse(studentCourse, student);
+        studentCourses.add(studentCourse);
+
+        StudentCourseStatus studentCourseStatus = StudentService.initStudentCourseStatus(studentCourse);
+        studentCourse.setCourseStatus(studentCourseStatus);
+        studentCourseStatuses.add(studentCourseStatus);
+      }
+    }
+
+    repository.registerStudents(students);
+    // コース数は受講生ごとに異なるため、1回のINSERT文の行数がチャンクサイズを超えないように分けて登録する
+    insertInChunks(studentCourses, repository::registerStudentCourses);
+    insertInChunks(studentCourseStatuses, repository::registerStudentCourseStatuses);
+
+    eventPublisher.publishEvent(new StudentChangedEvent(ChangeType.REGISTERED,
+        students.stream().map(Student::getStudentId).toList()));
+  }
+
+  /**
+   * 一覧をチャンクサイズごとに分けて登録します。
+   *
+   * @param rows 登録する行の一覧
+   * @param insert 複数行を登録する処理
+   */
+  private <T> void insertInChunks(List<T> rows, Consumer<List<T>> insert) {
+    for (int from = 0; from < rows.size(); from += chunkSize) {
+      insert.accept(rows.subList(from, Math.min(from + chunkSize, rows.size())));
+    }
+  }
+
+  /**
+   * 受講生詳細を検証します。
+   *
+   * @param studentDetail 受講生詳細
+   * @return 検証エラーのメッセージ。エラーがない場合はnull
+   */
+  private String validate(StudentDetail studentDetail) {
+    if (studentDetail == null || studentDetail.getStudent() == null) {
+      return "student: 受講生情報は必須です。";
+    }
+    if (studentDetail.getStudentCourseList() == null) {
+      studentDetail.setStudentCourseList(new ArrayList<>());
+    }
+
+    Set<ConstraintViolation<StudentDetail>> violations = validator.validate(studentDetail);
+    if (violations.isEmpty()) {
+      return null;
+    }
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining(", "));
+  }
+
+}
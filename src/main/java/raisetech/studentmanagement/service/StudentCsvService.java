@@ -0,0 +1,337 @@
+package raisetech.studentmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.domain.StudentCsvImportError;
+import raisetech.studentmanagement.domain.StudentCsvImportResult;
+import raisetech.studentmanagement.domain.StudentCsvRow;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+/**
+ * 受講生詳細をCSVで出力・取り込みするServiceです。
+ * 出力ではデータベースのカーソルから1件ずつ読み込んで書き出し、取り込みではCSVを1行ずつ読み込んで一括登録のチャンクごとに登録します。
+ * どちらも全件をメモリに保持しないため、件数が増えてもメモリ使用量は一定です。
+ */
+@Service
+public class StudentCsvService {
+
+  /**
+   * Excelで開いたときに文字化けしないよう、出力の先頭に付けるUTF-8のBOMです。
+   */
+  static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+  /**
+   * 表計算ソフトが数式として解釈する先頭の文字です。出力ではこれらで始まる値の先頭に ' を付けて文字列として扱わせます（CSVインジェクション対策）。
+   * 取り込みで元の値に戻せるよう、' で始まる値にも ' を付けます。
+   */
+  private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+  private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+      .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE)
+      .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+      .build();
+  private static final ObjectWriter CSV_WRITER = CSV_MAPPER.writer(CSV_MAPPER.schemaFor(StudentCsvRow.class).withHeader());
+  // 列の順番は見出し行に合わせる
+  private static final ObjectReader CSV_READER = CSV_MAPPER.readerFor(StudentCsvRow.class)
+      .with(CsvSchema.emptySchema().withHeader());
+
+  private final StudentRepository repository;
+  private final StudentBulkService bulkService;
+  private final int chunkSize;
+  private final int maxReportedErrors;
+
+  /**
+   * コンストラクタ
+   *
+   * @param repository 受講生リポジトリ
+   * @param bulkService 取り込んだ受講生詳細をチャンクごとに登録する一括登録サービス
+   * @param chunkSize 1トランザクション（1回のINSERT文）で登録する件数
+   * @param maxReportedErrors 取り込みの結果に含める登録できなかった行の上限
+   */
+  @Autowired
+  public StudentCsvService(StudentRepository repository, StudentBulkService bulkService,
+      @Value("${studentmanagement.bulk.chunk-size:500}") int chunkSize,
+      @Value("${studentmanagement.csv.max-reported-errors:1000}") int maxReportedErrors) {
+    this.repository = repository;
+    this.bulkService = bulkService;
+    this.chunkSize = chunkSize;
+    this.maxReportedErrors = maxReportedErrors;
+  }
+
+  /**
+   * コース申込状況を含む受講生詳細の全件をCSVで書き出します。
+   * 受講生のコース1件につき1行で、コースがない受講生はコースの列を空にした1行です。
+   * 表計算ソフトで開いたときに数式として実行されないよう、= + - @ などで始まる値は先頭に ' を付けて出力します。
+   *
+   * @param outputStream 書き出し先。このメソッドでは閉じません
+   * @throws IOException 書き出しに失敗した場合
+   */
+  @Transactional(readOnly = true)
+  public void exportStudents(OutputStream outputStream) throws IOException {
+    outputStream.write(UTF8_BOM);
+    try (Cursor<StudentDetail> cursor = repository.searchStudentDetailWithStatusCursor();
+        SequenceWriter writer = CSV_WRITER.writeValues(outputStream)) {
+      for (StudentDetail studentDetail : cursor) {
+        Student student = studentDetail.getStudent();
+        if (studentDetail.getStudentCourseList().isEmpty()) {
+          writer.write(toRow(student, null));
+        }
+        for (StudentCourse studentCourse : studentDetail.getStudentCourseList()) {
+          writer.write(toRow(student, studentCourse));
+        }
+      }
+    }
+  }
+
+  /**
+   * CSVを1行ずつ読み込み、受講生詳細を登録します。
+   * 1行目は見出し行で、列の順番は問いません。受講生IDが同じ行が続く場合は、1人の受講生の複数のコースとして登録します。
+   * 受講生の項目は先頭の行の値を使い、受講生ID・コースID・日付・申込状況は一括登録（/registerStudents）と同じく新しく設定します。
+   * 受講生ごとに一括登録と同じ検証を行い、登録できなかった受講生は行番号と理由を結果に含めます。
+   * 出力時に先頭に付けた ' は取り除いてから登録します。
+   * 読み込めない行があった場合は、受講生の一部のコースだけを登録しないよう、読み込み中の受講生を登録しません。
+   *
+   * @param inputStream 取り込むCSV（UTF-8）
+   * @return 登録した人数と登録できなかった行の一覧
+   * @throws IOException 読み込みに失敗した場合
+   */
+  public StudentCsvImportResult importStudents(InputStream inputStream) throws IOException {
+    Importer importer = new Importer();
+    try (MappingIterator<StudentCsvRow> rows = CSV_READER.readValues(skipBom(inputStream))) {
+      long line = 1;
+      while (true) {
+        try {
+          if (!rows.hasNextValue()) {
+            break;
+          }
+        } catch (IOException e) {
+          // CSVの形式が壊れていて以降の行を読み込めない
+          importer.failCurrent(line + 1, (line + 1) + "行目以降のCSVを読み込めません: " + describe(e));
+          break;
+        }
+        line++;
+        StudentCsvRow row;
+        try {
+          row = rows.nextValue();
+        } catch (IOException | RuntimeException e) {
+          importer.failCurrent(line, line + "行目を読み込めません: " + describe(e));
+          continue;
+        }
+        importer.accept(line, row);
+      }
+    }
+    importer.finish();
+    return importer.result();
+  }
+
+  private static StudentCsvRow toRow(Student student, StudentCourse studentCourse) {
+    StudentCsvRow row = new StudentCsvRow();
+    row.setStudentId(student.getStudentId());
+    row.setName(escapeFormula(student.getName()));
+    row.setFurigana(escapeFormula(student.getFurigana()));
+    row.setNickname(escapeFormula(student.getNickname()));
+    row.setEmail(escapeFormula(student.getEmail()));
+    row.setCity(escapeFormula(student.getCity()));
+    row.setAge(String.valueOf(student.getAge()));
+    row.setGender(escapeFormula(student.getGender()));
+    row.setRemark(escapeFormula(student.getRemark()));
+    if (studentCourse != null) {
+      row.setCourseId(studentCourse.getCourseId());
+      row.setCourseName(escapeFormula(studentCourse.getCourseName()));
+      row.setStartDate(Objects.toString(studentCourse.getStartDate(), null));
+      row.setEndDate(Objects.toString(studentCourse.getEndDate(), null));
+      if (studentCourse.getCourseStatus() != null) {
+        row.setStatus(escapeFormula(studentCourse.getCourseStatus().getStatus()));
+      }
+    }
+    return row;
+  }
+
+  /**
+   * 年齢以外の受講生の項目を設定した受講生を作成します。年齢は数値に変換できるかどうかを確認してから設定します。
+   */
+  private static Student toStudent(StudentCsvRow row) {
+    Student student = new Student();
+    student.setName(unescapeFormula(row.getName()));
+    student.setFurigana(unescapeFormula(row.getFurigana()));
+    student.setNickname(unescapeFormula(row.getNickname()));
+    student.setEmail(unescapeFormula(row.getEmail()));
+    student.setCity(unescapeFormula(row.getCity()));
+    student.setGender(unescapeFormula(row.getGender()));
+    student.setRemark(unescapeFormula(row.getRemark()));
+    return student;
+  }
+
+  /**
+   * 数式として解釈される文字で始まる値の先頭に ' を付けます。
+   * 元から ' で始まる値にも付け、取り込むときに先頭の ' を1つ取り除けば必ず元の値に戻るようにします。
+   */
+  private static String escapeFormula(String value) {
+    if (value == null || value.isEmpty()
+        || (FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0 && value.charAt(0) != '\'')) {
+      return value;
+    }
+    return "'" + value;
+  }
+
+  /**
+   * {@link #escapeFormula(String)} で付けた先頭の ' を1つだけ取り除きます。出力したCSVをそのまま取り込めるようにするためです。
+   */
+  private static String unescapeFormula(String value) {
+    if (value == null || value.isEmpty() || value.charAt(0) != '\'') {
+      return value;
+    }
+    return value.substring(1);
+  }
+
+  /**
+   * 先頭にUTF-8のBOMがあれば読み飛ばします。出力したCSVをそのまま取り込めるようにするためです。
+   */
+  private static InputStream skipBom(InputStream inputStream) throws IOException {
+    BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStream);
+    bufferedInputStream.mark(UTF8_BOM.length);
+    if (!Arrays.equals(bufferedInputStream.readNBytes(UTF8_BOM.length), UTF8_BOM)) {
+      bufferedInputStream.reset();
+    }
+    return bufferedInputStream;
+  }
+
+  /**
+   * 読み込みのエラーの内容を返します。Jacksonの例外は読み込んだ位置の情報を除きます。
+   */
+  private static String describe(Exception e) {
+    return e instanceof JsonProcessingException jsonProcessingException
+        ? jsonProcessingException.getOriginalMessage()
+        : e.getMessage();
+  }
+
+  private static boolean isBlank(String value) {
+    return value == null || value.isBlank();
+  }
+
+  /**
+   * 読み込んだ行を受講生ごとにまとめ、チャンクサイズに達するごとに登録します。
+   */
+  private final class Importer {
+
+    private final List<StudentDetail> chunk = new ArrayList<>(chunkSize);
+    private final List<Long> chunkLines = new ArrayList<>(chunkSize);
+    private final List<StudentCsvImportError> errors = new ArrayList<>();
+    private long importedCount;
+    private long failedCount;
+
+    private String currentStudentId;
+    private long currentLine;
+    private StudentDetail currentStudentDetail;
+    private String currentError;
+
+    void accept(long line, StudentCsvRow row) {
+      String studentId = isBlank(row.getStudentId()) ? null : row.getStudentId();
+      if (currentStudentDetail == null || studentId == null || !studentId.equals(currentStudentId)) {
+        completeCurrent();
+        currentStudentId = studentId;
+        currentLine = line;
+        currentStudentDetail = new StudentDetail(toStudent(row), new ArrayList<>());
+        currentError = null;
+        if (!isBlank(row.getAge())) {
+          try {
+            currentStudentDetail.getStudent().setAge(Integer.parseInt(row.getAge().strip()));
+          } catch (NumberFormatException e) {
+            currentError = "student.age: 年齢は数値で入力してください";
+          }
+        }
+      }
+      if (!isBlank(row.getCourseName())) {
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setCourseName(unescapeFormula(row.getCourseName()));
+        currentStudentDetail.getStudentCourseList().add(studentCourse);
+      }
+    }
+
+    /**
+     * 読み込めない行があったことを記録します。行の受講生IDは分からないため、読み込み中の受講生を登録できなかった受講生にします。
+     * 読み込み中の受講生がいない場合は、読み込めない行を1人の登録できなかった受講生として数えます。
+     */
+    void failCurrent(long line, String message) {
+      if (currentStudentDetail == null) {
+        fail(line, message);
+      } else if (currentError == null) {
+        currentError = message;
+      }
+    }
+
+    void fail(long line, String message) {
+      failedCount++;
+      if (errors.size() < maxReportedErrors) {
+        errors.add(new StudentCsvImportError(line, message));
+      }
+    }
+
+    void finish() {
+      completeCurrent();
+      flush();
+    }
+
+    StudentCsvImportResult result() {
+      return new StudentCsvImportResult(importedCount, failedCount, List.copyOf(errors));
+    }
+
+    private void completeCurrent() {
+      if (currentStudentDetail == null) {
+        return;
+      }
+      if (currentError != null) {
+        fail(currentLine, currentError);
+      } else {
+        chunk.add(currentStudentDetail);
+        chunkLines.add(currentLine);
+        if (chunk.size() >= chunkSize) {
+          flush();
+        }
+      }
+      currentStudentDetail = null;
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      for (StudentRegistrationResult result : bulkService.registerStudents(List.copyOf(chunk))) {
+        if (result.isRegistered()) {
+          importedCount++;
+        } else {
+          fail(chunkLines.get(result.getIndex()), result.getErrorMessage());
+        }
+      }
+      chunk.clear();
+      chunkLines.clear();
+    }
+  }
+
+}
@@ -1,11 +1,23 @@
 package raisetech.studentmanagement.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import raisetech.studentmanagement.cache.StudentDetailCache;
+import raisetech.studentmanagement.config.CacheConfig;
 import raisetech.studentmanagement.data.StudentCourseStatus;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
 import raisetech.studentmanagement.domain.assembler.StudentCourseAssembler;
@@ -13,6 +25,20 @@ import raisetech.studentmanagement.domain.converter.StudentConverter;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
 import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.domain.StudentPage;
+import raisetech.studentmanagement.domain.StudentStatistics;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.exception.ResourceNotFoundException;
+import raisetech.studentmanagement.exception.ServiceUnavailableException;
+import raisetech.studentmanagement.index.NameNormalizer;
+import raisetech.studentmanagement.index.StudentBitmapIndex;
+import raisetech.studentmanagement.index.StudentFuriganaTrie;
+import raisetech.studentmanagement.index.StudentNameIndex;
+import raisetech.studentmanagement.index.StudentStatisticsCounter;
 import raisetech.studentmanagement.repository.StudentRepository;
 
 /**
@@ -22,83 +48,371 @@ import raisetech.studentmanagement.repository.StudentRepository;
 @Service
 public class StudentService {
 
+  /**
+   * IN句に一度に渡すIDの最大件数です。JDBCドライバやDBのパラメータ数上限を超えないように分割します。
+   */
+  public static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+
+  /**
+   * ページ検索で1ページに取得できる最大件数です。
+   */
+  public static final int MAX_PAGE_LIMIT = 1000;
+
+  /**
+   * ふりがなの入力補完で返す候補の最大件数です。
+   */
+  public static final int MAX_SUGGEST_LIMIT = 100;
+
   private final StudentRepository repository;
   private final StudentConverter converter;
   private final StudentCourseAssembler studentCourseAssembler;
+  private final ApplicationEventPublisher eventPublisher;
+  private final StudentNameIndex studentNameIndex;
+  private final StudentFuriganaTrie studentFuriganaTrie;
+  private final StudentBitmapIndex studentBitmapIndex;
+  private final StudentStatisticsCounter studentStatisticsCounter;
+  private final ParallelQueryExecutor parallelQueryExecutor;
+  private final StudentDetailCache studentDetailCache;
 
   @Autowired
-  public StudentService(StudentRepository repository, StudentConverter converter, StudentCourseAssembler studentCourseAssembler) {
+  public StudentService(StudentRepository repository, StudentConverter converter, StudentCourseAssembler studentCourseAssembler,
+      ApplicationEventPublisher eventPublisher, StudentNameIndex studentNameIndex,
+      StudentFuriganaTrie studentFuriganaTrie, StudentBitmapIndex studentBitmapIndex,
+      StudentStatisticsCounter studentStatisticsCounter, ParallelQueryExecutor parallelQueryExecutor,
+      StudentDetailCache studentDetailCache) {
     this.repository = repository;
     this.converter = converter;
     this.studentCourseAssembler = studentCourseAssembler;
+    this.eventPublisher = eventPublisher;
+    this.studentNameIndex = studentNameIndex;
+    this.studentFuriganaTrie = studentFuriganaTrie;
+    this.studentBitmapIndex = studentBitmapIndex;
+    this.studentStatisticsCounter = studentStatisticsCounter;
+    this.parallelQueryExecutor = parallelQueryExecutor;
+    this.studentDetailCache = studentDetailCache;
   }
 
   /**
    * 受講生詳細の一覧検索です。 全件検索を行うので、条件指定は行いません。
+   * 受講生と受講生コース情報は互いに依存しないため、同時に検索します。
    *
    * @return 受講生詳細一覧（全件）。
    */
   public List<StudentDetail> searchStudentList() {
-    List<Student> studentList = repository.searchStudent();
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseList();
-    return converter.convertStudentDetails(studentList, studentCourseList);
+    return parallelQueryExecutor.both(repository::searchStudent, repository::searchStudentCourseList,
+        converter::convertStudentDetails);
+  }
+
+  /**
+   * 受講生詳細の全件を1件ずつ読み込み、コース情報を紐づけた順に処理します。
+   * 全件のリストを作らないため、件数が増えてもメモリ使用量は一定です。
+   *
+   * @param studentDetailConsumer 受講生詳細を1件ずつ受け取る処理
+   */
+  @Transactional(readOnly = true)
+  public void streamStudentList(Consumer<StudentDetail> studentDetailConsumer) {
+    try (Cursor<StudentDetail> cursor = repository.searchStudentDetailCursor()) {
+      for (StudentDetail studentDetail : cursor) {
+        studentDetailConsumer.accept(studentDetail);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 受講生詳細のページ検索です。受講生IDの順にlimit件ずつ取得します。
+   * 受講生コース情報はページに含まれる受講生の分だけ取得します。
+   *
+   * @param cursor 前のページで返されたカーソル。先頭ページの場合はnull。
+   * @param limit 1ページの件数
+   * @return 受講生詳細一覧（1ページ分）と次のページのカーソル。
+   */
+  public StudentPage searchStudentPage(String cursor, int limit) {
+    validatePageLimit(limit);
+    List<Student> studentList = repository.searchStudentPage(decodeCursor(cursor), limit + 1);
+    boolean hasNext = studentList.size() > limit;
+    List<Student> pageStudentList = hasNext ? studentList.subList(0, limit) : studentList;
+
+    List<StudentCourse> studentCourseList = searchInChunks(toStudentIds(pageStudentList),
+        repository::searchStudentCourseListByStudentIds);
+    List<StudentDetail> studentDetailList = converter.convertStudentDetails(pageStudentList, studentCourseList);
+
+    return new StudentPage(studentDetailList, hasNext ? encodeCursor(studentDetailList) : null);
   }
 
   /**
    * 受講生詳細の条件検索です。
+   * 受講生コース情報は条件に一致した受講生の分だけ取得します。
    *
    * @return 受講生詳細一覧（条件検索）。
+   * @throws ServiceUnavailableException 名前が指定され、起動直後で受講生名インデックスが作成されていない場合
    */
   public List<StudentDetail> searchStudentListByCondition(StudentSearchCondition studentSearchCondition) {
-    List<Student> studentListByCondition = repository.searchStudentByCondition(studentSearchCondition);
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseList();
+    List<Student> studentListByCondition = searchStudentByCondition(studentSearchCondition);
+    List<StudentCourse> studentCourseList = searchInChunks(toStudentIds(studentListByCondition),
+        repository::searchStudentCourseListByStudentIds);
     return converter.convertStudentDetails(studentListByCondition, studentCourseList);
   }
 
   /**
    * コース申込状況を含む受講生コース情報の一覧検索です。
+   * 受講生コース情報とコース申込状況は互いに依存しないため、同時に検索します。
    *
    * @return コース申込状況を含む受講生コース一覧（全件）。
    */
   public List<StudentCourse> studentCourseListWithStatus(){
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseList();
-    List<StudentCourseStatus> studentCourseStatusList =repository.searchStudentCourseStatusList();
-
-    return studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList);
+    return parallelQueryExecutor.both(repository::searchStudentCourseList, repository::searchStudentCourseStatusList,
+        studentCourseAssembler::assembleCourseListWithStatus);
   }
 
   /**
    * コース申込状況を含む受講生詳細の一覧検索です。 全件検索を行うので、条件指定は行いません。
+   * 受講生・受講生コース情報・コース申込状況は1回の結合クエリでまとめて取得します。
    *
    * @return コース申込状況を含む受講生詳細一覧（全件）。
    */
   public List<StudentDetail> searchStudentListWithStatus() {
-    List<Student> studentList = repository.searchStudent();
-    List<StudentCourse> studentCourseList = studentCourseListWithStatus();
-    return converter.convertStudentDetails(studentList, studentCourseList);
+    return repository.searchStudentDetailListWithStatus();
+  }
+
+  /**
+   * コース申込状況を含む受講生詳細のページ検索です。受講生IDの順にlimit件ずつ取得します。
+   * 受講生コース情報とコース申込状況はページに含まれる受講生の分だけ取得します。
+   *
+   * @param cursor 前のページで返されたカーソル。先頭ページの場合はnull。
+   * @param limit 1ページの件数
+   * @return コース申込状況を含む受講生詳細一覧（1ページ分）と次のページのカーソル。
+   */
+  public StudentPage searchStudentPageWithStatus(String cursor, int limit) {
+    validatePageLimit(limit);
+    List<StudentDetail> studentDetailList = repository.searchStudentDetailPageWithStatus(decodeCursor(cursor), limit + 1);
+    boolean hasNext = studentDetailList.size() > limit;
+    List<StudentDetail> pageStudentDetailList = hasNext ? studentDetailList.subList(0, limit) : studentDetailList;
+
+    return new StudentPage(pageStudentDetailList, hasNext ? encodeCursor(pageStudentDetailList) : null);
   }
 
   /**
    * コース申込状況を含む受講生詳細の条件検索です。
+   * 受講生コース情報とコース申込状況は条件に一致した受講生の分だけ取得します。
    *
    * @return コース申込状況を含む受講生詳細一覧（条件検索）。
+   * @throws ServiceUnavailableException 名前が指定され、起動直後で受講生名インデックスが作成されていない場合
    */
   public List<StudentDetail> searchStudentListWithStatusByCondition(StudentSearchCondition studentSearchCondition) {
-    List<Student> studentListByCondition = repository.searchStudentByCondition(studentSearchCondition);
-    List<StudentCourse> studentCourseList = studentCourseListWithStatus();
-    return converter.convertStudentDetails(studentListByCondition, studentCourseList);
+    return convertStudentDetailsWithStatus(searchStudentByCondition(studentSearchCondition));
+  }
+
+  /**
+   * コース申込状況を含む受講生詳細の絞り込み検索です。AND/OR/NOTを組み合わせた条件で検索します。
+   * 条件の評価はメモリ上のビットマップ索引で行い、一致した受講生の分だけデータベースから取得します。
+   *
+   * @param studentFilter 絞り込み条件
+   * @return コース申込状況を含む受講生詳細一覧（絞り込み検索）。
+   * @throws ServiceUnavailableException 起動直後で索引が作成されていない場合
+   */
+  public List<StudentDetail> searchStudentListWithStatusByFilter(StudentFilter studentFilter) {
+    if (!studentBitmapIndex.isReady()) {
+      throw new ServiceUnavailableException("絞り込み検索の準備中です。しばらくしてから再度お試しください。");
+    }
+    List<String> studentIds = studentBitmapIndex.searchStudentIds(studentFilter);
+    StudentSearchCondition noCondition = new StudentSearchCondition();
+    List<Student> studentList = searchInChunks(studentIds,
+        chunk -> repository.searchStudentByConditionInIds(noCondition, chunk));
+    return convertStudentDetailsWithStatus(studentList);
+  }
+
+  /**
+   * 受講生一覧に、受講生の分だけ取得した受講生コース情報とコース申込状況を紐づける。
+   * 受講生コース情報とコース申込状況は互いに依存しないため、同時に検索する。
+   *
+   * @param studentList 受講生一覧
+   * @return コース申込状況を含む受講生詳細一覧
+   */
+  private List<StudentDetail> convertStudentDetailsWithStatus(List<Student> studentList) {
+    List<String> studentIds = toStudentIds(studentList);
+    List<StudentCourse> assembledList = parallelQueryExecutor.both(
+        () -> searchInChunks(studentIds, repository::searchStudentCourseListByStudentIds),
+        () -> searchInChunks(studentIds, repository::searchStudentCourseStatusListByStudentIds),
+        studentCourseAssembler::assembleCourseListWithStatus);
+    return converter.convertStudentDetails(studentList, assembledList);
+  }
+
+  /**
+   * 受講生の集計です。地域・性別・コース名・申込状況ごとの件数を返します。
+   * 件数は変更のたびに更新しているカウンターから読み取るため、受講生の一覧は取得しません。
+   *
+   * @return 受講生の集計
+   * @throws ServiceUnavailableException 起動直後で集計が作成されていない場合
+   */
+  public StudentStatistics getStudentStatistics() {
+    if (!studentStatisticsCounter.isReady()) {
+      throw new ServiceUnavailableException("集計の準備中です。しばらくしてから再度お試しください。");
+    }
+    return studentStatisticsCounter.statistics();
   }
 
   /**
-   * 受講生詳細検索です。
+   * 受講生の集計のうち、指定した項目の値ごとの件数を返します。
+   *
+   * @param facet 集計する項目（city, gender, course, status のいずれか）
+   * @return 値ごとの件数
+   * @throws ResourceNotFoundException 集計する項目が存在しない場合
+   */
+  public Map<String, Long> getStudentStatistics(String facet) {
+    StudentStatistics studentStatistics = getStudentStatistics();
+    return switch (facet) {
+      case "city" -> studentStatistics.getCity();
+      case "gender" -> studentStatistics.getGender();
+      case "course" -> studentStatistics.getCourseName();
+      case "status" -> studentStatistics.getStatus();
+      default -> throw new ResourceNotFoundException("集計する項目が見つかりません。項目: " + facet);
+    };
+  }
+
+  /**
+   * ふりがなの入力補完です。ふりがなが指定した文字列で始まる受講生を、ふりがなの五十音順にlimit件まで返します。
+   * メモリ上のトライ木だけを検索し、データベースにはアクセスしません。
+   * 起動直後でトライ木が作成されていない場合は空の一覧を返します。
+   *
+   * @param prefix ふりがなの先頭部分
+   * @param limit 最大件数
+   * @return 受講生の候補
+   */
+  public List<StudentSuggestion> suggestStudents(String prefix, int limit) {
+    if (prefix == null || prefix.isBlank()) {
+      throw new BadRequestException("prefixを指定してください。");
+    }
+    if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+      throw new BadRequestException("limitは1以上" + MAX_SUGGEST_LIMIT + "以下で指定してください。");
+    }
+    if (!studentFuriganaTrie.isReady()) {
+      return List.of();
+    }
+    return studentFuriganaTrie.suggest(prefix, limit);
+  }
+
+  /**
+   * 受講生の条件検索を行う。
+   * 名前が指定された場合は、受講生名インデックスで名前の部分一致を受講生IDに絞り込んでから、残りの条件で検索する。
+   * 名前はインデックスで表記をそろえて（全角・半角、カタカナ・ひらがな）照合するため、SQLの部分一致では同じ結果にならない。
+   * そのため、起動直後でインデックスが作成されていない場合は検索しない。
+   * 表記をそろえた名前が空（空白だけなど）の場合は、名前を指定しなかったものとして扱う。
+   *
+   * @param studentSearchCondition 受講生検索条件
+   * @return 受講生一覧（条件検索）
+   * @throws ServiceUnavailableException 名前が指定され、起動直後でインデックスが作成されていない場合
+   */
+  private List<Student> searchStudentByCondition(StudentSearchCondition studentSearchCondition) {
+    validateAgeRange(studentSearchCondition);
+    String name = studentSearchCondition.getName();
+    if (NameNormalizer.normalize(name).isEmpty()) {
+      return repository.searchStudentByCondition(studentSearchCondition);
+    }
+    if (!studentNameIndex.isReady()) {
+      throw new ServiceUnavailableException("名前による検索の準備中です。しばらくしてから再度お試しください。");
+    }
+    List<String> studentIds = studentNameIndex.searchStudentIds(name);
+    return searchInChunks(studentIds,
+        chunk -> repository.searchStudentByConditionInIds(studentSearchCondition, chunk));
+  }
+
+  /**
+   * 検索条件の年齢の範囲が正しいかを確認する。
+   *
+   * @param studentSearchCondition 受講生検索条件
+   */
+  private static void validateAgeRange(StudentSearchCondition studentSearchCondition) {
+    Integer minAge = studentSearchCondition.getMinAge();
+    Integer maxAge = studentSearchCondition.getMaxAge();
+    if (minAge != null && maxAge != null && minAge > maxAge) {
+      throw new BadRequestException("minAgeはmaxAge以下で指定してください。");
+    }
+  }
+
+  /**
+   * 1ページの件数が範囲内かを確認する。
+   *
+   * @param limit 1ページの件数
+   */
+  private static void validatePageLimit(int limit) {
+    if (limit < 1 || limit > MAX_PAGE_LIMIT) {
+      throw new BadRequestException("limitは1以上" + MAX_PAGE_LIMIT + "以下で指定してください。");
+    }
+  }
+
+  /**
+   * ページの最後の受講生IDから次のページのカーソルを作成する。
+   * カーソルの中身はクライアントに依存させないよう、Base64でエンコードして返す。
+   *
+   * @param pageStudentDetailList 1ページ分の受講生詳細一覧
+   * @return 次のページのカーソル
+   */
+  private static String encodeCursor(List<StudentDetail> pageStudentDetailList) {
+    String lastStudentId = pageStudentDetailList.get(pageStudentDetailList.size() - 1).getStudent().getStudentId();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(lastStudentId.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * カーソルから前のページの最後の受講生IDを取り出す。
+   *
+   * @param cursor カーソル。先頭ページの場合はnull。
+   * @return 前のページの最後の受講生ID。先頭ページの場合はnull。
+   */
+  private static String decodeCursor(String cursor) {
+    if (cursor == null || cursor.isEmpty()) {
+      return null;
+    }
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new BadRequestException("カーソルが不正です。", e);
+    }
+  }
+
+  /**
+   * 受講生一覧から受講生IDの一覧を作成する。
+   *
+   * @param studentList 受講生一覧
+   * @return 受講生IDの一覧
+   */
+  private static List<String> toStudentIds(List<Student> studentList) {
+    List<String> studentIds = new ArrayList<>(studentList.size());
+    for (Student student : studentList) {
+      studentIds.add(student.getStudentId());
+    }
+    return studentIds;
+  }
+
+  /**
+   * IDの一覧をIN句の上限件数ごとに分割して検索し、結果を1つのリストにまとめる。
+   * IDの一覧が空の場合は検索を行わずに空のリストを返す。
+   *
+   * @param ids 検索条件のIDの一覧
+   * @param query 分割したIDの一覧で検索を行う処理
+   * @return 検索結果をまとめたリスト
+   */
+  public static <T> List<T> searchInChunks(List<String> ids, Function<List<String>, List<T>> query) {
+    List<T> result = new ArrayList<>();
+    for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+      result.addAll(query.apply(ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()))));
+    }
+    return result;
+  }
+
+  /**
+   * 受講生詳細検索です。 検索結果は受講生IDごとにキャッシュします。
    *
    * @param studentId 受講生ID
    * @return IDで検索した受講生詳細情報（単一の受講生情報+受講生コース情報）。
    */
   public StudentDetail searchStudentById(String studentId) {
-    Student student = repository.searchStudentById(studentId);
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseListById(student.getStudentId());
-    return new StudentDetail(student, studentCourseList);
+    return studentDetailCache.get(CacheConfig.STUDENT_DETAIL, studentId, () -> {
+      Student student = repository.searchStudentById(studentId);
+      List<StudentCourse> studentCourseList = repository.searchStudentCourseListById(student.getStudentId());
+      return new StudentDetail(student, studentCourseList);
+    });
   }
 
   /**
@@ -114,17 +428,20 @@ public class StudentService {
 
   /**
    * コース申込状況を含む受講生詳細検索です。
+   * 受講生・受講生コース情報・コース申込状況は1回の結合クエリでまとめて取得し、受講生IDごとにキャッシュします。
    *
    * @param studentId 受講生ID
    * @return IDで検索した受講生詳細情報（単一の受講生情報+受講生コース情報+コース申込状況）。
+   * @throws ResourceNotFoundException 受講生が存在しない場合
    */
   public StudentDetail searchStudentByIdWithStatus(String studentId) {
-    Student student = repository.searchStudentById(studentId);
-    List<StudentCourse> studentCourseList = repository.searchStudentCourseListById(student.getStudentId());
-    List<StudentCourseStatus> studentCourseStatusList = repository.searchStudentCourseStatusList();
-    List<StudentCourse> assembledList = studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList);
-
-    return new StudentDetail(student, assembledList);
+    return studentDetailCache.get(CacheConfig.STUDENT_DETAIL_WITH_STATUS, studentId, () -> {
+      StudentDetail studentDetail = repository.searchStudentDetailByIdWithStatus(studentId);
+      if (studentDetail == null) {
+        throw new ResourceNotFoundException("受講生が見つかりません。受講生ID: " + studentId);
+      }
+      return studentDetail;
+    });
   }
 
   /**
@@ -137,7 +454,7 @@ public class StudentService {
   @Transactional
   public StudentDetail registerStudent(StudentDetail studentDetail) {
     Student student = studentDetail.getStudent();
-    student.setStudentId(UUID.randomUUID().toString());
+    initStudent(student);
     repository.registerStudent(student);
 
     studentDetail.getStudentCourseList().forEach(studentCourse -> {
@@ -149,16 +466,26 @@ public class StudentService {
       repository.registerStudentCourseStatus(studentCourseStatus);
     });
 
+    publishStudentChanged(ChangeType.REGISTERED, student.getStudentId());
     return studentDetail;
   }
 
+  /**
+   * 受講生を登録する際の初期情報を設定する。
+   *
+   * @param student 受講生
+   */
+  static void initStudent(Student student) {
+    student.setStudentId(UUID.randomUUID().toString());
+  }
+
   /**
    * 受講生コース情報を登録する際の初期情報を設定する。
    *
    * @param studentCourse 受講生コース情報
    * @param student 受講生
    */
-  private void initStudentCourse(StudentCourse studentCourse, Student student) {
+  static void initStudentCourse(StudentCourse studentCourse, Student student) {
     LocalDate now = LocalDate.now();
 
     studentCourse.setCourseId(UUID.randomUUID().toString());
@@ -173,7 +500,7 @@ public class StudentService {
    * @param studentCourse 受講生コース情報
    * @return コース申込状況
    */
-  private StudentCourseStatus initStudentCourseStatus(StudentCourse studentCourse) {
+  static StudentCourseStatus initStudentCourseStatus(StudentCourse studentCourse) {
     StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
     studentCourseStatus.setStatusId(UUID.randomUUID().toString());
     studentCourseStatus.setCourseId(studentCourse.getCourseId());
@@ -192,6 +519,7 @@ public class StudentService {
     repository.updateStudent(studentDetail.getStudent());
     studentDetail.getStudentCourseList()
         .forEach(repository::updateStudentCourse);
+    publishStudentChanged(ChangeType.UPDATED, studentDetail.getStudent().getStudentId());
   }
 
   /**
@@ -202,6 +530,7 @@ public class StudentService {
   @Transactional
   public void updateStudentCourseStatus(StudentCourseStatus studentCourseStatus){
     repository.updateStudentCourseStatus(studentCourseStatus);
+    publishStudentChanged(ChangeType.UPDATED, repository.searchStudentIdByStatusId(studentCourseStatus.getStatusId()));
   }
 
   /**
@@ -212,6 +541,20 @@ public class StudentService {
   @Transactional
   public void localDeleteStudent(String studentId) {
     repository.localDeleteStudent(studentId);
+    publishStudentChanged(ChangeType.DELETED, studentId);
+  }
+
+  /**
+   * 受講生詳細の変更イベントを発行します。
+   * キャッシュの破棄などはイベントを受け取った側で、トランザクションのコミット後に行います。
+   *
+   * @param changeType 変更の種類
+   * @param studentId 変更した受講生ID。該当する受講生がいない場合はnull。
+   */
+  private void publishStudentChanged(ChangeType changeType, String studentId) {
+    if (studentId != null) {
+      eventPublisher.publishEvent(new StudentChangedEvent(changeType, List.of(studentId)));
+    }
   }
 
 }
\ No newline at end of file
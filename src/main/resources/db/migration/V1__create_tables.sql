@@ -1,3 +1,4 @@
+-- 受講生、受講生コース情報、コース申込状況のテーブルを作成する（既存の本番データベースではベースラインとして扱い、実行しない）
 CREATE TABLE IF NOT EXISTS students (
   student_id VARCHAR(36) NOT NULL,
   name VARCHAR(100) NOT NULL,
@@ -26,4 +27,4 @@ CREATE TABLE IF NOT EXISTS students_courses_status (
   course_id VARCHAR(36) NOT NULL,
   status VARCHAR(50) NOT NULL,
   PRIMARY KEY (status_id)
-);
\ No newline at end of file
+);
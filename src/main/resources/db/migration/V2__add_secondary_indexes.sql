@@ -0,0 +1,8 @@
+-- 受講生IDから受講生コース情報を引く検索・結合（受講生詳細検索、受講生IDの一覧での検索）用
+CREATE INDEX idx_students_courses_student_id ON students_courses (student_id);
+
+-- コースIDからコース申込状況を引く検索・結合用
+CREATE INDEX idx_students_courses_status_course_id ON students_courses_status (course_id);
+
+-- 受講生の条件検索（論理削除フラグ、地域、性別）用
+CREATE INDEX idx_students_is_deleted_city_gender ON students (is_deleted, city, gender);
@@ -0,0 +1,2 @@
+-- コース名でコース申込状況を絞り込む一括更新（コース名・現在の申込状況の指定）用
+CREATE INDEX idx_students_courses_course_name ON students_courses (course_name);
@@ -0,0 +1,5 @@
+-- 受講生の条件検索（論理削除フラグ、年齢の範囲）用
+CREATE INDEX idx_students_is_deleted_age ON students (is_deleted, age);
+
+-- 受講生の条件検索（申込状況）用。申込状況からコースIDを引き、受講生コース情報に結合する
+CREATE INDEX idx_students_courses_status_status_course_id ON students_courses_status (status, course_id);
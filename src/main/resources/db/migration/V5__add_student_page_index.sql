@@ -0,0 +1,2 @@
+-- 受講生のページ検索（キーセットページング）用。論理削除されていない受講生を受講生IDの順に、指定した受講生IDの位置から読み込む
+CREATE INDEX idx_students_is_deleted_student_id ON students (is_deleted, student_id);
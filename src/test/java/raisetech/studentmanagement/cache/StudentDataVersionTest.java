@@ -0,0 +1,34 @@
+package raisetech.studentmanagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+
+class StudentDataVersionTest {
+
+  private final StudentDataVersion sut = new StudentDataVersion();
+
+  @Test
+  void 受講生詳細が変更されるたびにバージョンが上がりETagが変わること() {
+    String before = sut.etag();
+
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.DELETED, List.of("2")));
+
+    assertThat(sut.current()).isEqualTo(2);
+    assertThat(sut.etag()).isNotEqualTo(before);
+  }
+
+  @Test
+  void 変更がなければ同じETagが返されること() {
+    assertThat(sut.etag()).isEqualTo(sut.etag());
+  }
+
+  @Test
+  void ETagが引用符で囲まれた強いETagであること() {
+    assertThat(sut.etag()).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+  }
+}
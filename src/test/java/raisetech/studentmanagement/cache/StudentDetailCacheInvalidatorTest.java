@@ -0,0 +1,44 @@
+package raisetech.studentmanagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import raisetech.studentmanagement.config.CacheConfig;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+
+class StudentDetailCacheInvalidatorTest {
+
+  private CacheManager cacheManager;
+
+  private StudentDetailCacheInvalidator sut;
+
+  @BeforeEach
+  void before() {
+    cacheManager = new CacheConfig().cacheManager(100, Duration.ofMinutes(10));
+    sut = new StudentDetailCacheInvalidator(cacheManager);
+  }
+
+  @Test
+  void 変更された受講生のキャッシュだけが破棄されること() {
+    Cache studentDetailCache = cacheManager.getCache(CacheConfig.STUDENT_DETAIL);
+    Cache studentDetailWithStatusCache = cacheManager.getCache(CacheConfig.STUDENT_DETAIL_WITH_STATUS);
+    studentDetailCache.put("1", new StudentDetail());
+    studentDetailCache.put("2", new StudentDetail());
+    studentDetailWithStatusCache.put("1", new StudentDetail());
+    studentDetailWithStatusCache.put("2", new StudentDetail());
+
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+
+    assertThat(studentDetailCache.get("1")).isNull();
+    assertThat(studentDetailWithStatusCache.get("1")).isNull();
+    assertThat(studentDetailCache.get("2")).isNotNull();
+    assertThat(studentDetailWithStatusCache.get("2")).isNotNull();
+  }
+}
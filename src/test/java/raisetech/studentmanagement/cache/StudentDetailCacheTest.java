@@ -0,0 +1,93 @@
+package raisetech.studentmanagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import raisetech.studentmanagement.config.CacheConfig;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+
+class StudentDetailCacheTest {
+
+  private CacheManager cacheManager;
+
+  private StudentDataVersion dataVersion;
+
+  private StudentDetailCacheInvalidator invalidator;
+
+  private StudentDetailCache sut;
+
+  @BeforeEach
+  void before() {
+    cacheManager = new CacheConfig().cacheManager(100, Duration.ofMinutes(10));
+    dataVersion = new StudentDataVersion();
+    invalidator = new StudentDetailCacheInvalidator(cacheManager);
+    sut = new StudentDetailCache(cacheManager, dataVersion);
+  }
+
+  @Test
+  void キャッシュにない受講生詳細は読み込んで登録され次からはキャッシュから返ってくること() {
+    StudentDetail loaded = new StudentDetail();
+
+    StudentDetail first = sut.get(CacheConfig.STUDENT_DETAIL, "1", () -> loaded);
+    StudentDetail second = sut.get(CacheConfig.STUDENT_DETAIL, "1", () -> new StudentDetail());
+
+    assertThat(first).isSameAs(loaded);
+    assertThat(second).isSameAs(loaded);
+  }
+
+  @Test
+  void 読み込み中に変更がコミットされた場合は読み込んだ受講生詳細がキャッシュに残らないこと() {
+    StudentDetail stale = new StudentDetail();
+
+    StudentDetail actual = sut.get(CacheConfig.STUDENT_DETAIL, "1", () -> {
+      // 古い受講生詳細を読み込んだ後、登録する前に別のトランザクションがコミットしてキャッシュを破棄する
+      commit("1");
+      return stale;
+    });
+
+    assertThat(actual).isSameAs(stale);
+    assertThat(cache().get("1")).isNull();
+    StudentDetail reloaded = new StudentDetail();
+    assertThat(sut.get(CacheConfig.STUDENT_DETAIL, "1", () -> reloaded)).isSameAs(reloaded);
+  }
+
+  @Test
+  void 登録する直前に変更がコミットされた場合も読み込んだ受講生詳細がキャッシュに残らないこと() {
+    // 読み込み後のバージョンの確認と登録の間にコミットされ、破棄が登録より先に行われる場合を再現する
+    ConcurrentMapCache racingCache = new ConcurrentMapCache(CacheConfig.STUDENT_DETAIL) {
+      @Override
+      public void put(Object key, Object value) {
+        commit("1");
+        super.put(key, value);
+      }
+    };
+    SimpleCacheManager racingCacheManager = new SimpleCacheManager();
+    racingCacheManager.setCaches(List.of(racingCache, new ConcurrentMapCache(CacheConfig.STUDENT_DETAIL_WITH_STATUS)));
+    racingCacheManager.afterPropertiesSet();
+    invalidator = new StudentDetailCacheInvalidator(racingCacheManager);
+    sut = new StudentDetailCache(racingCacheManager, dataVersion);
+
+    sut.get(CacheConfig.STUDENT_DETAIL, "1", StudentDetail::new);
+
+    assertThat(racingCache.get("1")).isNull();
+  }
+
+  private void commit(String studentId) {
+    StudentChangedEvent event = new StudentChangedEvent(ChangeType.UPDATED, List.of(studentId));
+    dataVersion.onStudentChanged(event);
+    invalidator.onStudentChanged(event);
+  }
+
+  private Cache cache() {
+    return cacheManager.getCache(CacheConfig.STUDENT_DETAIL);
+  }
+}
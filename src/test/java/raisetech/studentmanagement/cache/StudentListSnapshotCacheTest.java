@@ -0,0 +1,185 @@
+package raisetech.studentmanagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentListSnapshotCacheTest {
+
+  // 予約した作り直しがテスト中に実行されないよう、待ち時間を長くする
+  private static final Duration DEBOUNCE = Duration.ofHours(1);
+
+  @Mock
+  private StudentRepository repository;
+
+  private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+  private final StudentDataVersion dataVersion = new StudentDataVersion();
+  private StudentListSnapshotCache sut;
+
+  @AfterEach
+  void after() {
+    sut.shutdown();
+  }
+
+  @Test
+  void 一覧のJSONとそれを圧縮したものが作成されること() throws Exception {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+    List<StudentDetail> studentDetailList = List.of(studentDetail("1", "鈴木大介"), studentDetail("2", "中田花奈"));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(studentDetailList);
+
+    sut.rebuild();
+
+    StudentListSnapshot actual = sut.getSnapshot();
+    byte[] expected = objectMapper.writeValueAsBytes(studentDetailList);
+    assertThat(actual.version()).isEqualTo(dataVersion.current());
+    assertThat(actual.json()).isEqualTo(expected);
+    assertThat(readAll(new GZIPInputStream(new ByteArrayInputStream(actual.gzip())))).isEqualTo(expected);
+    assertThat(readAll(new InflaterInputStream(new ByteArrayInputStream(actual.deflate())))).isEqualTo(expected);
+  }
+
+  @Test
+  void 作成前は一覧が返されないこと() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+
+    assertThat(sut.getSnapshot()).isNull();
+  }
+
+  @Test
+  void 変更後も古い一覧を返してよい時間内は古い一覧が返されること() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofMegabytes(1));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+    sut.rebuild();
+
+    changeStudent();
+
+    assertThat(sut.getSnapshot()).isNotNull();
+  }
+
+  @Test
+  void 変更後に古い一覧を返してよい時間を過ぎた場合は一覧が返されないこと() {
+    sut = newCache(Duration.ZERO, DataSize.ofMegabytes(1));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+    sut.rebuild();
+
+    changeStudent();
+
+    assertThat(sut.getSnapshot()).isNull();
+  }
+
+  @Test
+  void 作り直した後は新しいバージョンの一覧が返されること() {
+    sut = newCache(Duration.ZERO, DataSize.ofMegabytes(1));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+    sut.rebuild();
+    changeStudent();
+
+    sut.rebuild();
+
+    assertThat(sut.getSnapshot().version()).isEqualTo(dataVersion.current());
+  }
+
+  @Test
+  void 上限を超える場合は一覧を保持しないこと() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofBytes(10));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+
+    sut.rebuild();
+
+    assertThat(sut.getSnapshot()).isNull();
+  }
+
+  @Test
+  void 上限を超えた後は待ち時間の間は作り直さないこと() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofBytes(10), Duration.ofHours(1));
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+    sut.rebuild();
+    changeStudent();
+
+    sut.rebuild();
+
+    verify(repository, times(1)).searchStudentDetailListWithStatus();
+    assertThat(sut.getSnapshot()).isNull();
+  }
+
+  @Test
+  void 上限を超えた後も待ち時間を過ぎた場合は作り直すこと() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofBytes(10), Duration.ZERO);
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of(studentDetail("1", "鈴木大介")));
+    sut.rebuild();
+    changeStudent();
+
+    sut.rebuild();
+
+    verify(repository, times(2)).searchStudentDetailListWithStatus();
+  }
+
+  @Test
+  void 上限を超えた後に上限内に収まった場合は一覧を保持すること() {
+    sut = newCache(Duration.ofMinutes(1), DataSize.ofBytes(200), Duration.ZERO);
+    List<StudentDetail> large = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      large.add(studentDetail(String.valueOf(i), "受講生" + i));
+    }
+    when(repository.searchStudentDetailListWithStatus())
+        .thenReturn(large)
+        .thenReturn(List.of());
+    sut.rebuild();
+    changeStudent();
+
+    sut.rebuild();
+
+    assertThat(sut.getSnapshot()).isNotNull();
+  }
+
+  private StudentListSnapshotCache newCache(Duration maxStaleness, DataSize maxBytes) {
+    return newCache(maxStaleness, maxBytes, Duration.ofMinutes(10));
+  }
+
+  private StudentListSnapshotCache newCache(Duration maxStaleness, DataSize maxBytes, Duration oversizeBackoff) {
+    return new StudentListSnapshotCache(repository, objectMapper, dataVersion, true, DEBOUNCE, maxStaleness, maxBytes,
+        oversizeBackoff);
+  }
+
+  private void changeStudent() {
+    StudentChangedEvent event = new StudentChangedEvent(ChangeType.UPDATED, List.of("1"));
+    dataVersion.onStudentChanged(event);
+    sut.onStudentChanged(event);
+  }
+
+  private static StudentDetail studentDetail(String studentId, String name) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setName(name);
+    return new StudentDetail(student, List.of());
+  }
+
+  private static byte[] readAll(InputStream inputStream) throws IOException {
+    try (inputStream) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
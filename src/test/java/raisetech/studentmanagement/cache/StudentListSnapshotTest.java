@@ -0,0 +1,38 @@
+package raisetech.studentmanagement.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class StudentListSnapshotTest {
+
+  private final StudentListSnapshot sut = new StudentListSnapshot(1, new byte[] {1}, new byte[] {2}, new byte[] {3});
+
+  @Test
+  void gzipを受け付ける場合はgzipで圧縮したものが選ばれること() {
+    StudentListSnapshot.Encoded actual = sut.encode("deflate, gzip;q=0.8, br");
+
+    assertThat(actual.contentEncoding()).isEqualTo("gzip");
+    assertThat(actual.body()).containsExactly(2);
+  }
+
+  @Test
+  void deflateだけを受け付ける場合はdeflateで圧縮したものが選ばれること() {
+    StudentListSnapshot.Encoded actual = sut.encode("gzip;q=0, deflate");
+
+    assertThat(actual.contentEncoding()).isEqualTo("deflate");
+    assertThat(actual.body()).containsExactly(3);
+  }
+
+  @Test
+  void 圧縮形式を受け付けない場合は圧縮していないJSONが選ばれること() {
+    assertThat(sut.encode(null).contentEncoding()).isNull();
+    assertThat(sut.encode("identity").body()).containsExactly(1);
+    assertThat(sut.encode("*;q=0").contentEncoding()).isNull();
+  }
+
+  @Test
+  void 形式を名前で指定している場合はワイルドカードより優先されること() {
+    assertThat(sut.encode("*, gzip;q=0").contentEncoding()).isEqualTo("deflate");
+  }
+}
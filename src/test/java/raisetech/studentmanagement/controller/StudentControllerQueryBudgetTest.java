@@ -0,0 +1,74 @@
+package raisetech.studentmanagement.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import raisetech.studentmanagement.metrics.AssertQueryBudget;
+
+/**
+ * コントローラーからデータベースまで通して、1リクエストで実行するステートメントの件数を確認するテストです。
+ * 一覧・詳細の検索で受講生ごとにステートメントを実行する（N+1）変更が入った場合に失敗します。
+ * 保持している一覧から返すとステートメントを実行しないため、一覧の保持は無効にしてデータベースから検索する経路を確認します。
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "studentmanagement.snapshot.student-list.enabled=false")
+class StudentControllerQueryBudgetTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @Test
+  @AssertQueryBudget(maxStatements = 2)
+  void 受講生詳細の一覧検索が受講生の件数によらず2回のステートメントで実行されること() throws Exception {
+    mockMvc.perform(get("/studentList"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @AssertQueryBudget(maxStatements = 1)
+  void コース申込状況を含む受講生詳細の一覧検索が1回のステートメントで実行されること() throws Exception {
+    mockMvc.perform(get("/studentListWithStatus"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @AssertQueryBudget(maxStatements = 2)
+  void 受講生詳細検索が2回以内のステートメントで実行されること() throws Exception {
+    mockMvc.perform(get("/student/{studentId}", "1"))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @AssertQueryBudget(maxStatements = 3)
+  void 絞り込み検索が受講生の件数によらず3回以内のステートメントで実行されること() throws Exception {
+    mockMvc.perform(post("/studentListWithStatus/filter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "operator": "OR",
+                  "conditions": [
+                    {"city": "東京都"},
+                    {"gender": "女性"}
+                  ]
+                }
+                """))
+        .andExpect(status().isOk());
+  }
+
+  @Test
+  @AssertQueryBudget(maxStatements = 0)
+  void 受講生の集計がステートメントを実行せずにカウンターから返されること() throws Exception {
+    mockMvc.perform(get("/stats"))
+        .andExpect(status().isOk());
+  }
+
+}
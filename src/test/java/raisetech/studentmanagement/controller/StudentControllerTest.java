@@ -2,37 +2,70 @@ package raisetech.studentmanagement.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.ibatis.exceptions.PersistenceException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.mybatis.spring.MyBatisSystemException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import raisetech.studentmanagement.cache.StudentDataVersion;
+import raisetech.studentmanagement.cache.StudentListSnapshot;
+import raisetech.studentmanagement.cache.StudentListSnapshotCache;
+import raisetech.studentmanagement.config.BinaryFormatConfig;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
 import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.SearchOperator;
+import raisetech.studentmanagement.domain.StudentCsvImportError;
+import raisetech.studentmanagement.domain.StudentCsvImportResult;
 import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentPage;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
+import raisetech.studentmanagement.domain.StudentStatistics;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.exception.QueryBudgetExceededException;
+import raisetech.studentmanagement.exception.ResourceNotFoundException;
+import raisetech.studentmanagement.exception.ServiceUnavailableException;
 import raisetech.studentmanagement.repository.StudentRepository;
+import raisetech.studentmanagement.service.StudentBulkService;
+import raisetech.studentmanagement.service.StudentCsvService;
 import raisetech.studentmanagement.service.StudentService;
 
 
 @WebMvcTest(StudentController.class)
+@Import({StudentDataVersion.class, BinaryFormatConfig.class})
 class StudentControllerTest {
 
   @Autowired
@@ -41,12 +74,24 @@ class StudentControllerTest {
   @Autowired
   private ObjectMapper objectMapper;
 
+  @Autowired
+  private StudentDataVersion dataVersion;
+
   @MockBean
   private StudentService service;
 
+  @MockBean
+  private StudentBulkService bulkService;
+
+  @MockBean
+  private StudentCsvService csvService;
+
   @MockBean
   private StudentRepository repository;
 
+  @MockBean
+  private StudentListSnapshotCache studentListSnapshotCache;
+
   private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
 
 
@@ -75,6 +120,123 @@ class StudentControllerTest {
     verify(service, times(1)).searchStudentList();
   }
 
+  @Test
+  void 受講生の集計が返ってくること() throws Exception {
+    when(service.getStudentStatistics()).thenReturn(new StudentStatistics(2, Map.of("東京都", 2L),
+        Map.of("男性", 2L), Map.of("Java基礎", 1L), Map.of("受講中", 1L)));
+
+    mockMvc.perform(get("/stats"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {
+                "studentCount": 2,
+                "city": {"東京都": 2},
+                "gender": {"男性": 2},
+                "courseName": {"Java基礎": 1},
+                "status": {"受講中": 1}
+            }
+            """));
+  }
+
+  @Test
+  void 項目ごとの受講生の集計が返ってきて存在しない項目の場合は404が返ってくること() throws Exception {
+    when(service.getStudentStatistics("gender")).thenReturn(Map.of("男性", 3L, "女性", 1L));
+    when(service.getStudentStatistics("email")).thenThrow(new ResourceNotFoundException("集計する項目が見つかりません。"));
+
+    mockMvc.perform(get("/stats/gender"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {"男性": 3, "女性": 1}
+            """));
+    mockMvc.perform(get("/stats/email"))
+        .andExpect(status().isNotFound());
+  }
+
+  @Test
+  void ふりがなの入力補完で候補が返ってくること() throws Exception {
+    when(service.suggestStudents("すず", 10))
+        .thenReturn(List.of(new StudentSuggestion("1", "鈴木大介", "すずきだいすけ")));
+
+    mockMvc.perform(get("/students/suggest").param("prefix", "すず"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            [
+                {"studentId": "1", "name": "鈴木大介", "furigana": "すずきだいすけ"}
+            ]
+            """));
+
+    verify(service, times(1)).suggestStudents("すず", 10);
+  }
+
+  @Test
+  void ふりがなの入力補完でprefixが指定されていない場合は400が返ってくること() throws Exception {
+    when(service.suggestStudents(null, 10)).thenThrow(new BadRequestException("prefixを指定してください。"));
+
+    mockMvc.perform(get("/students/suggest"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void 受講生詳細の一覧検索でlimitを指定するとページ検索が実行されて次ページのカーソルが返ってくること() throws Exception {
+    when(service.searchStudentPage(null, 2)).thenReturn(new StudentPage(List.of(), "next-cursor"));
+
+    mockMvc.perform(get("/studentList").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {
+                "studentDetailList": [],
+                "nextCursor": "next-cursor"
+            }
+            """));
+
+    verify(service, times(1)).searchStudentPage(null, 2);
+    verify(service, times(0)).searchStudentList();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索でcursorだけを指定すると既定の件数でページ検索が実行されること() throws Exception {
+    when(service.searchStudentPageWithStatus("cursor", 100)).thenReturn(new StudentPage(List.of(), null));
+
+    mockMvc.perform(get("/studentListWithStatus").param("cursor", "cursor"))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {
+                "studentDetailList": [],
+                "nextCursor": null
+            }
+            """));
+
+    verify(service, times(1)).searchStudentPageWithStatus("cursor", 100);
+  }
+
+  @Test
+  void 受講生詳細のストリーミング出力で1行に1件の受講生詳細が返ってくること() throws Exception {
+    Student student1 = new Student();
+    student1.setStudentId("test-id-1");
+    Student student2 = new Student();
+    student2.setStudentId("test-id-2");
+    doAnswer(invocation -> {
+      Consumer<StudentDetail> consumer = invocation.getArgument(0);
+      consumer.accept(new StudentDetail(student1, List.of()));
+      consumer.accept(new StudentDetail(student2, List.of()));
+      return null;
+    }).when(service).streamStudentList(any());
+
+    MvcResult mvcResult = mockMvc.perform(get("/studentList/stream"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    String body = mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("application/x-ndjson"))
+        .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+    String[] lines = body.split("\n");
+    assertThat(lines).hasSize(2);
+    assertThat(objectMapper.readValue(lines[0], StudentDetail.class).getStudent().getStudentId()).isEqualTo("test-id-1");
+    assertThat(objectMapper.readValue(lines[1], StudentDetail.class).getStudent().getStudentId()).isEqualTo("test-id-2");
+  }
+
   @Test
   void 受講生詳細の条件検索が実行できて空のリストが返ってくること() throws Exception {
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
@@ -99,6 +261,208 @@ class StudentControllerTest {
     verify(service, times(1)).searchStudentListWithStatus();
   }
 
+  @Test
+  void 受講生詳細の一覧検索でETagが返ってくること() throws Exception {
+    mockMvc.perform(get("/studentList"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", dataVersion.etag()));
+  }
+
+  @Test
+  void 受講生詳細の一覧検索でETagが一致する場合は検索せずに304が返ってくること() throws Exception {
+    mockMvc.perform(get("/studentList").header("If-None-Match", dataVersion.etag()))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(service, times(0)).searchStudentList();
+  }
+
+  @Test
+  void 受講生詳細が変更された後は以前のETagで検索が実行されること() throws Exception {
+    String etag = dataVersion.etag();
+    dataVersion.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+
+    mockMvc.perform(get("/studentListWithStatus").header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(header().string("ETag", dataVersion.etag()));
+
+    verify(service, times(1)).searchStudentListWithStatus();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索で保持している一覧があれば検索せずに圧縮したものが返ってくること() throws Exception {
+    byte[] gzip = {31, -117, 8};
+    when(studentListSnapshotCache.getSnapshot())
+        .thenReturn(new StudentListSnapshot(dataVersion.current(), "[]".getBytes(StandardCharsets.UTF_8), gzip, new byte[0]));
+
+    mockMvc.perform(get("/studentListWithStatus").header("Accept-Encoding", "gzip, deflate"))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Encoding", "gzip"))
+        .andExpect(header().stringValues("Vary", "Accept", "Accept-Encoding"))
+        .andExpect(header().string("ETag", dataVersion.etag(dataVersion.current(), "gzip")))
+        .andExpect(content().bytes(gzip));
+
+    verify(service, times(0)).searchStudentListWithStatus();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索で保持している一覧のETagが一致する場合は304が返ってくること() throws Exception {
+    when(studentListSnapshotCache.getSnapshot())
+        .thenReturn(new StudentListSnapshot(dataVersion.current(), "[]".getBytes(StandardCharsets.UTF_8), new byte[0], new byte[0]));
+
+    mockMvc.perform(get("/studentListWithStatus").header("If-None-Match", dataVersion.etag()))
+        .andExpect(status().isNotModified());
+
+    verify(service, times(0)).searchStudentListWithStatus();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索でCBORを指定した場合は保持している一覧を使わずにCBORで返ってくること() throws Exception {
+    Student student = new Student();
+    student.setStudentId("test-id-123");
+    student.setName("テスト太郎");
+    when(service.searchStudentListWithStatus()).thenReturn(List.of(new StudentDetail(student, List.of())));
+
+    MvcResult result = mockMvc.perform(get("/studentListWithStatus").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().string("ETag", dataVersion.etag(dataVersion.current(), "cbor")))
+        .andReturn();
+
+    JsonNode actual = Jackson2ObjectMapperBuilder.cbor().build().readTree(result.getResponse().getContentAsByteArray());
+    assertThat(actual.get(0).get("student").get("name").asText()).isEqualTo("テスト太郎");
+    verify(studentListSnapshotCache, times(0)).getSnapshot();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索で優先度の高い形式を返せない場合は次に優先される形式で返ってくること() throws Exception {
+    when(service.searchStudentListWithStatus()).thenReturn(List.of());
+
+    mockMvc.perform(get("/studentListWithStatus").header("Accept", "text/html, application/cbor;q=0.9"))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andExpect(header().string("ETag", dataVersion.etag(dataVersion.current(), "cbor")));
+
+    verify(studentListSnapshotCache, times(0)).getSnapshot();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の一覧検索でJSONを受け付けない場合は保持している一覧を返さないこと() throws Exception {
+    when(studentListSnapshotCache.getSnapshot())
+        .thenReturn(new StudentListSnapshot(dataVersion.current(), "[]".getBytes(StandardCharsets.UTF_8), new byte[0], new byte[0]));
+
+    mockMvc.perform(get("/studentListWithStatus").accept(MediaType.TEXT_HTML));
+
+    verify(studentListSnapshotCache, times(0)).getSnapshot();
+  }
+
+  @Test
+  void 受講生詳細検索でSmileを指定した場合はSmileで返ってくること() throws Exception {
+    Student student = new Student();
+    student.setStudentId("test-id-123");
+    student.setName("テスト太郎");
+    when(service.searchStudentById("test-id-123")).thenReturn(new StudentDetail(student, List.of()));
+
+    MvcResult result = mockMvc.perform(get("/student/{studentId}", "test-id-123").accept(BinaryFormatConfig.APPLICATION_SMILE))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(BinaryFormatConfig.APPLICATION_SMILE))
+        .andReturn();
+
+    JsonNode actual = Jackson2ObjectMapperBuilder.smile().build().readTree(result.getResponse().getContentAsByteArray());
+    assertThat(actual.get("student").get("studentId").asText()).isEqualTo("test-id-123");
+  }
+
+  @Test
+  void 受講生詳細検索ではJSON_CBOR_304のどのレスポンスでもVaryにAcceptが設定されること() throws Exception {
+    when(service.searchStudentById("1")).thenReturn(new StudentDetail(new Student(), List.of()));
+
+    mockMvc.perform(get("/student/{studentId}", "1").accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues("Vary", "Accept"));
+    mockMvc.perform(get("/student/{studentId}", "1").accept(MediaType.APPLICATION_CBOR))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues("Vary", "Accept"));
+    mockMvc.perform(get("/student/{studentId}", "1").header("If-None-Match", dataVersion.etag()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().stringValues("Vary", "Accept"));
+  }
+
+  @Test
+  void 受講生の集計と入力補完でもVaryにAcceptが設定されること() throws Exception {
+    when(service.getStudentStatistics("city")).thenReturn(Map.of("東京都", 1L));
+    when(service.suggestStudents("すず", 10)).thenReturn(List.of());
+
+    mockMvc.perform(get("/stats/{facet}", "city"))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues("Vary", "Accept"));
+    mockMvc.perform(get("/students/suggest").param("prefix", "すず"))
+        .andExpect(status().isOk())
+        .andExpect(header().stringValues("Vary", "Accept"));
+  }
+
+  @Test
+  void 受講生詳細検索でJSONのETagを指定してもCBORの場合は304にならないこと() throws Exception {
+    when(service.searchStudentById("1")).thenReturn(new StudentDetail(new Student(), List.of()));
+
+    mockMvc.perform(get("/student/{studentId}", "1")
+            .accept(MediaType.APPLICATION_CBOR)
+            .header("If-None-Match", dataVersion.etag()))
+        .andExpect(status().isOk());
+
+    verify(service, times(1)).searchStudentById("1");
+  }
+
+  @Test
+  void 受講生詳細の一括登録でCBORのリクエストを受け付けてCBORで返ってくること() throws Exception {
+    when(bulkService.registerStudents(any())).thenReturn(List.of(StudentRegistrationResult.registered(0, "test-id-1")));
+    ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+    Student student = new Student();
+    student.setName("テスト太郎");
+
+    MvcResult result = mockMvc.perform(post("/registerStudents")
+            .contentType(MediaType.APPLICATION_CBOR)
+            .accept(MediaType.APPLICATION_CBOR)
+            .content(cborMapper.writeValueAsBytes(List.of(new StudentDetail(student, List.of())))))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+        .andReturn();
+
+    JsonNode actual = cborMapper.readTree(result.getResponse().getContentAsByteArray());
+    assertThat(actual.get(0).get("studentId").asText()).isEqualTo("test-id-1");
+    verify(bulkService, times(1)).registerStudents(
+        Mockito.argThat(studentDetailList -> studentDetailList.get(0).getStudent().getName().equals("テスト太郎")));
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細検索でETagが一致する場合は検索せずに304が返ってくること() throws Exception {
+    mockMvc.perform(get("/studentWithCourseStatus/{studentId}", "1").header("If-None-Match", dataVersion.etag()))
+        .andExpect(status().isNotModified());
+
+    verify(service, times(0)).searchStudentByIdWithStatus(any());
+  }
+
+  @Test
+  void 受講生詳細検索で受講生が見つからない場合は404にETagが設定されないこと() throws Exception {
+    when(service.searchStudentById("missing")).thenThrow(new ResourceNotFoundException("受講生が見つかりません。"));
+    when(service.searchStudentByIdWithStatus("missing")).thenThrow(new ResourceNotFoundException("受講生が見つかりません。"));
+
+    mockMvc.perform(get("/student/{studentId}", "missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().doesNotExist("ETag"));
+    mockMvc.perform(get("/studentWithCourseStatus/{studentId}", "missing"))
+        .andExpect(status().isNotFound())
+        .andExpect(header().doesNotExist("ETag"));
+  }
+
+  @Test
+  void 受講生詳細検索で304の場合もETagが返ってくること() throws Exception {
+    mockMvc.perform(get("/student/{studentId}", "1").header("If-None-Match", "W/" + dataVersion.etag()))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string("ETag", dataVersion.etag()));
+
+    verify(service, times(0)).searchStudentById(any());
+  }
+
   @Test
   void コース申込状況を含む受講生詳細の条件検索が実行できて空のリストが返ってくること() throws Exception {
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
@@ -114,6 +478,150 @@ class StudentControllerTest {
     verify(service, times(1)).searchStudentListWithStatusByCondition(any());
   }
 
+  @Test
+  void 受講生詳細の絞り込み検索で入れ子の条件がサービスに渡されること() throws Exception {
+    Mockito.when(service.searchStudentListWithStatusByFilter(any())).thenReturn(List.of());
+
+    mockMvc.perform(post("/studentListWithStatus/filter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                    "operator": "OR",
+                    "conditions": [
+                        {"city": "東京都", "gender": "男性"},
+                        {"operator": "NOT", "conditions": [{"status": "受講終了"}]}
+                    ]
+                }
+                """))
+        .andExpect(status().isOk())
+        .andExpect(content().json("[]"));
+
+    verify(service, times(1)).searchStudentListWithStatusByFilter(Mockito.argThat(filter ->
+        filter.getOperator() == SearchOperator.OR
+            && filter.getConditions().get(0).getCity().equals("東京都")
+            && filter.getConditions().get(1).getOperator() == SearchOperator.NOT
+            && filter.getConditions().get(1).getConditions().get(0).getStatus().equals("受講終了")));
+  }
+
+  @Test
+  void 受講生詳細の絞り込み検索で索引が作成前の場合は503が返ってくること() throws Exception {
+    Mockito.when(service.searchStudentListWithStatusByFilter(any()))
+        .thenThrow(new ServiceUnavailableException("絞り込み検索の準備中です。"));
+
+    mockMvc.perform(post("/studentListWithStatus/filter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"city\": \"東京都\"}"))
+        .andExpect(status().isServiceUnavailable());
+  }
+
+  @Test
+  void ステートメントの上限を超えたリクエストはMyBatisの例外に包まれていても503と理由が返ってくること() throws Exception {
+    Mockito.when(service.searchStudentListWithStatusByFilter(any()))
+        .thenThrow(new MyBatisSystemException(new PersistenceException(
+            new QueryBudgetExceededException("1リクエストで実行できるステートメントの上限を超えました。"))));
+
+    mockMvc.perform(post("/studentListWithStatus/filter")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"city\": \"東京都\"}"))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(content().string("1リクエストで実行できるステートメントの上限を超えました。"));
+  }
+
+  @Test
+  void 受講生詳細の一括登録が実行できて1件ごとの登録結果が返ってくること() throws Exception {
+    when(bulkService.registerStudents(any())).thenReturn(List.of(
+        StudentRegistrationResult.registered(0, "test-id-1"),
+        StudentRegistrationResult.failed(1, "student.email: 正しいメールアドレスを入力してください")));
+
+    mockMvc.perform(post("/registerStudents")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [
+                    {"student": {"name": "テスト太郎"}, "studentCourseList": []},
+                    {"student": {"name": "テスト次郎"}, "studentCourseList": []}
+                ]
+                """))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            [
+                {"index": 0, "registered": true, "studentId": "test-id-1", "errorMessage": null},
+                {"index": 1, "registered": false, "studentId": null,
+                 "errorMessage": "student.email: 正しいメールアドレスを入力してください"}
+            ]
+            """));
+
+    verify(bulkService, times(1)).registerStudents(
+        Mockito.argThat(studentDetailList -> studentDetailList.size() == 2));
+  }
+
+  @Test
+  void 受講生詳細のCSV出力が実行できてCSVが順次出力されること() throws Exception {
+    doAnswer(invocation -> {
+      OutputStream outputStream = invocation.getArgument(0);
+      outputStream.write("studentId,name\n1,テスト太郎\n".getBytes(StandardCharsets.UTF_8));
+      return null;
+    }).when(csvService).exportStudents(any());
+
+    MvcResult mvcResult = mockMvc.perform(get("/export/students.csv"))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+        .andExpect(status().isOk())
+        .andExpect(content().contentType("text/csv;charset=UTF-8"))
+        .andExpect(header().string("Content-Disposition", "attachment; filename=\"students.csv\""))
+        .andExpect(content().bytes("studentId,name\n1,テスト太郎\n".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void 受講生詳細のCSV取り込みが実行できて登録できなかった行が返ってくること() throws Exception {
+    when(csvService.importStudents(any())).thenReturn(new StudentCsvImportResult(1, 1,
+        List.of(new StudentCsvImportError(3, "student.email: 正しいメールアドレスを入力してください"))));
+
+    mockMvc.perform(post("/import/students.csv")
+            .contentType("text/csv")
+            .content("name,email\nテスト太郎,test@example.com\nテスト次郎,invalid\n".getBytes(StandardCharsets.UTF_8)))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {
+                "importedCount": 1,
+                "failedCount": 1,
+                "errors": [{"line": 3, "message": "student.email: 正しいメールアドレスを入力してください"}]
+            }
+            """));
+
+    verify(csvService, times(1)).importStudents(any());
+  }
+
+  @Test
+  void コース申込状況の一括更新が実行できて更新件数が返ってくること() throws Exception {
+    when(bulkService.updateStudentCourseStatuses(any())).thenReturn(3);
+
+    mockMvc.perform(put("/updateStudentCourseStatuses")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"courseName": "Java基礎", "currentStatus": "仮申込", "newStatus": "本申込"}
+                """))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {"updatedCount": 3}
+            """));
+
+    verify(bulkService, times(1)).updateStudentCourseStatuses(any());
+  }
+
+  @Test
+  void コース申込状況の一括更新で更新後の申込状況が不正な場合は400が返ってくること() throws Exception {
+    mockMvc.perform(put("/updateStudentCourseStatuses")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"statusIds": ["201"], "newStatus": "キャンセル"}
+                """))
+        .andExpect(status().isBadRequest());
+
+    verify(bulkService, times(0)).updateStudentCourseStatuses(any());
+  }
+
   @Test
   void 受講生詳細の受講生で適切な値を入力したときに入力チェックに異常が発生しないこと(){
     Student student = new Student();
@@ -3,6 +3,7 @@ package raisetech.studentmanagement.domain.converter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -102,6 +103,36 @@ class StudentConverterTest {
     assertThat(actual.get(0).getStudentCourseList()).isEmpty();
   }
 
+  @Test
+  void 受講生コース情報の順番が受講生と異なっていても受講生ごとに元の順番でまとめられること() {
+    int studentCount = 1_000;
+    List<Student> studentList = new ArrayList<>(studentCount);
+    for (int i = 0; i < studentCount; i++) {
+      Student student = new Student();
+      student.setStudentId("student-" + i);
+      studentList.add(student);
+    }
+    // 受講生の逆順で、受講生ごとのコースが交互に並ぶようにする
+    List<StudentCourse> studentCourseList = new ArrayList<>(studentCount * 3);
+    for (int j = 0; j < 3; j++) {
+      for (int i = studentCount - 1; i >= 0; i--) {
+        StudentCourse studentCourse = new StudentCourse();
+        studentCourse.setStudentId("student-" + i);
+        studentCourse.setCourseName("コース" + j);
+        studentCourseList.add(studentCourse);
+      }
+    }
+
+    List<StudentDetail> actual = sut.convertStudentDetails(studentList, studentCourseList);
+
+    assertThat(actual).extracting(StudentDetail::getStudent).containsExactlyElementsOf(studentList);
+    for (StudentDetail studentDetail : actual) {
+      assertThat(studentDetail.getStudentCourseList())
+          .allMatch(studentCourse -> studentCourse.getStudentId().equals(studentDetail.getStudent().getStudentId()))
+          .extracting(StudentCourse::getCourseName)
+          .containsExactly("コース0", "コース1", "コース2");
+    }
+  }
 
   private static Student createStudent1() {
     Student student1 = new Student();
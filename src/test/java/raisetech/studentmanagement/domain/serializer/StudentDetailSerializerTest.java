@@ -0,0 +1,180 @@
+package raisetech.studentmanagement.domain.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentPage;
+
+/**
+ * 受講生詳細のシリアライザーのテストです。
+ * 出力が、これまでのリフレクションによる変換（Spring Bootの既定設定のObjectMapper）とバイト単位で同じであることを確認します。
+ */
+class StudentDetailSerializerTest {
+
+  private final ObjectMapper reflectiveMapper = springBootDefaults().build();
+  private final ObjectMapper sut = springBootDefaults().build().registerModule(new StudentDetailModule());
+
+  @Test
+  void 受講生詳細一覧のJSONが期待値のファイルとバイト単位で一致すること() throws Exception {
+    byte[] expected = readGolden("/golden/student-detail-list.json");
+
+    assertThat(sut.writeValueAsBytes(goldenStudentDetailList())).isEqualTo(expected);
+    assertThat(reflectiveMapper.writeValueAsBytes(goldenStudentDetailList())).isEqualTo(expected);
+  }
+
+  @Test
+  void 多数の受講生詳細でリフレクションによる変換と同じバイト列になること() throws Exception {
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      studentDetailList.add(studentDetail(i));
+    }
+
+    assertThat(sut.writeValueAsBytes(studentDetailList)).isEqualTo(reflectiveMapper.writeValueAsBytes(studentDetailList));
+  }
+
+  @Test
+  void ページ検索の結果に含まれる受講生詳細もリフレクションによる変換と同じバイト列になること() throws Exception {
+    StudentPage studentPage = new StudentPage(goldenStudentDetailList(), "next-cursor");
+
+    assertThat(sut.writeValueAsBytes(studentPage)).isEqualTo(reflectiveMapper.writeValueAsBytes(studentPage));
+  }
+
+  @Test
+  void 日付の年が4桁を超える場合もリフレクションによる変換と同じバイト列になること() throws Exception {
+    StudentDetail studentDetail = studentDetail(1);
+    studentDetail.getStudentCourseList().get(0).setStartDate(LocalDate.of(10000, 1, 1));
+    studentDetail.getStudentCourseList().get(0).setEndDate(LocalDate.of(-1, 12, 31));
+
+    assertThat(sut.writeValueAsBytes(studentDetail)).isEqualTo(reflectiveMapper.writeValueAsBytes(studentDetail));
+  }
+
+  @Test
+  void 日付を数値で出力する設定の場合も設定どおりに出力されること() throws Exception {
+    ObjectMapper timestampMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+    ObjectMapper timestampSut = timestampMapper.copy().registerModule(new StudentDetailModule());
+
+    assertThat(timestampSut.writeValueAsString(studentDetail(1))).isEqualTo(timestampMapper.writeValueAsString(studentDetail(1)));
+  }
+
+  @Test
+  void 整形して出力する設定の場合もリフレクションによる変換と同じ文字列になること() throws Exception {
+    ObjectMapper indentMapper = springBootDefaults().indentOutput(true).build();
+    ObjectMapper indentSut = indentMapper.copy().registerModule(new StudentDetailModule());
+
+    assertThat(indentSut.writeValueAsString(goldenStudentDetailList()))
+        .isEqualTo(indentMapper.writeValueAsString(goldenStudentDetailList()));
+  }
+
+  @Test
+  void 変換した日付の保持件数を超えても正しく出力されること() throws Exception {
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (int i = 0; i < StudentDetailSerializer.MAX_CACHED_DATES + 10; i++) {
+      StudentDetail studentDetail = studentDetail(i);
+      studentDetail.getStudentCourseList().get(0).setStartDate(LocalDate.of(2000, 1, 1).plusDays(i));
+      studentDetailList.add(studentDetail);
+    }
+
+    assertThat(sut.writeValueAsBytes(studentDetailList)).isEqualTo(reflectiveMapper.writeValueAsBytes(studentDetailList));
+  }
+
+  private static List<StudentDetail> goldenStudentDetailList() {
+    Student student1 = new Student();
+    student1.setStudentId("1");
+    student1.setName("鈴木大介");
+    student1.setFurigana("すずきだいすけ");
+    student1.setNickname("だいちゃん");
+    student1.setEmail("suzuki@example.com");
+    student1.setCity("東京都");
+    student1.setAge(51);
+    student1.setGender("男性");
+    student1.setRemark("改行\nと\"引用符\"");
+
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatusId("201");
+    studentCourseStatus.setCourseId("101");
+    studentCourseStatus.setStatus("仮申込");
+    StudentCourse studentCourse1 = new StudentCourse();
+    studentCourse1.setCourseId("101");
+    studentCourse1.setStudentId("1");
+    studentCourse1.setCourseName("Java基礎");
+    studentCourse1.setStartDate(LocalDate.of(2024, 1, 1));
+    studentCourse1.setEndDate(LocalDate.of(2024, 3, 31));
+    studentCourse1.setCourseStatus(studentCourseStatus);
+    StudentCourse studentCourse2 = new StudentCourse();
+    studentCourse2.setCourseId("102");
+    studentCourse2.setStudentId("1");
+    studentCourse2.setCourseName("Spring Boot入門");
+    studentCourse2.setStartDate(LocalDate.of(2024, 4, 1));
+
+    Student student2 = new Student();
+    student2.setStudentId("2");
+    student2.setName("中田花奈");
+    student2.setAge(31);
+    student2.setDeleted(true);
+
+    return List.of(
+        new StudentDetail(student1, List.of(studentCourse1, studentCourse2)),
+        new StudentDetail(student2, null),
+        new StudentDetail());
+  }
+
+  private static StudentDetail studentDetail(int i) {
+    Student student = new Student();
+    student.setStudentId("student-" + i);
+    student.setName("受講生" + i);
+    student.setFurigana("じゅこうせい");
+    student.setEmail("student" + i + "@example.com");
+    student.setCity(i % 2 == 0 ? "東京都" : "大阪府");
+    student.setAge(10 + i % 90);
+    student.setGender("その他");
+    student.setRemark(i % 3 == 0 ? null : "備考\t" + i);
+    student.setDeleted(i % 7 == 0);
+
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    for (int j = 0; j < 3; j++) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setCourseId(student.getStudentId() + "-course-" + j);
+      studentCourse.setStudentId(student.getStudentId());
+      studentCourse.setCourseName("コース" + j);
+      studentCourse.setStartDate(LocalDate.of(2024, 1, 1).plusDays(i + j));
+      studentCourse.setEndDate(j == 2 ? null : studentCourse.getStartDate().plusYears(1));
+      if (j != 1) {
+        StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+        studentCourseStatus.setStatusId(studentCourse.getCourseId() + "-status");
+        studentCourseStatus.setCourseId(studentCourse.getCourseId());
+        studentCourseStatus.setStatus("受講中");
+        studentCourse.setCourseStatus(studentCourseStatus);
+      }
+      studentCourseList.add(studentCourse);
+    }
+    studentCourseList.add(null);
+    return new StudentDetail(student, studentCourseList);
+  }
+
+  /**
+   * Spring Bootの既定設定（日付は文字列で出力）と同じObjectMapperのビルダーです。
+   */
+  private static Jackson2ObjectMapperBuilder springBootDefaults() {
+    return Jackson2ObjectMapperBuilder.json().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+  }
+
+  private static byte[] readGolden(String path) throws IOException {
+    try (InputStream inputStream = StudentDetailSerializerTest.class.getResourceAsStream(path)) {
+      return inputStream.readAllBytes();
+    }
+  }
+}
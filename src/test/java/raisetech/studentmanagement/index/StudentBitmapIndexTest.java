@@ -0,0 +1,211 @@
+package raisetech.studentmanagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.SearchOperator;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.exception.BadRequestException;
+
+class StudentBitmapIndexTest {
+
+  private StudentBitmapIndex sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentBitmapIndex();
+    sut.rebuild(List.of(
+        studentDetail("1", "東京都", "男性", 51, course("Java基礎", "仮申込"), course("Spring Boot入門", "仮申込")),
+        studentDetail("2", "埼玉県", "女性", 31, course("Java基礎", "受講中"), course("Webアプリ開発", "受講終了")),
+        studentDetail("3", "滋賀県", "男性", 38, course("Java応用", "受講中")),
+        studentDetail("4", "秋田県", "女性", 35, course("JavaScript基礎", "本申込"))));
+  }
+
+  @Test
+  void 作成前は未作成で全件から作成すると作成済みになること() {
+    assertThat(new StudentBitmapIndex().isReady()).isFalse();
+    assertThat(sut.isReady()).isTrue();
+  }
+
+  @Test
+  void 指定した項目をすべて満たす受講生が検索されること() {
+    StudentFilter filter = filter();
+    filter.setGender("男性");
+    filter.setCourseName("Java基礎");
+
+    assertThat(sut.searchStudentIds(filter)).containsExactly("1");
+  }
+
+  @Test
+  void コース名と申込状況を指定した場合は両方を満たすコースを受講している受講生だけが検索されること() {
+    // 受講生2は「Java基礎」（受講中）と「Webアプリ開発」（受講終了）を受講しているが、同じコースではない
+    StudentFilter matched = filter();
+    matched.setCourseName("Java基礎");
+    matched.setStatus("受講中");
+    StudentFilter unmatched = filter();
+    unmatched.setCourseName("Java基礎");
+    unmatched.setStatus("受講終了");
+
+    assertThat(sut.searchStudentIds(matched)).containsExactly("2");
+    assertThat(sut.searchStudentIds(unmatched)).isEmpty();
+  }
+
+  @Test
+  void コース名は受講生の条件検索と同じく前方一致で検索されること() {
+    StudentFilter prefix = filter();
+    prefix.setCourseName("Java");
+    StudentFilter prefixWithStatus = filter();
+    prefixWithStatus.setCourseName("Java");
+    prefixWithStatus.setStatus("受講中");
+    StudentFilter middle = filter();
+    middle.setCourseName("基礎");
+
+    assertThat(sut.searchStudentIds(prefix)).containsExactly("1", "2", "3", "4");
+    assertThat(sut.searchStudentIds(prefixWithStatus)).containsExactly("2", "3");
+    assertThat(sut.searchStudentIds(middle)).isEmpty();
+  }
+
+  @Test
+  void 項目を指定しない場合は全受講生が検索されること() {
+    assertThat(sut.searchStudentIds(filter())).containsExactly("1", "2", "3", "4");
+  }
+
+  @Test
+  void 存在しない値を指定した場合は空の一覧が返ること() {
+    StudentFilter filter = filter();
+    filter.setCity("北海道");
+
+    assertThat(sut.searchStudentIds(filter)).isEmpty();
+  }
+
+  @Test
+  void 年齢の範囲で検索でき年齢帯の端も正しく判定されること() {
+    StudentFilter range = filter();
+    range.setMinAge(35);
+    range.setMaxAge(38);
+    StudentFilter minAgeOnly = filter();
+    minAgeOnly.setMinAge(31);
+    StudentFilter maxAgeOnly = filter();
+    maxAgeOnly.setMaxAge(34);
+
+    assertThat(sut.searchStudentIds(range)).containsExactly("3", "4");
+    assertThat(sut.searchStudentIds(minAgeOnly)).containsExactly("1", "2", "3", "4");
+    assertThat(sut.searchStudentIds(maxAgeOnly)).containsExactly("2");
+  }
+
+  @Test
+  void ORで子の条件のいずれかを満たす受講生が検索されること() {
+    StudentFilter filter = filter(SearchOperator.OR, city("東京都"), status("本申込"));
+
+    assertThat(sut.searchStudentIds(filter)).containsExactly("1", "4");
+  }
+
+  @Test
+  void NOTで子の条件を満たす受講生が除かれること() {
+    StudentFilter filter = filter(SearchOperator.NOT, status("受講中"));
+
+    assertThat(sut.searchStudentIds(filter)).containsExactly("1", "4");
+  }
+
+  @Test
+  void 入れ子にした条件を組み合わせて検索できること() {
+    // 女性、または（男性かつ受講中のコースがない）
+    StudentFilter male = filter(SearchOperator.NOT, status("受講中"));
+    male.setGender("男性");
+    StudentFilter filter = filter(SearchOperator.OR, gender("女性"), male);
+
+    assertThat(sut.searchStudentIds(filter)).containsExactly("1", "2", "4");
+  }
+
+  @Test
+  void 受講生を更新すると古い値では見つからず新しい値で見つかること() {
+    sut.upsert(studentDetail("3", "東京都", "男性", 39, course("Java応用", "受講終了")));
+
+    assertThat(sut.searchStudentIds(city("滋賀県"))).isEmpty();
+    assertThat(sut.searchStudentIds(city("東京都"))).containsExactly("1", "3");
+    assertThat(sut.searchStudentIds(status("受講中"))).containsExactly("2");
+    StudentFilter oldCourse = filter();
+    oldCourse.setCourseName("Java応用");
+    oldCourse.setStatus("受講中");
+    assertThat(sut.searchStudentIds(oldCourse)).isEmpty();
+  }
+
+  @Test
+  void 受講生を取り除くとNOTの結果からも除かれること() {
+    sut.remove("4");
+
+    assertThat(sut.searchStudentIds(filter(SearchOperator.NOT, status("受講中")))).containsExactly("1");
+    assertThat(sut.searchStudentIds(filter())).containsExactly("1", "2", "3");
+  }
+
+  @Test
+  void 不正な条件の場合はBadRequestExceptionが発生すること() {
+    StudentFilter invalidAgeRange = filter();
+    invalidAgeRange.setMinAge(40);
+    invalidAgeRange.setMaxAge(30);
+    StudentFilter conditionsWithoutOperator = filter();
+    conditionsWithoutOperator.setConditions(List.of(city("東京都")));
+
+    assertThrows(BadRequestException.class, () -> sut.searchStudentIds(invalidAgeRange));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentIds(conditionsWithoutOperator));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentIds(filter(SearchOperator.AND)));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentIds(null));
+  }
+
+  private static StudentFilter filter(SearchOperator operator, StudentFilter... conditions) {
+    StudentFilter filter = new StudentFilter();
+    filter.setOperator(operator);
+    filter.setConditions(List.of(conditions));
+    return filter;
+  }
+
+  private static StudentFilter filter() {
+    return new StudentFilter();
+  }
+
+  private static StudentFilter city(String city) {
+    StudentFilter filter = new StudentFilter();
+    filter.setCity(city);
+    return filter;
+  }
+
+  private static StudentFilter gender(String gender) {
+    StudentFilter filter = new StudentFilter();
+    filter.setGender(gender);
+    return filter;
+  }
+
+  private static StudentFilter status(String status) {
+    StudentFilter filter = new StudentFilter();
+    filter.setStatus(status);
+    return filter;
+  }
+
+  private static StudentCourse course(String courseName, String status) {
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatus(status);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseName(courseName);
+    studentCourse.setCourseStatus(studentCourseStatus);
+    return studentCourse;
+  }
+
+  private static StudentDetail studentDetail(String studentId, String city, String gender, int age,
+      StudentCourse... studentCourses) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setCity(city);
+    student.setGender(gender);
+    student.setAge(age);
+    return new StudentDetail(student, new ArrayList<>(List.of(studentCourses)));
+  }
+
+}
@@ -0,0 +1,124 @@
+package raisetech.studentmanagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+
+class StudentFuriganaTrieTest {
+
+  private StudentFuriganaTrie sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentFuriganaTrie();
+    sut.rebuild(List.of(
+        studentDetail("1", "鈴村健一", "すずむらけんいち"),
+        studentDetail("2", "中田花奈", "なかだかな"),
+        studentDetail("3", "鈴木大介", "すずきだいすけ"),
+        studentDetail("4", "鈴木", "すずき")));
+  }
+
+  @Test
+  void 作成前は未作成で全件から作成すると作成済みになること() {
+    assertThat(new StudentFuriganaTrie().isReady()).isFalse();
+    assertThat(sut.isReady()).isTrue();
+  }
+
+  @Test
+  void ふりがなの前方一致で五十音順に候補が返ること() {
+    assertThat(studentIds(sut.suggest("すず", 10))).containsExactly("4", "3", "1");
+    assertThat(studentIds(sut.suggest("すずき", 10))).containsExactly("4", "3");
+    assertThat(studentIds(sut.suggest("な", 10))).containsExactly("2");
+  }
+
+  @Test
+  void 候補には受講生IDと名前とふりがなが含まれること() {
+    StudentSuggestion suggestion = sut.suggest("なか", 10).get(0);
+
+    assertThat(suggestion.getStudentId()).isEqualTo("2");
+    assertThat(suggestion.getName()).isEqualTo("中田花奈");
+    assertThat(suggestion.getFurigana()).isEqualTo("なかだかな");
+  }
+
+  @Test
+  void 指定した件数までしか返らないこと() {
+    assertThat(studentIds(sut.suggest("す", 2))).containsExactly("4", "3");
+  }
+
+  @Test
+  void 一致しない場合や途中の文字しか一致しない場合は空の一覧が返ること() {
+    assertThat(sut.suggest("さとう", 10)).isEmpty();
+    assertThat(sut.suggest("ずき", 10)).isEmpty();
+    assertThat(sut.suggest("すずきだいすけさん", 10)).isEmpty();
+  }
+
+  @Test
+  void カタカナや半角カタカナでも検索できること() {
+    assertThat(studentIds(sut.suggest("スズム", 10))).containsExactly("1");
+    assertThat(studentIds(sut.suggest("ﾅｶ", 10))).containsExactly("2");
+  }
+
+  @Test
+  void 受講生を更新すると古いふりがなでは見つからず新しいふりがなで見つかること() {
+    sut.upsert(studentDetail("3", "佐藤大介", "さとうだいすけ"));
+
+    assertThat(studentIds(sut.suggest("すずき", 10))).containsExactly("4");
+    assertThat(studentIds(sut.suggest("さと", 10))).containsExactly("3");
+  }
+
+  @Test
+  void 受講生を取り除くと候補から外れ再び追加すると候補に戻ること() {
+    sut.remove("4");
+    assertThat(studentIds(sut.suggest("すずき", 10))).containsExactly("3");
+
+    sut.upsert(studentDetail("4", "鈴木", "すずき"));
+    assertThat(studentIds(sut.suggest("すずき", 10))).containsExactly("4", "3");
+  }
+
+  @Test
+  void 取り除いた受講生の枝は候補の件数に数えられないこと() {
+    sut.remove("4");
+    sut.remove("3");
+
+    assertThat(studentIds(sut.suggest("す", 1))).containsExactly("1");
+  }
+
+  @Test
+  void 初期容量を超える受講生を追加しても検索できること() {
+    List<StudentDetail> studentDetailList = new ArrayList<>();
+    for (int i = 0; i < 3000; i++) {
+      studentDetailList.add(studentDetail(String.valueOf(i), "受講生" + i, "じゅこうせい" + toKana(i)));
+    }
+    sut.rebuild(studentDetailList);
+
+    assertThat(sut.suggest("じゅこうせい", 100)).hasSize(100);
+    assertThat(studentIds(sut.suggest("じゅこうせい" + toKana(2999), 10))).containsExactly("2999");
+  }
+
+  private static String toKana(int number) {
+    StringBuilder kana = new StringBuilder();
+    for (char c : String.valueOf(number).toCharArray()) {
+      kana.append((char) ('あ' + (c - '0')));
+    }
+    return kana.toString();
+  }
+
+  private static List<String> studentIds(List<StudentSuggestion> suggestions) {
+    return suggestions.stream().map(StudentSuggestion::getStudentId).toList();
+  }
+
+  private static StudentDetail studentDetail(String studentId, String name, String furigana) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setName(name);
+    student.setFurigana(furigana);
+    return new StudentDetail(student, new ArrayList<>());
+  }
+
+}
@@ -0,0 +1,152 @@
+package raisetech.studentmanagement.index;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentIndexUpdaterTest {
+
+  @Mock
+  private StudentRepository repository;
+
+  @Mock
+  private StudentIndex studentIndex1;
+
+  @Mock
+  private StudentIndex studentIndex2;
+
+  private StudentIndexUpdater sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentIndexUpdater(repository, List.of(studentIndex1, studentIndex2));
+  }
+
+  @Test
+  void 起動時に受講生詳細の全件から全ての索引が作成されること() {
+    List<StudentDetail> studentDetailList = List.of(new StudentDetail());
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(studentDetailList);
+
+    sut.rebuildAll();
+
+    verify(repository, times(1)).searchStudentDetailListWithStatus();
+    verify(studentIndex1, times(1)).rebuild(studentDetailList);
+    verify(studentIndex2, times(1)).rebuild(studentDetailList);
+  }
+
+  @Test
+  void 変更された受講生は読み直して索引に反映され論理削除された受講生は取り除かれること() {
+    StudentDetail studentDetail = createStudentDetail("1");
+    when(repository.searchStudentDetailListWithStatusByStudentIds(List.of("1", "2"))).thenReturn(List.of(studentDetail));
+
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1", "2")));
+
+    verify(studentIndex1, times(1)).upsert(studentDetail);
+    verify(studentIndex2, times(1)).upsert(studentDetail);
+    verify(studentIndex1, times(1)).remove("2");
+    verify(studentIndex2, times(1)).remove("2");
+    verify(studentIndex1, never()).remove("1");
+    verify(repository, never()).searchStudentDetailByIdWithStatus(anyString());
+    verify(repository, never()).searchStudentDetailListWithStatus();
+  }
+
+  @Test
+  void 変更された受講生は1000人ごとに1回の検索でまとめて読み直されること() {
+    List<String> studentIds = IntStream.range(0, 2500).mapToObj(String::valueOf).toList();
+    when(repository.searchStudentDetailListWithStatusByStudentIds(anyList()))
+        .thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+            .map(StudentIndexUpdaterTest::createStudentDetail)
+            .toList());
+
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, studentIds));
+
+    verify(repository, times(3)).searchStudentDetailListWithStatusByStudentIds(anyList());
+    verify(repository, never()).searchStudentDetailByIdWithStatus(anyString());
+    verify(studentIndex1, times(2500)).upsert(any(StudentDetail.class));
+    verify(studentIndex1, never()).remove(anyString());
+  }
+
+  @Test
+  void 全件から作成している間に変更された受講生は索引を作成した後に読み直して反映されること() {
+    List<StudentDetail> studentDetailList = List.of(createStudentDetail("1"));
+    StudentDetail changed = createStudentDetail("1");
+    when(repository.searchStudentDetailListWithStatus()).thenAnswer(invocation -> {
+      // 全件を検索している間に受講生1の変更がコミットされる
+      sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+      return studentDetailList;
+    });
+    when(repository.searchStudentDetailListWithStatusByStudentIds(List.of("1"))).thenReturn(List.of(changed));
+
+    sut.rebuildAll();
+
+    InOrder inOrder = inOrder(studentIndex1, repository);
+    inOrder.verify(studentIndex1).rebuild(studentDetailList);
+    inOrder.verify(repository).searchStudentDetailListWithStatusByStudentIds(List.of("1"));
+    inOrder.verify(studentIndex1).upsert(changed);
+    verify(studentIndex2, times(1)).upsert(changed);
+  }
+
+  @Test
+  void 全件から作成した後に変更された受講生はすぐに読み直して反映されること() {
+    when(repository.searchStudentDetailListWithStatus()).thenReturn(List.of());
+    sut.rebuildAll();
+    StudentDetail changed = createStudentDetail("1");
+    when(repository.searchStudentDetailListWithStatusByStudentIds(List.of("1"))).thenReturn(List.of(changed));
+
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+
+    verify(studentIndex1, times(1)).upsert(changed);
+  }
+
+  @Test
+  void 全件の検索に失敗した後も変更された受講生は読み直して反映されること() {
+    when(repository.searchStudentDetailListWithStatus()).thenThrow(new IllegalStateException("検索の失敗"));
+    StudentDetail changed = createStudentDetail("1");
+    when(repository.searchStudentDetailListWithStatusByStudentIds(List.of("1"))).thenReturn(List.of(changed));
+
+    assertThrows(IllegalStateException.class, sut::rebuildAll);
+    sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1")));
+
+    verify(studentIndex1, times(1)).upsert(changed);
+  }
+
+  @Test
+  void 読み直しに失敗しても例外は呼び出し元に伝わらないこと() {
+    when(repository.searchStudentDetailListWithStatusByStudentIds(anyList()))
+        .thenThrow(new IllegalStateException("検索の失敗"));
+
+    assertDoesNotThrow(() -> sut.onStudentChanged(new StudentChangedEvent(ChangeType.UPDATED, List.of("1"))));
+
+    verify(studentIndex1, never()).upsert(any(StudentDetail.class));
+    verify(studentIndex1, never()).remove(anyString());
+  }
+
+  private static StudentDetail createStudentDetail(String studentId) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    return new StudentDetail(student, List.of());
+  }
+
+}
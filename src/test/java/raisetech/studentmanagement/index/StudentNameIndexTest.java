@@ -0,0 +1,96 @@
+package raisetech.studentmanagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+
+class StudentNameIndexTest {
+
+  private StudentNameIndex sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentNameIndex();
+    sut.rebuild(List.of(
+        studentDetail("1", "鈴木大介", "すずきだいすけ", "だいちゃん"),
+        studentDetail("2", "中田花奈", "なかだかな", "かなりん"),
+        studentDetail("3", "鈴村健一", "すずむらけんいち", "ケンイチ")));
+  }
+
+  @Test
+  void 作成前は未作成で全件から作成すると作成済みになること() {
+    assertThat(new StudentNameIndex().isReady()).isFalse();
+    assertThat(sut.isReady()).isTrue();
+  }
+
+  @Test
+  void 漢字の部分一致で名前を検索できること() {
+    assertThat(sut.searchStudentIds("大介")).containsExactly("1");
+    assertThat(sut.searchStudentIds("鈴")).containsExactlyInAnyOrder("1", "3");
+  }
+
+  @Test
+  void ひらがなやカタカナの部分一致でふりがなとニックネームを検索できること() {
+    assertThat(sut.searchStudentIds("すず")).containsExactlyInAnyOrder("1", "3");
+    assertThat(sut.searchStudentIds("スズキ")).containsExactly("1");
+    assertThat(sut.searchStudentIds("かなりん")).containsExactly("2");
+    assertThat(sut.searchStudentIds("けんいち")).containsExactly("3");
+  }
+
+  @Test
+  void 検索語のバイグラムを全て含んでも連続していない場合は一致しないこと() {
+    // 「すず」と「ずき」はどちらも受講生1のふりがなに含まれるが、「すずずき」は含まれない
+    assertThat(sut.searchStudentIds("すずずき")).isEmpty();
+  }
+
+  @Test
+  void 名前とふりがなの境目をまたいだ文字列は一致しないこと() {
+    assertThat(sut.searchStudentIds("大介す")).isEmpty();
+  }
+
+  @Test
+  void 全角半角や空白の違いを無視して検索できること() {
+    assertThat(sut.searchStudentIds(" 鈴木　大介 ")).containsExactly("1");
+    assertThat(sut.searchStudentIds("ｹﾝｲﾁ")).containsExactly("3");
+  }
+
+  @Test
+  void 受講生を更新すると古い名前では見つからず新しい名前で見つかること() {
+    sut.upsert(studentDetail("1", "佐藤大介", "さとうだいすけ", "だいちゃん"));
+
+    assertThat(sut.searchStudentIds("鈴木")).isEmpty();
+    assertThat(sut.searchStudentIds("佐藤")).containsExactly("1");
+    assertThat(sut.searchStudentIds("鈴")).containsExactly("3");
+  }
+
+  @Test
+  void 受講生を追加すると検索できること() {
+    sut.upsert(studentDetail("4", "東城りお", "とうじょうりお", "りお"));
+
+    assertThat(sut.searchStudentIds("りお")).containsExactly("4");
+  }
+
+  @Test
+  void 受講生を取り除くと検索できなくなり再び追加すると検索できること() {
+    sut.remove("2");
+    assertThat(sut.searchStudentIds("中田")).isEmpty();
+
+    sut.upsert(studentDetail("2", "中田花奈", "なかだかな", "かなりん"));
+    assertThat(sut.searchStudentIds("中田")).containsExactly("2");
+  }
+
+  private static StudentDetail studentDetail(String studentId, String name, String furigana, String nickname) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setName(name);
+    student.setFurigana(furigana);
+    student.setNickname(nickname);
+    return new StudentDetail(student, new ArrayList<>());
+  }
+
+}
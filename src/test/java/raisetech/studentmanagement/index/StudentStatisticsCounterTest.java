@@ -0,0 +1,88 @@
+package raisetech.studentmanagement.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentStatistics;
+
+class StudentStatisticsCounterTest {
+
+  private StudentStatisticsCounter sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentStatisticsCounter();
+    sut.rebuild(List.of(
+        studentDetail("1", "東京都", "男性", course("Java基礎", "仮申込"), course("Spring Boot入門", "仮申込")),
+        studentDetail("2", "埼玉県", "女性", course("Java基礎", "受講中")),
+        studentDetail("3", "東京都", "女性")));
+  }
+
+  @Test
+  void 作成前は未作成で全件から作成すると作成済みになること() {
+    assertThat(new StudentStatisticsCounter().isReady()).isFalse();
+    assertThat(sut.isReady()).isTrue();
+  }
+
+  @Test
+  void 全件から項目の値ごとの件数が数えられること() {
+    StudentStatistics actual = sut.statistics();
+
+    assertThat(actual.getStudentCount()).isEqualTo(3);
+    assertThat(actual.getCity()).isEqualTo(Map.of("東京都", 2L, "埼玉県", 1L));
+    assertThat(actual.getGender()).isEqualTo(Map.of("男性", 1L, "女性", 2L));
+    assertThat(actual.getCourseName()).isEqualTo(Map.of("Java基礎", 2L, "Spring Boot入門", 1L));
+    assertThat(actual.getStatus()).isEqualTo(Map.of("仮申込", 2L, "受講中", 1L));
+  }
+
+  @Test
+  void 受講生を更新すると変更前の値が減り変更後の値が増えること() {
+    sut.upsert(studentDetail("2", "東京都", "女性", course("Java基礎", "受講終了")));
+
+    StudentStatistics actual = sut.statistics();
+    assertThat(actual.getStudentCount()).isEqualTo(3);
+    assertThat(actual.getCity()).isEqualTo(Map.of("東京都", 3L));
+    assertThat(actual.getStatus()).isEqualTo(Map.of("仮申込", 2L, "受講終了", 1L));
+  }
+
+  @Test
+  void 受講生を追加すると件数が増え取り除くと減ること() {
+    sut.upsert(studentDetail("4", "秋田県", "その他", course("Java基礎", "本申込")));
+    assertThat(sut.statistics().getStudentCount()).isEqualTo(4);
+    assertThat(sut.statistics().getCourseName()).containsEntry("Java基礎", 3L);
+
+    sut.remove("1");
+    sut.remove("存在しない受講生");
+    StudentStatistics actual = sut.statistics();
+    assertThat(actual.getStudentCount()).isEqualTo(3);
+    assertThat(actual.getGender()).isEqualTo(Map.of("女性", 2L, "その他", 1L));
+    assertThat(actual.getCourseName()).isEqualTo(Map.of("Java基礎", 2L));
+  }
+
+  private static StudentCourse course(String courseName, String status) {
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatus(status);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseName(courseName);
+    studentCourse.setCourseStatus(studentCourseStatus);
+    return studentCourse;
+  }
+
+  private static StudentDetail studentDetail(String studentId, String city, String gender,
+      StudentCourse... studentCourses) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setCity(city);
+    student.setGender(gender);
+    return new StudentDetail(student, new ArrayList<>(List.of(studentCourses)));
+  }
+
+}
@@ -0,0 +1,33 @@
+package raisetech.studentmanagement.metrics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * テストの中で実行したステートメントの件数と行数が上限以内であること、
+ * 同じステートメントを繰り返し実行していないこと（N+1でないこと）を確認します。
+ * MockMvcでリクエストを1件送るテストに付けることを想定しています。
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface AssertQueryBudget {
+
+  /**
+   * ステートメントの件数の上限
+   */
+  long maxStatements();
+
+  /**
+   * 取得・更新した行数の上限
+   */
+  long maxRows() default Long.MAX_VALUE;
+
+  /**
+   * 同じステートメントをこの回数以上実行した場合にN+1として失敗させる
+   */
+  int repeatThreshold() default 3;
+}
@@ -0,0 +1,159 @@
+package raisetech.studentmanagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.studentmanagement.exception.QueryBudgetExceededException;
+
+@ExtendWith(MockitoExtension.class)
+class MapperMetricsInterceptorTest {
+
+  private static final String SEARCH_STUDENT = "raisetech.studentmanagement.repository.StudentRepository.searchStudent";
+  private static final String UPDATE_STUDENT = "raisetech.studentmanagement.repository.StudentRepository.updateStudent";
+
+  @Mock
+  private Executor executor;
+
+  private final Configuration configuration = new Configuration();
+  private SimpleMeterRegistry meterRegistry;
+  private MapperMetricsInterceptor sut;
+
+  @BeforeEach
+  void before() {
+    meterRegistry = new SimpleMeterRegistry();
+    sut = new MapperMetricsInterceptor(meterRegistry, Duration.ZERO);
+  }
+
+  @Test
+  void 検索の実行時間と取得した行数がステートメントIDごとに記録されること() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement(SEARCH_STUDENT, SqlCommandType.SELECT, "SELECT * FROM students");
+    when(executor.query(any(), any(), any(), any())).thenReturn(List.of("受講生1", "受講生2", "受講生3"));
+
+    sut.intercept(queryInvocation(mappedStatement));
+    sut.intercept(queryInvocation(mappedStatement));
+
+    Timer timer = meterRegistry.get(MapperMetricsInterceptor.TIMER_NAME)
+        .tag("statement", SEARCH_STUDENT).tag("type", "SELECT").tag("outcome", "success").timer();
+    assertThat(timer.count()).isEqualTo(2);
+    DistributionSummary rows = meterRegistry.get(MapperMetricsInterceptor.ROWS_NAME)
+        .tag("statement", SEARCH_STUDENT).summary();
+    assertThat(rows.count()).isEqualTo(2);
+    assertThat(rows.totalAmount()).isEqualTo(6);
+  }
+
+  @Test
+  void 更新した行数が記録されること() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement(UPDATE_STUDENT, SqlCommandType.UPDATE, "UPDATE students SET name = ?");
+    when(executor.update(any(), any())).thenReturn(1);
+
+    sut.intercept(new Invocation(executor,
+        Executor.class.getMethod("update", MappedStatement.class, Object.class), new Object[] {mappedStatement, null}));
+
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.ROWS_NAME)
+        .tag("statement", UPDATE_STUDENT).tag("type", "UPDATE").summary().totalAmount()).isEqualTo(1);
+  }
+
+  @Test
+  void 例外が発生した場合はエラーとして記録されて例外がそのまま投げられること() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement(SEARCH_STUDENT, SqlCommandType.SELECT, "SELECT * FROM students");
+    when(executor.query(any(), any(), any(), any())).thenThrow(new IllegalStateException("接続できません"));
+
+    assertThrows(IllegalStateException.class, () -> sut.intercept(queryInvocation(mappedStatement)));
+
+    assertThat(meterRegistry.get(MapperMetricsInterceptor.TIMER_NAME)
+        .tag("statement", SEARCH_STUDENT).tag("outcome", "error").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.find(MapperMetricsInterceptor.ROWS_NAME).summary()).isNull();
+  }
+
+  @Test
+  void リクエストの処理中はステートメントと行数がリクエストのカウンターに記録されること() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement(SEARCH_STUDENT, SqlCommandType.SELECT, "SELECT * FROM students");
+    when(executor.query(any(), any(), any(), any())).thenReturn(List.of("受講生1", "受講生2"));
+
+    try (RequestQueryCounter counter = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      sut.intercept(queryInvocation(mappedStatement));
+
+      assertThat(counter.statementCount()).isEqualTo(1);
+      assertThat(counter.rowCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void 上限を超えたリクエストを拒否する設定の場合は上限を超えた時点で例外が発生すること() throws Throwable {
+    MappedStatement mappedStatement = mappedStatement(SEARCH_STUDENT, SqlCommandType.SELECT, "SELECT * FROM students");
+    when(executor.query(any(), any(), any(), any())).thenReturn(List.of("受講生1"));
+
+    try (RequestQueryCounter counter = RequestQueryCounter.begin(new QueryBudget(1, Long.MAX_VALUE), true)) {
+      sut.intercept(queryInvocation(mappedStatement));
+
+      assertThrows(QueryBudgetExceededException.class, () -> sut.intercept(queryInvocation(mappedStatement)));
+      assertThat(counter.statementCount()).isEqualTo(2);
+    }
+  }
+
+  @Test
+  void バインドしたパラメータがプレースホルダーの順に名前と値で出力されること() {
+    List<ParameterMapping> parameterMappings = List.of(
+        new ParameterMapping.Builder(configuration, "city", String.class).build(),
+        new ParameterMapping.Builder(configuration, "gender", String.class).build());
+    BoundSql boundSql = new BoundSql(configuration, "SELECT * FROM students WHERE city = ? AND gender = ?",
+        parameterMappings, Map.of("city", "東京都", "gender", "男性"));
+
+    assertThat(MapperMetricsInterceptor.describeParameters(configuration, boundSql))
+        .containsExactly("city=東京都", "gender=男性");
+  }
+
+  @Test
+  void パラメータが多い場合は上限で打ち切られること() {
+    List<ParameterMapping> parameterMappings = new ArrayList<>();
+    for (int i = 0; i < MapperMetricsInterceptor.MAX_LOGGED_PARAMETERS + 5; i++) {
+      parameterMappings.add(new ParameterMapping.Builder(configuration, "studentId", String.class).build());
+    }
+    BoundSql boundSql = new BoundSql(configuration, "SELECT * FROM students WHERE student_id IN (...)",
+        parameterMappings, "1");
+
+    List<String> actual = MapperMetricsInterceptor.describeParameters(configuration, boundSql);
+
+    assertThat(actual).hasSize(MapperMetricsInterceptor.MAX_LOGGED_PARAMETERS + 1);
+    assertThat(actual.get(0)).isEqualTo("studentId=1");
+    assertThat(actual.get(actual.size() - 1)).isEqualTo("...（ほか5件）");
+  }
+
+  private MappedStatement mappedStatement(String id, SqlCommandType sqlCommandType, String sql) {
+    return new MappedStatement.Builder(configuration, id, new StaticSqlSource(configuration, sql), sqlCommandType)
+        .build();
+  }
+
+  private Invocation queryInvocation(MappedStatement mappedStatement) throws NoSuchMethodException {
+    Method query = Executor.class.getMethod("query",
+        MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+    return new Invocation(executor, query,
+        new Object[] {mappedStatement, null, RowBounds.DEFAULT, Executor.NO_RESULT_HANDLER});
+  }
+
+}
@@ -0,0 +1,47 @@
+package raisetech.studentmanagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * {@link AssertQueryBudget} を付けたテストで、実行したステートメントを数えて上限を確認する拡張です。
+ * テストのスレッドでカウンターを開始するため、MockMvcで送ったリクエストのステートメントも数えられます。
+ */
+public class QueryBudgetExtension implements BeforeEachCallback, AfterEachCallback {
+
+  private static final Namespace NAMESPACE = Namespace.create(QueryBudgetExtension.class);
+
+  @Override
+  public void beforeEach(ExtensionContext context) {
+    if (findAnnotation(context) != null) {
+      context.getStore(NAMESPACE).put(RequestQueryCounter.class,
+          RequestQueryCounter.begin(QueryBudget.UNLIMITED, false));
+    }
+  }
+
+  @Override
+  public void afterEach(ExtensionContext context) {
+    AssertQueryBudget budget = findAnnotation(context);
+    RequestQueryCounter counter = context.getStore(NAMESPACE).remove(RequestQueryCounter.class, RequestQueryCounter.class);
+    if (budget == null || counter == null) {
+      return;
+    }
+    counter.close();
+
+    assertThat(counter.statementCount()).as("ステートメントの件数").isLessThanOrEqualTo(budget.maxStatements());
+    assertThat(counter.rowCount()).as("取得・更新した行数").isLessThanOrEqualTo(budget.maxRows());
+    assertThat(counter.repeatedStatements(budget.repeatThreshold())).as("同じステートメントの繰り返し（N+1）").isEmpty();
+  }
+
+  private static AssertQueryBudget findAnnotation(ExtensionContext context) {
+    return context.getTestMethod()
+        .flatMap(method -> AnnotationSupport.findAnnotation(method, AssertQueryBudget.class))
+        .orElse(null);
+  }
+
+}
@@ -0,0 +1,103 @@
+package raisetech.studentmanagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import raisetech.studentmanagement.metrics.QueryBudgetProperties.Endpoint;
+
+class QueryBudgetFilterTest {
+
+  @Test
+  void リクエストの処理中だけステートメントが数えられること() throws Exception {
+    QueryBudgetFilter sut = new QueryBudgetFilter(new QueryBudgetProperties());
+    AtomicReference<RequestQueryCounter> counter = new AtomicReference<>();
+
+    sut.doFilter(new MockHttpServletRequest("GET", "/studentList"), new MockHttpServletResponse(),
+        new MockFilterChain(new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest request, HttpServletResponse response) {
+            counter.set(RequestQueryCounter.current());
+            RequestQueryCounter.current().record("searchStudent", 4);
+          }
+        }));
+
+    assertThat(counter.get()).isNotNull();
+    assertThat(counter.get().statementCount()).isEqualTo(1);
+    assertThat(RequestQueryCounter.current()).isNull();
+  }
+
+  @Test
+  void エンドポイントごとの上限が設定されている場合はその上限が使われること() {
+    Endpoint endpoint = new Endpoint();
+    endpoint.setMethod("POST");
+    endpoint.setPath("/registerStudents");
+    endpoint.setMaxStatements(300L);
+    QueryBudgetProperties properties = new QueryBudgetProperties();
+    properties.setMaxRows(1000);
+    properties.setEndpoints(List.of(endpoint));
+    QueryBudgetFilter sut = new QueryBudgetFilter(properties);
+
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("POST", "/registerStudents")))
+        .isEqualTo(new QueryBudget(300, 1000));
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("GET", "/registerStudents")))
+        .isEqualTo(new QueryBudget(20, 1000));
+  }
+
+  @Test
+  void エンドポイントの上限を無効にした場合は上限が設けられないこと() {
+    Endpoint endpoint = new Endpoint();
+    endpoint.setMethod("POST");
+    endpoint.setPath("/import/students.csv");
+    endpoint.setEnabled(false);
+    endpoint.setMaxStatements(300L);
+    QueryBudgetProperties properties = new QueryBudgetProperties();
+    properties.setEndpoints(List.of(endpoint));
+    QueryBudgetFilter sut = new QueryBudgetFilter(properties);
+
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("POST", "/import/students.csv")))
+        .isEqualTo(QueryBudget.UNLIMITED);
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("GET", "/import/students.csv")).maxStatements())
+        .isEqualTo(20);
+  }
+
+  @Test
+  void パスのパターンでエンドポイントが判定されること() {
+    Endpoint endpoint = new Endpoint();
+    endpoint.setPath("/student/{studentId}");
+    endpoint.setMaxStatements(2L);
+    QueryBudgetProperties properties = new QueryBudgetProperties();
+    properties.setEndpoints(List.of(endpoint));
+    QueryBudgetFilter sut = new QueryBudgetFilter(properties);
+
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("GET", "/student/1")).maxStatements()).isEqualTo(2);
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("DELETE", "/student/1")).maxStatements()).isEqualTo(2);
+    assertThat(sut.resolveBudget(new MockHttpServletRequest("GET", "/studentList")).maxStatements()).isEqualTo(20);
+  }
+
+  @Test
+  void 無効な場合はステートメントが数えられないこと() throws Exception {
+    QueryBudgetProperties properties = new QueryBudgetProperties();
+    properties.setEnabled(false);
+    QueryBudgetFilter sut = new QueryBudgetFilter(properties);
+    AtomicReference<RequestQueryCounter> counter = new AtomicReference<>();
+
+    sut.doFilter(new MockHttpServletRequest("GET", "/studentList"), new MockHttpServletResponse(),
+        new MockFilterChain(new HttpServlet() {
+          @Override
+          protected void service(HttpServletRequest request, HttpServletResponse response) {
+            counter.set(RequestQueryCounter.current());
+          }
+        }));
+
+    assertThat(counter.get()).isNull();
+  }
+
+}
@@ -0,0 +1,97 @@
+package raisetech.studentmanagement.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import raisetech.studentmanagement.exception.QueryBudgetExceededException;
+
+class RequestQueryCounterTest {
+
+  @Test
+  void 数えている間だけ現在のスレッドのカウンターが取得できること() {
+    RequestQueryCounter counter = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false);
+
+    assertThat(RequestQueryCounter.current()).isSameAs(counter);
+    counter.close();
+    assertThat(RequestQueryCounter.current()).isNull();
+  }
+
+  @Test
+  void ステートメントの件数と行数が記録されること() {
+    try (RequestQueryCounter sut = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      sut.record("searchStudent", 4);
+      sut.record("searchStudentCourseList", 10);
+
+      assertThat(sut.statementCount()).isEqualTo(2);
+      assertThat(sut.rowCount()).isEqualTo(14);
+    }
+  }
+
+  @Test
+  void 同じステートメントを閾値以上実行した場合にN_1の疑いとして返されること() {
+    try (RequestQueryCounter sut = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      sut.record("registerStudent", 1);
+      for (int i = 0; i < 3; i++) {
+        sut.record("registerStudentCourse", 1);
+        sut.record("registerStudentCourseStatus", 1);
+      }
+
+      assertThat(sut.repeatedStatements(3))
+          .isEqualTo(Map.of("registerStudentCourse", 3L, "registerStudentCourseStatus", 3L));
+      assertThat(sut.repeatedStatements(4)).isEmpty();
+    }
+  }
+
+  @Test
+  void 入れ子で開始したカウンターの件数は親のカウンターにも記録されること() {
+    try (RequestQueryCounter parent = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      try (RequestQueryCounter child = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+        child.record("searchStudent", 4);
+      }
+      parent.record("searchStudentCourseList", 10);
+
+      assertThat(RequestQueryCounter.current()).isSameAs(parent);
+      assertThat(parent.statementCount()).isEqualTo(2);
+      assertThat(parent.rowCount()).isEqualTo(14);
+    }
+  }
+
+  @Test
+  void 別のスレッドで実行した処理にカウンターが引き継がれること() {
+    try (RequestQueryCounter sut = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      CompletableFuture.supplyAsync(RequestQueryCounter.propagate(() -> {
+        RequestQueryCounter.current().record("searchStudent", 4);
+        return null;
+      })).join();
+
+      assertThat(sut.statementCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void 拒否する設定で上限を超えた場合は例外が発生すること() {
+    try (RequestQueryCounter sut = RequestQueryCounter.begin(new QueryBudget(1, 10), true)) {
+      sut.record("searchStudent", 4);
+      sut.checkBudget();
+      sut.record("searchStudentCourseList", 10);
+
+      assertThat(sut.isOverBudget()).isTrue();
+      assertThrows(QueryBudgetExceededException.class, sut::checkBudget);
+    }
+  }
+
+  @Test
+  void 拒否しない設定の場合は上限を超えても例外が発生しないこと() {
+    try (RequestQueryCounter sut = RequestQueryCounter.begin(new QueryBudget(1, 10), false)) {
+      sut.record("searchStudent", 4);
+      sut.record("searchStudentCourseList", 10);
+
+      assertThat(sut.isOverBudget()).isTrue();
+      sut.checkBudget();
+    }
+  }
+
+}
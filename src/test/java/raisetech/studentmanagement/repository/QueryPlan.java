@@ -0,0 +1,72 @@
+package raisetech.studentmanagement.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.sql.DataSource;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+/**
+ * ステートメントを EXPLAIN ANALYZE で実行した実行計画です。
+ * データベース（H2）が実際に読み込んだ行数（テーブルごとの scanCount の合計）と、全件走査（tableScan）の有無を確認できます。
+ *
+ * @param plan 実行計画
+ */
+record QueryPlan(String plan) {
+
+  private static final Pattern TABLE_SCAN = Pattern.compile("\\.tableScan\\b");
+  private static final Pattern SCAN_COUNT = Pattern.compile("scanCount: (\\d+)");
+
+  /**
+   * ステートメントのSQLに EXPLAIN ANALYZE を付けて実行します。
+   * テストのトランザクション内で実行するため、登録や更新のステートメントもテスト後にロールバックされます。
+   *
+   * @param dataSource テストのトランザクションのデータソース
+   * @param mappedStatement 実行するステートメント
+   * @param parameter ステートメントに渡すパラメータ
+   * @return 実行計画
+   */
+  static QueryPlan explainAnalyze(DataSource dataSource, MappedStatement mappedStatement, Object parameter)
+      throws Exception {
+    BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try (PreparedStatement statement = connection.prepareStatement("EXPLAIN ANALYZE " + boundSql.getSql())) {
+      new DefaultParameterHandler(mappedStatement, parameter, boundSql).setParameters(statement);
+      try (ResultSet resultSet = statement.executeQuery()) {
+        resultSet.next();
+        return new QueryPlan(resultSet.getString(1));
+      }
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  /**
+   * 全件走査を含むかどうかを返します。
+   */
+  boolean hasTableScan() {
+    return TABLE_SCAN.matcher(plan).find();
+  }
+
+  /**
+   * 実行計画に含まれるテーブルごとの scanCount を合計した、読み込んだ行数を返します。
+   */
+  long rowsRead() {
+    long rowsRead = 0;
+    Matcher matcher = SCAN_COUNT.matcher(plan);
+    while (matcher.find()) {
+      rowsRead += Long.parseLong(matcher.group(1));
+    }
+    return rowsRead;
+  }
+
+  @Override
+  public String toString() {
+    return plan;
+  }
+}
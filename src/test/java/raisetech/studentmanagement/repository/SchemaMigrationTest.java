@@ -0,0 +1,49 @@
+package raisetech.studentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * テスト用のデータベースが本番と同じFlywayのマイグレーションで作成されていることを確認するテストです。
+ */
+@MybatisTest
+class SchemaMigrationTest {
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Test
+  void 結合と条件検索に使う列にインデックスが作成されていること() throws Exception {
+    assertThat(indexNames("STUDENTS_COURSES")).contains("IDX_STUDENTS_COURSES_STUDENT_ID");
+    assertThat(indexNames("STUDENTS_COURSES_STATUS")).contains("IDX_STUDENTS_COURSES_STATUS_COURSE_ID");
+    assertThat(indexNames("STUDENTS_COURSES_STATUS")).contains("IDX_STUDENTS_COURSES_STATUS_STATUS_COURSE_ID");
+    assertThat(indexNames("STUDENTS")).contains("IDX_STUDENTS_IS_DELETED_CITY_GENDER", "IDX_STUDENTS_IS_DELETED_AGE",
+        "IDX_STUDENTS_IS_DELETED_STUDENT_ID");
+  }
+
+  private List<String> indexNames(String tableName) throws Exception {
+    List<String> indexNames = new ArrayList<>();
+    try (Connection connection = dataSource.getConnection()) {
+      DatabaseMetaData metaData = connection.getMetaData();
+      try (ResultSet resultSet = metaData.getIndexInfo(null, null, tableName, false, false)) {
+        while (resultSet.next()) {
+          String indexName = resultSet.getString("INDEX_NAME");
+          if (indexName != null) {
+            indexNames.add(indexName.toUpperCase());
+          }
+        }
+      }
+    }
+    return indexNames;
+  }
+
+}
@@ -0,0 +1,293 @@
+package raisetech.studentmanagement.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import javax.sql.DataSource;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentSearchCondition;
+
+/**
+ * StudentRepository.xml の全てのステートメントの実行計画を確認するテストです。
+ * 受講生1000人分のデータを投入したうえで、ステートメントごとに登録した代表的なパラメータで EXPLAIN ANALYZE を実行し、
+ * 全件走査（tableScan）になっていないこと、読み込んだ行数（scanCount の合計）が上限以内であることを確認します。
+ * ステートメントを追加した場合は {@link #STATEMENT_PLANS} にパラメータと上限を登録してください。
+ */
+@MybatisTest
+class StudentRepositoryQueryPlanTest {
+
+  private static final String NAMESPACE = StudentRepository.class.getName();
+
+  private static final int SEED_STUDENT_COUNT = 1000;
+  private static final int COURSES_PER_STUDENT = 3;
+
+  /**
+   * テストデータ（db/testdata）と投入したデータを合わせた件数です。
+   */
+  private static final int TOTAL_STUDENTS = SEED_STUDENT_COUNT + 4;
+  private static final int TOTAL_COURSES = SEED_STUDENT_COUNT * COURSES_PER_STUDENT + 10;
+
+  /**
+   * ページ検索の1ページの件数です。ページ検索は受講生の件数によらず、1ページ分の行だけを読み込むことを確認します。
+   */
+  private static final int PAGE_LIMIT = 10;
+
+  private static final String[] CITIES = {"東京都", "埼玉県", "滋賀県", "秋田県", "大阪府"};
+  private static final String[] GENDERS = {"男性", "女性", "その他"};
+  private static final String[] COURSE_NAMES = {"Java基礎", "Spring Boot入門", "Webアプリ開発", "データベース基礎"};
+  private static final String[] STATUSES = {"仮申込", "本申込", "受講中", "受講終了"};
+
+  /**
+   * 投入したデータのうち、申込状況が1つの値に一致するコース申込状況の件数です（テストデータの分は含まない）。
+   */
+  private static final int COURSES_PER_STATUS = SEED_STUDENT_COUNT / STATUSES.length * COURSES_PER_STUDENT;
+
+  /**
+   * ステートメントごとの代表的なパラメータと、読み込んでよい行数の上限です。
+   * 一覧を全件返すステートメントだけ全件走査を許可します。
+   */
+  private static final Map<String, StatementPlan> STATEMENT_PLANS = new HashMap<>();
+
+  static {
+    // 検索
+    STATEMENT_PLANS.put("searchStudent", StatementPlan.fullScan(null, TOTAL_STUDENTS));
+    STATEMENT_PLANS.put("searchStudentPage",
+        StatementPlan.of(params("afterStudentId", seedStudentId(500), "limit", PAGE_LIMIT), PAGE_LIMIT + 10));
+    STATEMENT_PLANS.put("searchStudentById", StatementPlan.of(seedStudentId(1), 5));
+    STATEMENT_PLANS.put("searchStudentByCondition", StatementPlan.of(searchCondition("東京都", "男性"), TOTAL_STUDENTS / 5));
+    STATEMENT_PLANS.put("searchStudentByConditionInIds",
+        StatementPlan.of(params("condition", courseCondition("Java基礎", "仮申込"), "studentIds", seedStudentIds(3)), 60));
+    STATEMENT_PLANS.put("searchStudentCourseList", StatementPlan.fullScan(null, TOTAL_COURSES));
+    STATEMENT_PLANS.put("searchStudentCourseListById", StatementPlan.of(seedStudentId(1), 10));
+    STATEMENT_PLANS.put("searchStudentCourseListByStudentIds",
+        StatementPlan.of(params("studentIds", seedStudentIds(3)), 20));
+    STATEMENT_PLANS.put("searchStudentCourseStatusList", StatementPlan.fullScan(null, TOTAL_COURSES));
+    STATEMENT_PLANS.put("searchStudentCourseStatusListByStudentIds",
+        StatementPlan.of(params("studentIds", seedStudentIds(3)), 40));
+    STATEMENT_PLANS.put("searchStudentCourseStatusById", StatementPlan.of(seedCourseId(1, 0), 5));
+    STATEMENT_PLANS.put("searchStudentDetailCursor", StatementPlan.fullScan(null, TOTAL_STUDENTS + TOTAL_COURSES));
+    STATEMENT_PLANS.put("searchStudentDetailWithStatusCursor",
+        StatementPlan.fullScan(null, TOTAL_STUDENTS + TOTAL_COURSES * 2));
+    STATEMENT_PLANS.put("searchStudentDetailListWithStatus",
+        StatementPlan.fullScan(null, TOTAL_STUDENTS + TOTAL_COURSES * 2));
+    STATEMENT_PLANS.put("searchStudentDetailByIdWithStatus", StatementPlan.of(seedStudentId(1), 20));
+    STATEMENT_PLANS.put("searchStudentDetailListWithStatusByStudentIds",
+        StatementPlan.of(params("studentIds", seedStudentIds(3)), 40));
+    STATEMENT_PLANS.put("searchStudentDetailPageWithStatus",
+        StatementPlan.of(params("afterStudentId", seedStudentId(500), "limit", PAGE_LIMIT),
+            PAGE_LIMIT * (2 + COURSES_PER_STUDENT * 2) + 10));
+    STATEMENT_PLANS.put("searchStudentIdByStatusId", StatementPlan.of(seedStatusId(1, 0), 5));
+    STATEMENT_PLANS.put("searchStudentIdListByStatusIds",
+        StatementPlan.of(params("statusIds", List.of(seedStatusId(1, 0), seedStatusId(2, 0), seedStatusId(3, 0))), 20));
+    STATEMENT_PLANS.put("searchStatusIdListByCondition",
+        StatementPlan.of(params("courseName", "Java基礎", "status", "受講中"), COURSES_PER_STATUS * 2 + 20));
+
+    // 登録
+    STATEMENT_PLANS.put("registerStudent", StatementPlan.of(student("plan-student-1"), 5));
+    STATEMENT_PLANS.put("registerStudentCourse", StatementPlan.of(studentCourse("plan-course-1", seedStudentId(1)), 5));
+    STATEMENT_PLANS.put("registerStudentCourseStatus", StatementPlan.of(studentCourseStatus("plan-status-1", "plan-course-1"), 5));
+    STATEMENT_PLANS.put("registerStudents",
+        StatementPlan.of(params("students", List.of(student("plan-student-2"), student("plan-student-3"))), 5));
+    STATEMENT_PLANS.put("registerStudentCourses", StatementPlan.of(params("studentCourses",
+        List.of(studentCourse("plan-course-2", seedStudentId(1)), studentCourse("plan-course-3", seedStudentId(1)))), 5));
+    STATEMENT_PLANS.put("registerStudentCourseStatuses", StatementPlan.of(params("studentCourseStatuses",
+        List.of(studentCourseStatus("plan-status-2", "plan-course-2"), studentCourseStatus("plan-status-3", "plan-course-3"))), 5));
+
+    // 更新
+    STATEMENT_PLANS.put("updateStudent", StatementPlan.of(student(seedStudentId(1)), 5));
+    STATEMENT_PLANS.put("updateStudentCourse", StatementPlan.of(studentCourse(seedCourseId(1, 0), seedStudentId(1)), 5));
+    STATEMENT_PLANS.put("updateStudentCourseStatus",
+        StatementPlan.of(studentCourseStatus(seedStatusId(1, 0), seedCourseId(1, 0)), 5));
+    STATEMENT_PLANS.put("updateStudentCourseStatusByStatusIds", StatementPlan.of(params(
+        "statusIds", List.of(seedStatusId(1, 0), seedStatusId(2, 0), seedStatusId(3, 0)),
+        "status", "本申込", "currentStatus", "仮申込"), 10));
+    STATEMENT_PLANS.put("localDeleteStudent", StatementPlan.of(seedStudentId(1), 5));
+  }
+
+  @Autowired
+  private StudentRepository repository;
+
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @BeforeEach
+  void before() {
+    List<Student> students = new ArrayList<>(SEED_STUDENT_COUNT);
+    List<StudentCourse> studentCourses = new ArrayList<>();
+    List<StudentCourseStatus> studentCourseStatuses = new ArrayList<>();
+
+    for (int i = 0; i < SEED_STUDENT_COUNT; i++) {
+      Student student = student(seedStudentId(i));
+      student.setCity(CITIES[i % CITIES.length]);
+      student.setGender(GENDERS[i % GENDERS.length]);
+      students.add(student);
+
+      for (int j = 0; j < COURSES_PER_STUDENT; j++) {
+        StudentCourse studentCourse = studentCourse(seedCourseId(i, j), student.getStudentId());
+        studentCourse.setCourseName(COURSE_NAMES[(i + j) % COURSE_NAMES.length]);
+        studentCourses.add(studentCourse);
+        StudentCourseStatus studentCourseStatus = studentCourseStatus(seedStatusId(i, j), studentCourse.getCourseId());
+        studentCourseStatus.setStatus(STATUSES[i % STATUSES.length]);
+        studentCourseStatuses.add(studentCourseStatus);
+      }
+    }
+
+    repository.registerStudents(students);
+    repository.registerStudentCourses(studentCourses);
+    repository.registerStudentCourseStatuses(studentCourseStatuses);
+  }
+
+  @Test
+  void 全てのステートメントに代表的なパラメータと読み込み行数の上限が登録されていること() {
+    assertThat(STATEMENT_PLANS.keySet()).containsExactlyInAnyOrderElementsOf(statementIds());
+  }
+
+  @Test
+  void 全てのステートメントが全件走査にならず読み込み行数の上限を超えないこと() throws Exception {
+    Configuration configuration = sqlSessionFactory.getConfiguration();
+    SoftAssertions softly = new SoftAssertions();
+
+    for (String statementId : statementIds()) {
+      StatementPlan statementPlan = STATEMENT_PLANS.get(statementId);
+      if (statementPlan == null) {
+        softly.fail("%s の代表的なパラメータと読み込み行数の上限が登録されていません", statementId);
+        continue;
+      }
+
+      QueryPlan plan = QueryPlan.explainAnalyze(dataSource,
+          configuration.getMappedStatement(NAMESPACE + "." + statementId), statementPlan.parameter());
+
+      if (!statementPlan.fullScanAllowed()) {
+        softly.assertThat(plan.hasTableScan())
+            .as("%s が全件走査になっています:%n%s", statementId, plan)
+            .isFalse();
+      }
+      softly.assertThat(plan.rowsRead())
+          .as("%s の読み込み行数が上限（%d行）を超えています:%n%s", statementId, statementPlan.maxRowsRead(), plan)
+          .isLessThanOrEqualTo(statementPlan.maxRowsRead());
+    }
+
+    softly.assertAll();
+  }
+
+  /**
+   * StudentRepository の名前空間にあるステートメントIDの一覧を返します。
+   */
+  private TreeSet<String> statementIds() {
+    TreeSet<String> statementIds = new TreeSet<>();
+    for (String name : sqlSessionFactory.getConfiguration().getMappedStatementNames()) {
+      if (name.startsWith(NAMESPACE + ".")) {
+        statementIds.add(name.substring(NAMESPACE.length() + 1));
+      }
+    }
+    return statementIds;
+  }
+
+  private static Map<String, Object> params(Object... keyAndValues) {
+    Map<String, Object> params = new HashMap<>();
+    for (int i = 0; i < keyAndValues.length; i += 2) {
+      params.put((String) keyAndValues[i], keyAndValues[i + 1]);
+    }
+    return params;
+  }
+
+  private static String seedStudentId(int i) {
+    return String.format("seed-%04d", i);
+  }
+
+  private static List<String> seedStudentIds(int count) {
+    List<String> studentIds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      studentIds.add(seedStudentId(i * 100));
+    }
+    return studentIds;
+  }
+
+  private static String seedCourseId(int i, int j) {
+    return seedStudentId(i) + "-course-" + j;
+  }
+
+  private static String seedStatusId(int i, int j) {
+    return seedCourseId(i, j) + "-status";
+  }
+
+  private static StudentSearchCondition searchCondition(String city, String gender) {
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setCity(city);
+    condition.setGender(gender);
+    return condition;
+  }
+
+  private static StudentSearchCondition courseCondition(String courseName, String status) {
+    StudentSearchCondition condition = new StudentSearchCondition();
+    condition.setCourseName(courseName);
+    condition.setStatus(status);
+    return condition;
+  }
+
+  private static Student student(String studentId) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setName("実行計画太郎");
+    student.setFurigana("じっこうけいかくたろう");
+    student.setEmail("plan@example.com");
+    student.setCity("東京都");
+    student.setAge(20);
+    student.setGender("男性");
+    return student;
+  }
+
+  private static StudentCourse studentCourse(String courseId, String studentId) {
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseId(courseId);
+    studentCourse.setStudentId(studentId);
+    studentCourse.setCourseName("Java基礎");
+    studentCourse.setStartDate(LocalDate.parse("2025-01-01"));
+    studentCourse.setEndDate(LocalDate.parse("2026-01-01"));
+    return studentCourse;
+  }
+
+  private static StudentCourseStatus studentCourseStatus(String statusId, String courseId) {
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatusId(statusId);
+    studentCourseStatus.setCourseId(courseId);
+    studentCourseStatus.setStatus("仮申込");
+    return studentCourseStatus;
+  }
+
+  /**
+   * ステートメントの代表的なパラメータと、読み込んでよい行数の上限です。
+   *
+   * @param parameter ステートメントに渡すパラメータ
+   * @param maxRowsRead 読み込んでよい行数（scanCount の合計）の上限
+   * @param fullScanAllowed 全件走査を許可するかどうか
+   */
+  private record StatementPlan(Object parameter, long maxRowsRead, boolean fullScanAllowed) {
+
+    static StatementPlan of(Object parameter, long maxRowsRead) {
+      return new StatementPlan(parameter, maxRowsRead, false);
+    }
+
+    static StatementPlan fullScan(Object parameter, long maxRowsRead) {
+      return new StatementPlan(parameter, maxRowsRead, true);
+    }
+  }
+
+}
@@ -1,15 +1,21 @@
 package raisetech.studentmanagement.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import javax.sql.DataSource;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.Test;
 import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
 import org.springframework.beans.factory.annotation.Autowired;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
 import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentDetail;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
 
 @MybatisTest
@@ -18,12 +24,27 @@ class StudentRepositoryTest {
   @Autowired
   private StudentRepository sut;
 
+  @Autowired
+  private SqlSessionFactory sqlSessionFactory;
+
+  @Autowired
+  private DataSource dataSource;
+
   @Test
   void 受講生の全件検索が行えること() {
     List<Student> actual = sut.searchStudent();
     assertThat(actual.size()).isEqualTo(4);
   }
 
+  @Test
+  void 受講生のページ検索が受講生IDの順に行えること() {
+    List<Student> firstPage = sut.searchStudentPage(null, 3);
+    List<Student> secondPage = sut.searchStudentPage("3", 3);
+
+    assertThat(firstPage).extracting(Student::getStudentId).containsExactly("1", "2", "3");
+    assertThat(secondPage).extracting(Student::getStudentId).containsExactly("4");
+  }
+
   @Test
   void 受講生のID検索が行えること() {
     Student expected = new Student();
@@ -60,13 +81,25 @@ class StudentRepositoryTest {
   }
 
   @Test
-  void 受講生の名前部分一致による条件検索が行えること() {
+  void 受講生の条件検索では名前は使われず名前以外の条件で検索されること() {
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
-    studentSearchCondition.setName("鈴木");
+    studentSearchCondition.setName("名前は使われない");
+    studentSearchCondition.setGender("女性");
 
     List<Student> actual = sut.searchStudentByCondition(studentSearchCondition);
 
-    assertThat(actual.size()).isEqualTo(1);
+    assertThat(actual).extracting(Student::getStudentId).containsExactlyInAnyOrder("2", "4");
+  }
+
+  @Test
+  void 受講生IDの一覧に含まれる受講生を名前以外の条件で検索できること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setName("名前は使われない");
+    studentSearchCondition.setGender("女性");
+
+    List<Student> actual = sut.searchStudentByConditionInIds(studentSearchCondition, List.of("1", "2", "3"));
+
+    assertThat(actual).extracting(Student::getStudentId).containsExactly("2");
   }
 
   @Test
@@ -100,6 +133,89 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(1);
   }
 
+  @Test
+  void 受講生の年齢の範囲による条件検索が行えること() {
+    StudentSearchCondition rangeCondition = new StudentSearchCondition();
+    rangeCondition.setMinAge(35);
+    rangeCondition.setMaxAge(38);
+    StudentSearchCondition minAgeCondition = new StudentSearchCondition();
+    minAgeCondition.setMinAge(50);
+    StudentSearchCondition maxAgeCondition = new StudentSearchCondition();
+    maxAgeCondition.setMaxAge(31);
+
+    assertThat(sut.searchStudentByCondition(rangeCondition)).extracting(Student::getStudentId)
+        .containsExactlyInAnyOrder("3", "4");
+    assertThat(sut.searchStudentByCondition(minAgeCondition)).extracting(Student::getStudentId).containsExactly("1");
+    assertThat(sut.searchStudentByCondition(maxAgeCondition)).extracting(Student::getStudentId).containsExactly("2");
+  }
+
+  @Test
+  void 受講生のコース名の前方一致による条件検索が行えること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setCourseName("Spring Boot");
+
+    List<Student> actual = sut.searchStudentByCondition(studentSearchCondition);
+
+    assertThat(actual).extracting(Student::getStudentId).containsExactlyInAnyOrder("1", "3");
+  }
+
+  @Test
+  void 受講生のコース名の条件検索ではコース名の途中に一致しても検索されないこと() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setCourseName("Boot");
+
+    List<Student> actual = sut.searchStudentByCondition(studentSearchCondition);
+
+    assertThat(actual).isEmpty();
+  }
+
+  @Test
+  void 受講生の申込状況による条件検索が行えること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setStatus("受講終了");
+
+    List<Student> actual = sut.searchStudentByCondition(studentSearchCondition);
+
+    assertThat(actual).extracting(Student::getStudentId).containsExactlyInAnyOrder("2", "4");
+  }
+
+  @Test
+  void コース名と申込状況を指定した場合は両方を満たすコースを受講している受講生だけが検索されること() {
+    StudentSearchCondition matchedCondition = new StudentSearchCondition();
+    matchedCondition.setCourseName("Java");
+    matchedCondition.setStatus("仮申込");
+    // 受講生2は「Java基礎」（受講中）と「Webアプリ開発」（受講終了）を受講しているが、同じコースではない
+    StudentSearchCondition unmatchedCondition = new StudentSearchCondition();
+    unmatchedCondition.setCourseName("Java基礎");
+    unmatchedCondition.setStatus("受講終了");
+
+    assertThat(sut.searchStudentByCondition(matchedCondition)).extracting(Student::getStudentId).containsExactly("1");
+    assertThat(sut.searchStudentByCondition(unmatchedCondition)).isEmpty();
+  }
+
+  @Test
+  void 受講生IDの一覧に含まれる受講生をコース名と申込状況で検索できること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setCourseName("Java");
+    studentSearchCondition.setStatus("受講中");
+
+    List<Student> actual = sut.searchStudentByConditionInIds(studentSearchCondition, List.of("1", "2", "3"));
+
+    assertThat(actual).extracting(Student::getStudentId).containsExactlyInAnyOrder("2", "3");
+  }
+
+  @Test
+  void 性別と年齢とコース名の条件を組み合わせた検索が行えること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setGender("女性");
+    studentSearchCondition.setMaxAge(40);
+    studentSearchCondition.setCourseName("JavaScript");
+
+    List<Student> actual = sut.searchStudentByCondition(studentSearchCondition);
+
+    assertThat(actual).extracting(Student::getStudentId).containsExactly("4");
+  }
+
   @Test
   void 受講生の条件検索で該当がない場合は空リストが返ること() {
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
@@ -147,6 +263,24 @@ class StudentRepositoryTest {
         );
   }
 
+  @Test
+  void 受講生IDの一覧に紐づく受講生コース情報の検索が行えること() {
+    List<StudentCourse> actual = sut.searchStudentCourseListByStudentIds(List.of("1", "3"));
+
+    assertThat(actual)
+        .extracting(StudentCourse::getCourseId)
+        .containsExactlyInAnyOrder("101", "102", "106", "107");
+  }
+
+  @Test
+  void 受講生IDの一覧に紐づくコース申込状況の検索が行えること() {
+    List<StudentCourseStatus> actual = sut.searchStudentCourseStatusListByStudentIds(List.of("2"));
+
+    assertThat(actual)
+        .extracting(StudentCourseStatus::getStatusId)
+        .containsExactlyInAnyOrder("203", "204", "205");
+  }
+
   @Test
   void コース申込状況の全件検索が行えること(){
     List<StudentCourseStatus> actual = sut.searchStudentCourseStatusList();
@@ -165,6 +299,132 @@ class StudentRepositoryTest {
     assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
   }
 
+  @Test
+  void 受講生詳細の全件をカーソルで受講生ごとに読み込めること() throws Exception {
+    List<StudentDetail> actual = new ArrayList<>();
+
+    try (Cursor<StudentDetail> cursor = sut.searchStudentDetailCursor()) {
+      cursor.forEach(actual::add);
+    }
+
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudent().getStudentId())
+        .containsExactly("1", "2", "3", "4");
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudentCourseList().size())
+        .containsExactly(2, 3, 2, 3);
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の全件をカーソルで受講生ID順に読み込めること() throws Exception {
+    List<StudentDetail> actual = new ArrayList<>();
+
+    try (Cursor<StudentDetail> cursor = sut.searchStudentDetailWithStatusCursor()) {
+      cursor.forEach(actual::add);
+    }
+
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudent().getStudentId())
+        .containsExactly("1", "2", "3", "4");
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudentCourseList().size())
+        .containsExactly(2, 3, 2, 3);
+    assertThat(actual.get(1).getStudentCourseList())
+        .extracting(studentCourse -> studentCourse.getCourseStatus().getStatus())
+        .containsExactly("受講中", "受講終了", "受講中");
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の全件検索が結合クエリで行えること() {
+    List<StudentDetail> actual = sut.searchStudentDetailListWithStatus();
+
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudent().getStudentId())
+        .containsExactly("1", "2", "3", "4");
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudentCourseList().size())
+        .containsExactly(2, 3, 2, 3);
+    assertThat(actual.get(1).getStudentCourseList())
+        .extracting(studentCourse -> studentCourse.getCourseStatus().getStatus())
+        .containsExactly("受講中", "受講終了", "受講中");
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細の全件検索でコースがない受講生は空のコース一覧になること() {
+    Student student = new Student();
+    student.setStudentId("test-id-123");
+    student.setName("テスト太郎");
+    student.setFurigana("てすとたろう");
+    student.setEmail("test@example.com");
+    sut.registerStudent(student);
+
+    StudentDetail actual = sut.searchStudentDetailListWithStatus().stream()
+        .filter(studentDetail -> studentDetail.getStudent().getStudentId().equals("test-id-123"))
+        .findFirst()
+        .orElseThrow();
+
+    assertThat(actual.getStudentCourseList()).isEmpty();
+  }
+
+  @Test
+  void 受講生IDに紐づくコース申込状況を含む受講生詳細の検索が結合クエリで行えること() {
+    StudentDetail actual = sut.searchStudentDetailByIdWithStatus("1");
+
+    assertThat(actual.getStudent().getName()).isEqualTo("鈴木大介");
+    assertThat(actual.getStudentCourseList())
+        .extracting(StudentCourse::getCourseId, StudentCourse::getCourseName,
+            studentCourse -> studentCourse.getCourseStatus().getStatus())
+        .containsExactly(
+            tuple("101", "Java基礎", "仮申込"),
+            tuple("102", "Spring Boot入門", "仮申込")
+        );
+  }
+
+  @Test
+  void 受講生IDに紐づくコース申込状況を含む受講生詳細の検索では対象の受講生の行だけを読み込むこと() throws Exception {
+    for (int i = 0; i < 50; i++) {
+      Student student = new Student();
+      student.setStudentId("test-id-" + i);
+      student.setName("テスト太郎" + i);
+      student.setFurigana("てすとたろう");
+      student.setEmail("test" + i + "@example.com");
+      sut.registerStudent(student);
+
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setCourseId("test-course-id-" + i);
+      studentCourse.setStudentId(student.getStudentId());
+      studentCourse.setCourseName("テストコース");
+      sut.registerStudentCourse(studentCourse);
+
+      StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+      studentCourseStatus.setStatusId("test-status-id-" + i);
+      studentCourseStatus.setCourseId(studentCourse.getCourseId());
+      studentCourseStatus.setStatus("仮申込");
+      sut.registerStudentCourseStatus(studentCourseStatus);
+    }
+
+    StudentDetail actual = sut.searchStudentDetailByIdWithStatus("2");
+    // データベースが実際に読み込んだ行数で確認する（返した行数は全件走査でも3行になるため）
+    QueryPlan plan = QueryPlan.explainAnalyze(dataSource, sqlSessionFactory.getConfiguration()
+        .getMappedStatement(StudentRepository.class.getName() + ".searchStudentDetailByIdWithStatus"), "2");
+
+    assertThat(actual.getStudentCourseList()).hasSize(3);
+    assertThat(plan.hasTableScan()).as("%s", plan).isFalse();
+    assertThat(plan.rowsRead()).as("%s", plan).isLessThan(20);
+  }
+
+  @Test
+  void 受講生IDに紐づくコース申込状況を含む受講生詳細の検索で該当がない場合はnullが返ること() {
+    StudentDetail actual = sut.searchStudentDetailByIdWithStatus("999");
+
+    assertThat(actual).isNull();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細のページ検索ではページの受講生のコースだけが取得されること() {
+    List<StudentDetail> actual = sut.searchStudentDetailPageWithStatus("1", 2);
+
+    assertThat(actual).extracting(studentDetail -> studentDetail.getStudent().getStudentId())
+        .containsExactly("2", "3");
+    assertThat(actual).flatExtracting(StudentDetail::getStudentCourseList)
+        .extracting(StudentCourse::getCourseId)
+        .containsExactly("103", "104", "105", "106", "107");
+  }
+
   @Test
   void 受講生の登録が行えること() {
     Student student = new Student();
@@ -215,6 +475,57 @@ class StudentRepositoryTest {
     assertThat(actual.size()).isEqualTo(11);
   }
 
+  @Test
+  void 受講生の複数行の一括登録が行えること() {
+    List<Student> students = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      Student student = new Student();
+      student.setStudentId("bulk-id-" + i);
+      student.setName("一括太郎" + i);
+      student.setFurigana("いっかつたろう");
+      student.setEmail("bulk" + i + "@example.com");
+      student.setCity("東京都");
+      student.setAge(20);
+      student.setGender("男性");
+      students.add(student);
+    }
+
+    sut.registerStudents(students);
+
+    assertThat(sut.searchStudent().size()).isEqualTo(7);
+    assertThat(sut.searchStudentById("bulk-id-2").getName()).isEqualTo("一括太郎2");
+  }
+
+  @Test
+  void 受講生コース情報とコース申込状況の複数行の一括登録が行えること() {
+    List<StudentCourse> studentCourses = new ArrayList<>();
+    List<StudentCourseStatus> studentCourseStatuses = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setCourseId("bulk-course-" + i);
+      studentCourse.setStudentId("1");
+      studentCourse.setCourseName("一括コース" + i);
+      studentCourse.setStartDate(LocalDate.parse("2025-01-01"));
+      studentCourse.setEndDate(LocalDate.parse("2026-01-01"));
+      studentCourses.add(studentCourse);
+
+      StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+      studentCourseStatus.setStatusId("bulk-status-" + i);
+      studentCourseStatus.setCourseId("bulk-course-" + i);
+      studentCourseStatus.setStatus("仮申込");
+      studentCourseStatuses.add(studentCourseStatus);
+    }
+
+    sut.registerStudentCourses(studentCourses);
+    sut.registerStudentCourseStatuses(studentCourseStatuses);
+
+    assertThat(sut.searchStudentCourseList().size()).isEqualTo(12);
+    assertThat(sut.searchStudentCourseStatusList().size()).isEqualTo(12);
+    assertThat(sut.searchStudentDetailByIdWithStatus("1").getStudentCourseList())
+        .extracting(StudentCourse::getCourseId, studentCourse -> studentCourse.getCourseStatus().getStatus())
+        .contains(tuple("bulk-course-0", "仮申込"), tuple("bulk-course-1", "仮申込"));
+  }
+
   @Test
   void 受講生の更新が行えること() {
     Student student = new Student();
@@ -281,6 +592,39 @@ class StudentRepositoryTest {
     assertThat(searchStudentCourseStatusById.getStatus()).isEqualTo("本申込");
   }
 
+  @Test
+  void コース申込状況IDの一覧から受講生IDが重複なく検索できること() {
+    List<String> actual = sut.searchStudentIdListByStatusIds(List.of("201", "202", "203"));
+
+    assertThat(actual).containsExactlyInAnyOrder("1", "2");
+  }
+
+  @Test
+  void コース名と申込状況に一致するコース申込状況IDが検索できること() {
+    assertThat(sut.searchStatusIdListByCondition("Java基礎", "仮申込")).containsExactly("201");
+    assertThat(sut.searchStatusIdListByCondition("Java基礎", null)).containsExactlyInAnyOrder("201", "203");
+    assertThat(sut.searchStatusIdListByCondition(null, "受講終了")).containsExactlyInAnyOrder("204", "210");
+  }
+
+  @Test
+  void コース申込状況の一括更新が行えて更新件数が返ること() {
+    int actual = sut.updateStudentCourseStatusByStatusIds(List.of("201", "202", "203"), "本申込", null);
+
+    assertThat(actual).isEqualTo(3);
+    assertThat(sut.searchStudentCourseStatusList())
+        .filteredOn(studentCourseStatus -> studentCourseStatus.getStatus().equals("本申込"))
+        .extracting(StudentCourseStatus::getStatusId)
+        .containsExactlyInAnyOrder("201", "202", "203", "209");
+  }
+
+  @Test
+  void コース申込状況の一括更新で現在の申込状況を指定した場合はその申込状況の行だけが更新されること() {
+    int actual = sut.updateStudentCourseStatusByStatusIds(List.of("201", "202", "203"), "本申込", "仮申込");
+
+    assertThat(actual).isEqualTo(2);
+    assertThat(sut.searchStudentCourseStatusById("103").getStatus()).isEqualTo("受講中");
+  }
+
   @Test
   void 受講生の論理削除が行えること() {
 
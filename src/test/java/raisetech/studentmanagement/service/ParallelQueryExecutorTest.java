@@ -0,0 +1,138 @@
+package raisetech.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import raisetech.studentmanagement.metrics.QueryBudget;
+import raisetech.studentmanagement.metrics.RequestQueryCounter;
+
+class ParallelQueryExecutorTest {
+
+  private ParallelQueryExecutor sut;
+
+  @AfterEach
+  void after() {
+    TransactionSynchronizationManager.setActualTransactionActive(false);
+    sut.shutdown();
+  }
+
+  @Test
+  void 2つの検索が同時に実行されて結果が結合されること() {
+    sut = new ParallelQueryExecutor(true, 2);
+    // 両方の検索が開始するまで、どちらの検索も完了しない
+    CountDownLatch bothStarted = new CountDownLatch(2);
+    AtomicReference<Thread> firstThread = new AtomicReference<>();
+
+    String actual = sut.both(
+        () -> {
+          firstThread.set(Thread.currentThread());
+          return awaitAndReturn(bothStarted, "受講生");
+        },
+        () -> awaitAndReturn(bothStarted, "コース"),
+        (first, second) -> first + "と" + second);
+
+    assertThat(actual).isEqualTo("受講生とコース");
+    assertThat(firstThread.get().isVirtual()).isTrue();
+  }
+
+  @Test
+  void 無効な場合は呼び出し元のスレッドで順に実行されること() {
+    sut = new ParallelQueryExecutor(false, 2);
+
+    Thread actual = sut.both(Thread::currentThread, () -> "コース", (first, second) -> first);
+
+    assertThat(actual).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void トランザクションの中では同じコネクションで読むよう呼び出し元のスレッドで実行されること() {
+    sut = new ParallelQueryExecutor(true, 2);
+    TransactionSynchronizationManager.setActualTransactionActive(true);
+
+    Thread actual = sut.both(Thread::currentThread, () -> "コース", (first, second) -> first);
+
+    assertThat(actual).isSameAs(Thread.currentThread());
+  }
+
+  @Test
+  void 同時実行数の上限に達している場合は呼び出し元のスレッドで実行されること() {
+    sut = new ParallelQueryExecutor(true, 1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicReference<Thread> innerFirstThread = new AtomicReference<>();
+
+    // 1つ目の検索が枠を使っている間に、入れ子で検索を実行する
+    sut.both(
+        () -> await(release, "受講生"),
+        () -> {
+          innerFirstThread.set(sut.both(Thread::currentThread, () -> "コース", (first, second) -> first));
+          release.countDown();
+          return "コース";
+        },
+        (first, second) -> first);
+
+    assertThat(innerFirstThread.get().isVirtual()).isFalse();
+  }
+
+  @Test
+  void 仮想スレッドで実行した検索が呼び出し元のリクエストのステートメントとして数えられること() {
+    sut = new ParallelQueryExecutor(true, 2);
+
+    try (RequestQueryCounter counter = RequestQueryCounter.begin(QueryBudget.UNLIMITED, false)) {
+      sut.both(
+          () -> {
+            RequestQueryCounter.current().record("searchStudent", 3);
+            return "受講生";
+          },
+          () -> "コース",
+          (first, second) -> first);
+
+      assertThat(counter.statementCount()).isEqualTo(1);
+      assertThat(counter.rowCount()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  void 仮想スレッドの検索で発生した例外がそのまま投げられること() {
+    sut = new ParallelQueryExecutor(true, 2);
+
+    IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> sut.both(
+        () -> {
+          throw new IllegalArgumentException("検索に失敗しました");
+        },
+        () -> "コース",
+        (first, second) -> first));
+
+    assertThat(actual.getMessage()).isEqualTo("検索に失敗しました");
+  }
+
+  @Test
+  void 同時実行数の上限が1未満の場合は例外が発生すること() {
+    sut = new ParallelQueryExecutor(false, 1);
+
+    assertThrows(IllegalArgumentException.class, () -> new ParallelQueryExecutor(true, 0));
+  }
+
+  private static String awaitAndReturn(CountDownLatch latch, String value) {
+    latch.countDown();
+    return await(latch, value);
+  }
+
+  private static String await(CountDownLatch latch, String value) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("待ち合わせがタイムアウトしました");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,221 @@
+package raisetech.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.validation.Validation;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentCourseStatusTransition;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentBulkServiceTest {
+
+  @Mock
+  private StudentRepository repository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  private PlatformTransactionManager transactionManager;
+
+  private StudentBulkService sut;
+
+  @BeforeEach
+  void before() {
+    transactionManager = mock(PlatformTransactionManager.class);
+    sut = new StudentBulkService(repository, new TransactionTemplate(transactionManager),
+        Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher, 2);
+  }
+
+  @Test
+  void 受講生詳細の一括登録_チャンクごとに複数行INSERTとコミットが行われること() {
+    List<StudentDetail> studentDetailList = List.of(
+        createStudentDetail("テスト太郎", 2), createStudentDetail("テスト次郎", 1), createStudentDetail("テスト三郎", 0));
+
+    List<StudentRegistrationResult> actual = sut.registerStudents(studentDetailList);
+
+    ArgumentCaptor<List<Student>> studentsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(2)).registerStudents(studentsCaptor.capture());
+    assertThat(studentsCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+
+    ArgumentCaptor<List<StudentCourse>> studentCoursesCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(2)).registerStudentCourses(studentCoursesCaptor.capture());
+    assertThat(studentCoursesCaptor.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    verify(repository, times(2)).registerStudentCourseStatuses(anyList());
+    verify(transactionManager, times(2)).commit(any());
+
+    StudentDetail first = studentDetailList.get(0);
+    assertThat(first.getStudent().getStudentId()).isNotNull();
+    assertThat(first.getStudentCourseList()).allSatisfy(studentCourse -> {
+      assertThat(studentCourse.getStudentId()).isEqualTo(first.getStudent().getStudentId());
+      assertThat(studentCourse.getCourseStatus().getStatus()).isEqualTo("仮申込");
+      assertThat(studentCourse.getCourseStatus().getCourseId()).isEqualTo(studentCourse.getCourseId());
+    });
+
+    assertThat(actual)
+        .extracting(StudentRegistrationResult::getIndex, StudentRegistrationResult::isRegistered,
+            StudentRegistrationResult::getStudentId)
+        .containsExactly(
+            tuple(0, true, studentDetailList.get(0).getStudent().getStudentId()),
+            tuple(1, true, studentDetailList.get(1).getStudent().getStudentId()),
+            tuple(2, true, studentDetailList.get(2).getStudent().getStudentId()));
+
+    ArgumentCaptor<StudentChangedEvent> eventCaptor = ArgumentCaptor.forClass(StudentChangedEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getAllValues()).extracting(StudentChangedEvent::getChangeType)
+        .containsOnly(ChangeType.REGISTERED);
+    assertThat(eventCaptor.getAllValues().get(0).getStudentIds()).containsExactly(
+        studentDetailList.get(0).getStudent().getStudentId(), studentDetailList.get(1).getStudent().getStudentId());
+  }
+
+  @Test
+  void 受講生詳細の一括登録_入力チェックにかかった受講生詳細は登録せずに理由を返すこと() {
+    StudentDetail invalid = createStudentDetail("テスト太郎", 0);
+    invalid.getStudent().setEmail("example.com");
+    List<StudentDetail> studentDetailList = List.of(invalid, createStudentDetail("テスト次郎", 0));
+
+    List<StudentRegistrationResult> actual = sut.registerStudents(studentDetailList);
+
+    ArgumentCaptor<List<Student>> studentsCaptor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(1)).registerStudents(studentsCaptor.capture());
+    assertThat(studentsCaptor.getValue()).extracting(Student::getName).containsExactly("テスト次郎");
+    verify(repository, never()).registerStudentCourses(anyList());
+
+    assertThat(actual.get(0).isRegistered()).isFalse();
+    assertThat(actual.get(0).getStudentId()).isNull();
+    assertThat(actual.get(0).getErrorMessage()).isEqualTo("student.email: 正しいメールアドレスを入力してください");
+    assertThat(actual.get(1).isRegistered()).isTrue();
+  }
+
+  @Test
+  void 受講生詳細の一括登録_登録に失敗したチャンクだけがロールバックされて失敗になること() {
+    List<StudentDetail> studentDetailList = List.of(
+        createStudentDetail("テスト太郎", 0), createStudentDetail("テスト次郎", 0), createStudentDetail("テスト三郎", 0));
+    doThrow(new DataIntegrityViolationException("duplicate"))
+        .doNothing()
+        .when(repository).registerStudents(anyList());
+
+    List<StudentRegistrationResult> actual = sut.registerStudents(studentDetailList);
+
+    assertThat(actual).extracting(StudentRegistrationResult::isRegistered).containsExactly(false, false, true);
+    assertThat(actual.get(0).getErrorMessage()).isEqualTo("登録処理に失敗しました。");
+    verify(transactionManager, times(1)).rollback(any());
+    verify(transactionManager, times(1)).commit(any());
+    verify(eventPublisher, times(1)).publishEvent(any(StudentChangedEvent.class));
+  }
+
+  @Test
+  void コース申込状況の一括更新_IN句の上限件数ごとにUPDATE文が実行されて更新件数の合計が返ること() {
+    List<String> statusIds = IntStream.range(0, 2500).mapToObj(String::valueOf).toList();
+    StudentCourseStatusTransition transition = new StudentCourseStatusTransition();
+    transition.setStatusIds(statusIds);
+    transition.setNewStatus("本申込");
+    when(repository.searchStudentIdListByStatusIds(anyList())).thenReturn(List.of("1", "2"));
+    when(repository.updateStudentCourseStatusByStatusIds(anyList(), eq("本申込"), isNull()))
+        .thenReturn(1000, 1000, 500);
+
+    int actual = sut.updateStudentCourseStatuses(transition);
+
+    assertThat(actual).isEqualTo(2500);
+    ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+    verify(repository, times(3)).updateStudentCourseStatusByStatusIds(captor.capture(), eq("本申込"), isNull());
+    assertThat(captor.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+    verify(transactionManager, times(1)).commit(any());
+
+    ArgumentCaptor<StudentChangedEvent> eventCaptor = ArgumentCaptor.forClass(StudentChangedEvent.class);
+    verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+    assertThat(eventCaptor.getValue().getChangeType()).isEqualTo(ChangeType.UPDATED);
+    assertThat(eventCaptor.getValue().getStudentIds()).containsExactly("1", "2");
+  }
+
+  @Test
+  void コース申込状況の一括更新_コース名と現在の申込状況で対象を絞り込めること() {
+    StudentCourseStatusTransition transition = new StudentCourseStatusTransition();
+    transition.setCourseName("Java基礎");
+    transition.setCurrentStatus("仮申込");
+    transition.setNewStatus("本申込");
+    when(repository.searchStatusIdListByCondition("Java基礎", "仮申込")).thenReturn(List.of("201"));
+    when(repository.searchStudentIdListByStatusIds(List.of("201"))).thenReturn(List.of("1"));
+    when(repository.updateStudentCourseStatusByStatusIds(List.of("201"), "本申込", "仮申込")).thenReturn(1);
+
+    int actual = sut.updateStudentCourseStatuses(transition);
+
+    assertThat(actual).isEqualTo(1);
+  }
+
+  @Test
+  void コース申込状況の一括更新_該当するコース申込状況がない場合は更新せずに0件を返すこと() {
+    StudentCourseStatusTransition transition = new StudentCourseStatusTransition();
+    transition.setCourseName("存在しないコース");
+    transition.setNewStatus("本申込");
+    when(repository.searchStatusIdListByCondition("存在しないコース", null)).thenReturn(List.of());
+
+    int actual = sut.updateStudentCourseStatuses(transition);
+
+    assertThat(actual).isEqualTo(0);
+    verify(repository, never()).updateStudentCourseStatusByStatusIds(anyList(), any(), any());
+    verify(eventPublisher, never()).publishEvent(any());
+  }
+
+  @Test
+  void コース申込状況の一括更新_更新対象を指定しない場合はBadRequestExceptionが発生すること() {
+    StudentCourseStatusTransition transition = new StudentCourseStatusTransition();
+    transition.setNewStatus("本申込");
+
+    assertThatThrownBy(() -> sut.updateStudentCourseStatuses(transition))
+        .isInstanceOf(BadRequestException.class);
+    verify(repository, never()).updateStudentCourseStatusByStatusIds(anyList(), any(), any());
+  }
+
+  private StudentDetail createStudentDetail(String name, int courseCount) {
+    Student student = new Student();
+    student.setName(name);
+    student.setFurigana("てすと");
+    student.setEmail("test@example.com");
+    student.setCity("東京都");
+    student.setAge(20);
+    student.setGender("その他");
+
+    List<StudentCourse> studentCourseList = new ArrayList<>();
+    for (int i = 0; i < courseCount; i++) {
+      StudentCourse studentCourse = new StudentCourse();
+      studentCourse.setCourseName("Java基礎" + i);
+      studentCourseList.add(studentCourse);
+    }
+    return new StudentDetail(student, studentCourseList);
+  }
+
+}
@@ -0,0 +1,228 @@
+package raisetech.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.data.StudentCourse;
+import raisetech.studentmanagement.data.StudentCourseStatus;
+import raisetech.studentmanagement.domain.StudentCsvImportError;
+import raisetech.studentmanagement.domain.StudentCsvImportResult;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentRegistrationResult;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+@ExtendWith(MockitoExtension.class)
+class StudentCsvServiceTest {
+
+  private static final String HEADER = "studentId,name,furigana,nickname,email,city,age,gender,remark,"
+      + "courseId,courseName,startDate,endDate,status\n";
+
+  @Mock
+  private StudentRepository repository;
+
+  @Mock
+  private StudentBulkService bulkService;
+
+  private StudentCsvService sut;
+
+  @BeforeEach
+  void before() {
+    sut = new StudentCsvService(repository, bulkService, 2, 3);
+  }
+
+  @Test
+  void CSV出力_コース1件につき1行で出力されてカーソルが閉じられること() throws Exception {
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatus("受講中");
+    StudentCourse studentCourse1 = createStudentCourse("101", "Java基礎");
+    studentCourse1.setStartDate(LocalDate.of(2024, 1, 1));
+    studentCourse1.setEndDate(LocalDate.of(2024, 12, 31));
+    studentCourse1.setCourseStatus(studentCourseStatus);
+    StudentCourse studentCourse2 = createStudentCourse("102", "AWS入門");
+    Student student1 = createStudent("1", "山田太郎");
+    student1.setRemark("カンマ,と\"引用符\"");
+    Student student2 = createStudent("2", "鈴木花子");
+    Cursor<StudentDetail> cursor = Mockito.mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(List.of(
+        new StudentDetail(student1, List.of(studentCourse1, studentCourse2)),
+        new StudentDetail(student2, List.of())).iterator());
+    when(repository.searchStudentDetailWithStatusCursor()).thenReturn(cursor);
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    sut.exportStudents(outputStream);
+
+    byte[] actual = outputStream.toByteArray();
+    assertThat(Arrays.copyOf(actual, 3)).isEqualTo(StudentCsvService.UTF8_BOM);
+    assertThat(new String(actual, 3, actual.length - 3, StandardCharsets.UTF_8)).isEqualTo(HEADER
+        + "1,山田太郎,てすと,,test@example.com,東京都,20,その他,\"カンマ,と\"\"引用符\"\"\",101,Java基礎,2024-01-01,2024-12-31,受講中\n"
+        + "1,山田太郎,てすと,,test@example.com,東京都,20,その他,\"カンマ,と\"\"引用符\"\"\",102,AWS入門,,,\n"
+        + "2,鈴木花子,てすと,,test@example.com,東京都,20,その他,,,,,,\n");
+    verify(cursor, times(1)).close();
+  }
+
+  @Test
+  void CSV出力_数式として解釈される文字で始まる値は先頭にシングルクォートが付き取り込むと元の値に戻ること() throws Exception {
+    Student student = createStudent("1", "=1+2");
+    student.setNickname("@SUM(A1)");
+    student.setRemark("-2");
+    student.setCity("'=東京都");
+    student.setGender("'男性");
+    StudentCourse studentCourse = createStudentCourse("101", "+Java基礎");
+    Cursor<StudentDetail> cursor = Mockito.mock(Cursor.class);
+    when(cursor.iterator()).thenReturn(List.of(new StudentDetail(student, List.of(studentCourse))).iterator());
+    when(repository.searchStudentDetailWithStatusCursor()).thenReturn(cursor);
+    when(bulkService.registerStudents(anyList())).thenAnswer(invocation -> registeredAll(invocation.getArgument(0)));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    sut.exportStudents(outputStream);
+    sut.importStudents(new ByteArrayInputStream(outputStream.toByteArray()));
+
+    byte[] exported = outputStream.toByteArray();
+    assertThat(new String(exported, 3, exported.length - 3, StandardCharsets.UTF_8))
+        .contains("'=1+2", "'@SUM(A1)", "'-2", "'+Java基礎", "''=東京都", "''男性")
+        .doesNotContain(",=", ",@", ",-", ",+", "\"=", "\"@", "\"-", "\"+");
+    ArgumentCaptor<List<StudentDetail>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(bulkService, times(1)).registerStudents(chunkCaptor.capture());
+    StudentDetail imported = chunkCaptor.getValue().get(0);
+    assertThat(imported.getStudent().getName()).isEqualTo("=1+2");
+    assertThat(imported.getStudent().getNickname()).isEqualTo("@SUM(A1)");
+    assertThat(imported.getStudent().getRemark()).isEqualTo("-2");
+    assertThat(imported.getStudent().getCity()).isEqualTo("'=東京都");
+    assertThat(imported.getStudent().getGender()).isEqualTo("'男性");
+    assertThat(imported.getStudentCourseList()).extracting(StudentCourse::getCourseName).containsExactly("+Java基礎");
+  }
+
+  @Test
+  void CSV取り込み_受講生IDが同じ行は1人の受講生のコースとしてチャンクごとに登録されること() throws Exception {
+    when(bulkService.registerStudents(anyList())).thenAnswer(invocation -> registeredAll(invocation.getArgument(0)));
+
+    StudentCsvImportResult actual = sut.importStudents(csv(HEADER
+        + "1,山田太郎,やまだたろう,,yamada@example.com,東京都,30,男性,,,Java基礎,,,\n"
+        + "1,山田太郎,やまだたろう,,yamada@example.com,東京都,30,男性,,,AWS入門,,,\n"
+        + "2,鈴木花子,すずきはなこ,,suzuki@example.com,大阪府,25,女性,,,,,,\n"
+        + ",佐藤次郎,さとうじろう,,sato@example.com,福岡県,40,その他,,,Java基礎,,,\n"));
+
+    ArgumentCaptor<List<StudentDetail>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(bulkService, times(2)).registerStudents(chunkCaptor.capture());
+    List<StudentDetail> firstChunk = chunkCaptor.getAllValues().get(0);
+    assertThat(firstChunk).extracting(studentDetail -> studentDetail.getStudent().getName())
+        .containsExactly("山田太郎", "鈴木花子");
+    assertThat(firstChunk.get(0).getStudentCourseList()).extracting(StudentCourse::getCourseName)
+        .containsExactly("Java基礎", "AWS入門");
+    assertThat(firstChunk.get(0).getStudent().getAge()).isEqualTo(30);
+    assertThat(firstChunk.get(1).getStudentCourseList()).isEmpty();
+    assertThat(chunkCaptor.getAllValues().get(1)).extracting(studentDetail -> studentDetail.getStudent().getName())
+        .containsExactly("佐藤次郎");
+    assertThat(actual.getImportedCount()).isEqualTo(3);
+    assertThat(actual.getFailedCount()).isZero();
+    assertThat(actual.getErrors()).isEmpty();
+  }
+
+  @Test
+  void CSV取り込み_列の順番が異なりBOMが付いていても取り込めること() throws Exception {
+    when(bulkService.registerStudents(anyList())).thenAnswer(invocation -> registeredAll(invocation.getArgument(0)));
+    ByteArrayOutputStream body = new ByteArrayOutputStream();
+    body.write(StudentCsvService.UTF8_BOM);
+    body.write("""
+        name,age,email,furigana,city,gender,courseName
+        山田太郎,30,yamada@example.com,やまだたろう,東京都,男性,Java基礎
+        """.getBytes(StandardCharsets.UTF_8));
+
+    StudentCsvImportResult actual = sut.importStudents(new ByteArrayInputStream(body.toByteArray()));
+
+    ArgumentCaptor<List<StudentDetail>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+    verify(bulkService, times(1)).registerStudents(chunkCaptor.capture());
+    Student student = chunkCaptor.getValue().get(0).getStudent();
+    assertThat(student.getName()).isEqualTo("山田太郎");
+    assertThat(student.getEmail()).isEqualTo("yamada@example.com");
+    assertThat(actual.getImportedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void CSV取り込み_登録できなかった受講生は先頭の行番号と理由が返ってくること() throws Exception {
+    when(bulkService.registerStudents(anyList())).thenReturn(List.of(
+        StudentRegistrationResult.registered(0, "test-id-1"),
+        StudentRegistrationResult.failed(1, "student.email: 正しいメールアドレスを入力してください")));
+
+    StudentCsvImportResult actual = sut.importStudents(csv(HEADER
+        + "1,山田太郎,やまだたろう,,yamada@example.com,東京都,三十,男性,,,Java基礎,,,\n"
+        + "2,鈴木花子,すずきはなこ,,suzuki@example.com,大阪府,25,女性,,,Java基礎,,,\n"
+        + "2,鈴木花子,すずきはなこ,,suzuki@example.com,大阪府,25,女性,,,AWS入門,,,\n"
+        + "3,佐藤次郎,さとうじろう,,invalid,福岡県,40,その他,,,,,,\n"));
+
+    verify(bulkService, times(1)).registerStudents(Mockito.argThat(chunk -> chunk.size() == 2));
+    assertThat(actual.getImportedCount()).isEqualTo(1);
+    assertThat(actual.getFailedCount()).isEqualTo(2);
+    assertThat(actual.getErrors()).extracting(StudentCsvImportError::getLine, StudentCsvImportError::getMessage)
+        .containsExactly(
+            tuple(2L, "student.age: 年齢は数値で入力してください"),
+            tuple(5L, "student.email: 正しいメールアドレスを入力してください"));
+  }
+
+  @Test
+  void CSV取り込み_登録できなかった行は上限まで返して人数は全て数えること() throws Exception {
+    StringBuilder body = new StringBuilder(HEADER);
+    IntStream.range(0, 5).forEach(i -> body.append(i).append(",受講生,じゅこうせい,,a@example.com,東京都,年齢,男性,,,,,,\n"));
+
+    StudentCsvImportResult actual = sut.importStudents(csv(body.toString()));
+
+    verify(bulkService, never()).registerStudents(anyList());
+    assertThat(actual.getFailedCount()).isEqualTo(5);
+    assertThat(actual.getErrors()).extracting(StudentCsvImportError::getLine).containsExactly(2L, 3L, 4L);
+  }
+
+  private static InputStream csv(String body) {
+    return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static List<StudentRegistrationResult> registeredAll(List<StudentDetail> chunk) {
+    List<StudentRegistrationResult> results = new ArrayList<>();
+    for (int i = 0; i < chunk.size(); i++) {
+      results.add(StudentRegistrationResult.registered(i, "test-id-" + i));
+    }
+    return results;
+  }
+
+  private static Student createStudent(String studentId, String name) {
+    Student student = new Student();
+    student.setStudentId(studentId);
+    student.setName(name);
+    student.setFurigana("てすと");
+    student.setEmail("test@example.com");
+    student.setCity("東京都");
+    student.setAge(20);
+    student.setGender("その他");
+    return student;
+  }
+
+  private static StudentCourse createStudentCourse(String courseId, String courseName) {
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseId(courseId);
+    studentCourse.setCourseName(courseName);
+    return studentCourse;
+  }
+
+}
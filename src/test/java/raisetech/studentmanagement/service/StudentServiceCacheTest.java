@@ -0,0 +1,102 @@
+package raisetech.studentmanagement.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import raisetech.studentmanagement.data.Student;
+import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.repository.StudentRepository;
+
+/**
+ * 受講生詳細検索のキャッシュを、アプリケーションのコンテキストとデータベースを通して確認するテストです。
+ * キャッシュの破棄はトランザクションのコミット後に行うため、コミットとロールバックの両方を確認します。
+ */
+@SpringBootTest
+class StudentServiceCacheTest {
+
+  private static final String STUDENT_ID = "4";
+
+  @Autowired
+  private StudentService sut;
+
+  @SpyBean
+  private StudentRepository repository;
+
+  @Autowired
+  private CacheManager cacheManager;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  @BeforeEach
+  void before() {
+    cacheManager.getCacheNames().forEach(cacheName -> cacheManager.getCache(cacheName).clear());
+  }
+
+  @Test
+  void 受講生詳細検索を2回呼び出してもデータベースの検索は1回であること() {
+    StudentDetail first = sut.searchStudentById(STUDENT_ID);
+    StudentDetail second = sut.searchStudentById(STUDENT_ID);
+
+    verify(repository, times(1)).searchStudentById(STUDENT_ID);
+    assertThat(second).isSameAs(first);
+  }
+
+  @Test
+  void 受講生詳細を更新した後の検索ではデータベースから読み直すこと() {
+    Student original = copyOf(sut.searchStudentById(STUDENT_ID).getStudent());
+    Student updated = copyOf(original);
+    updated.setNickname("更新後のニックネーム");
+
+    try {
+      sut.updateStudent(new StudentDetail(updated, List.of()));
+      clearInvocations(repository);
+
+      StudentDetail actual = sut.searchStudentById(STUDENT_ID);
+
+      verify(repository, times(1)).searchStudentById(STUDENT_ID);
+      assertThat(actual.getStudent().getNickname()).isEqualTo("更新後のニックネーム");
+    } finally {
+      sut.updateStudent(new StudentDetail(original, List.of()));
+    }
+  }
+
+  @Test
+  void ロールバックされた更新ではキャッシュが破棄されないこと() {
+    StudentDetail cached = sut.searchStudentById(STUDENT_ID);
+    Student updated = copyOf(cached.getStudent());
+    updated.setNickname("ロールバックされるニックネーム");
+
+    transactionTemplate.executeWithoutResult(status -> {
+      sut.updateStudent(new StudentDetail(updated, List.of()));
+      status.setRollbackOnly();
+    });
+    clearInvocations(repository);
+
+    StudentDetail actual = sut.searchStudentById(STUDENT_ID);
+
+    verify(repository, times(0)).searchStudentById(STUDENT_ID);
+    assertThat(actual).isSameAs(cached);
+    assertThat(actual.getStudent().getNickname()).isEqualTo("りお");
+  }
+
+  /**
+   * キャッシュしている受講生を書き換えないよう、更新に使う受講生をコピーします。
+   */
+  private static Student copyOf(Student student) {
+    Student copy = new Student();
+    BeanUtils.copyProperties(student, copy);
+    return copy;
+  }
+}
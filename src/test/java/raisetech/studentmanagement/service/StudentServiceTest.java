@@ -3,16 +3,27 @@ package raisetech.studentmanagement.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import raisetech.studentmanagement.cache.StudentDataVersion;
+import raisetech.studentmanagement.cache.StudentDetailCache;
+import raisetech.studentmanagement.config.CacheConfig;
 import raisetech.studentmanagement.data.StudentCourseStatus;
 import raisetech.studentmanagement.domain.StudentSearchCondition;
 import raisetech.studentmanagement.domain.assembler.StudentCourseAssembler;
@@ -20,6 +31,19 @@ import raisetech.studentmanagement.domain.converter.StudentConverter;
 import raisetech.studentmanagement.data.Student;
 import raisetech.studentmanagement.data.StudentCourse;
 import raisetech.studentmanagement.domain.StudentDetail;
+import raisetech.studentmanagement.domain.StudentFilter;
+import raisetech.studentmanagement.domain.StudentPage;
+import raisetech.studentmanagement.domain.StudentStatistics;
+import raisetech.studentmanagement.domain.StudentSuggestion;
+import raisetech.studentmanagement.event.StudentChangedEvent;
+import raisetech.studentmanagement.event.StudentChangedEvent.ChangeType;
+import raisetech.studentmanagement.exception.BadRequestException;
+import raisetech.studentmanagement.exception.ResourceNotFoundException;
+import raisetech.studentmanagement.exception.ServiceUnavailableException;
+import raisetech.studentmanagement.index.StudentBitmapIndex;
+import raisetech.studentmanagement.index.StudentFuriganaTrie;
+import raisetech.studentmanagement.index.StudentNameIndex;
+import raisetech.studentmanagement.index.StudentStatisticsCounter;
 import raisetech.studentmanagement.repository.StudentRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +58,29 @@ class StudentServiceTest {
   @Mock
   private StudentCourseAssembler studentCourseAssembler;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private StudentNameIndex studentNameIndex;
+
+  @Mock
+  private StudentFuriganaTrie studentFuriganaTrie;
+
+  @Mock
+  private StudentBitmapIndex studentBitmapIndex;
+
+  @Mock
+  private StudentStatisticsCounter studentStatisticsCounter;
+
   private StudentService sut;
 
   @BeforeEach
   void before(){
-    sut = new StudentService(repository, converter, studentCourseAssembler);
+    sut = new StudentService(repository, converter, studentCourseAssembler, eventPublisher, studentNameIndex,
+        studentFuriganaTrie, studentBitmapIndex, studentStatisticsCounter,
+        new ParallelQueryExecutor(false, 1),
+        new StudentDetailCache(new CacheConfig().cacheManager(100, Duration.ofMinutes(10)), new StudentDataVersion()));
   }
 
   @Test
@@ -66,23 +108,308 @@ class StudentServiceTest {
   }
 
   @Test
-  void 受講生詳細の条件検索_リポジトリとコンバーターの処理が適切に呼び出せていること() {
+  void 受講生詳細の条件検索_条件に一致した受講生のコース情報だけを検索していること() {
     // 事前準備
-    List<Student> studentListByCondition = new ArrayList<>();
+    Student student = new Student();
+    student.setStudentId("test-id-123");
+    List<Student> studentListByCondition = List.of(student);
     List<StudentCourse> studentCourseList = new ArrayList<>();
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
     Mockito.when(repository.searchStudentByCondition(studentSearchCondition)).thenReturn(studentListByCondition);
-    Mockito.when(repository.searchStudentCourseList()).thenReturn(studentCourseList);
+    Mockito.when(repository.searchStudentCourseListByStudentIds(List.of("test-id-123"))).thenReturn(studentCourseList);
 
     // 実行
     sut.searchStudentListByCondition(studentSearchCondition);
 
     // 検証
     Mockito.verify(repository, times(1)).searchStudentByCondition(studentSearchCondition);
-    Mockito.verify(repository, times(1)).searchStudentCourseList();
+    Mockito.verify(repository, times(1)).searchStudentCourseListByStudentIds(List.of("test-id-123"));
+    Mockito.verify(repository, never()).searchStudentCourseList();
     Mockito.verify(converter, times(1)).convertStudentDetails(studentListByCondition, studentCourseList);
   }
 
+  @Test
+  void 受講生詳細の条件検索_該当する受講生がいない場合はコース情報を検索しないこと() {
+    // 事前準備
+    List<Student> studentListByCondition = new ArrayList<>();
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    Mockito.when(repository.searchStudentByCondition(studentSearchCondition)).thenReturn(studentListByCondition);
+
+    // 実行
+    sut.searchStudentListByCondition(studentSearchCondition);
+
+    // 検証
+    Mockito.verify(repository, never()).searchStudentCourseListByStudentIds(any());
+    Mockito.verify(converter, times(1)).convertStudentDetails(studentListByCondition, List.of());
+  }
+
+  @Test
+  void 受講生詳細の条件検索_受講生IDはIN句の上限件数ごとに分割して検索されること() {
+    // 事前準備
+    List<Student> studentListByCondition = new ArrayList<>();
+    for (int i = 0; i < StudentService.IN_CLAUSE_CHUNK_SIZE * 2 + 1; i++) {
+      Student student = new Student();
+      student.setStudentId("test-id-" + i);
+      studentListByCondition.add(student);
+    }
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    Mockito.when(repository.searchStudentByCondition(studentSearchCondition)).thenReturn(studentListByCondition);
+    Mockito.when(repository.searchStudentCourseListByStudentIds(any())).thenReturn(List.of(new StudentCourse()));
+
+    // 実行
+    sut.searchStudentListByCondition(studentSearchCondition);
+
+    // 検証
+    ArgumentCaptor<List<String>> captor = ArgumentCaptor.forClass(List.class);
+    Mockito.verify(repository, times(3)).searchStudentCourseListByStudentIds(captor.capture());
+    assertThat(captor.getAllValues()).extracting(List::size)
+        .containsExactly(StudentService.IN_CLAUSE_CHUNK_SIZE, StudentService.IN_CLAUSE_CHUNK_SIZE, 1);
+    Mockito.verify(converter, times(1)).convertStudentDetails(eq(studentListByCondition), argThat(list -> list.size() == 3));
+  }
+
+  @Test
+  void 受講生詳細の条件検索_名前を指定した場合は受講生名インデックスで絞り込んだ受講生IDで検索されること() {
+    // 事前準備
+    Student student = new Student();
+    student.setStudentId("1");
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setName("すずき");
+    studentSearchCondition.setCity("東京都");
+    Mockito.when(studentNameIndex.isReady()).thenReturn(true);
+    Mockito.when(studentNameIndex.searchStudentIds("すずき")).thenReturn(List.of("1", "5"));
+    Mockito.when(repository.searchStudentByConditionInIds(studentSearchCondition, List.of("1", "5")))
+        .thenReturn(List.of(student));
+
+    // 実行
+    sut.searchStudentListByCondition(studentSearchCondition);
+
+    // 検証
+    Mockito.verify(repository, never()).searchStudentByCondition(any());
+    Mockito.verify(repository, times(1)).searchStudentCourseListByStudentIds(List.of("1"));
+  }
+
+  @Test
+  void 受講生詳細の条件検索_受講生名インデックスで該当がない場合は受講生を検索しないこと() {
+    // 事前準備
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setName("該当なし");
+    Mockito.when(studentNameIndex.isReady()).thenReturn(true);
+    Mockito.when(studentNameIndex.searchStudentIds("該当なし")).thenReturn(List.of());
+
+    // 実行
+    sut.searchStudentListWithStatusByCondition(studentSearchCondition);
+
+    // 検証
+    Mockito.verify(repository, never()).searchStudentByCondition(any());
+    Mockito.verify(repository, never()).searchStudentByConditionInIds(any(), any());
+    Mockito.verify(converter, times(1)).convertStudentDetails(List.of(), List.of());
+  }
+
+  @Test
+  void 受講生詳細の条件検索_名前が空白だけの場合は名前を指定しなかったものとして検索されること() {
+    // 事前準備
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setName(" 　");
+    studentSearchCondition.setCity("東京都");
+    Mockito.when(repository.searchStudentByCondition(studentSearchCondition)).thenReturn(List.of());
+
+    // 実行
+    sut.searchStudentListByCondition(studentSearchCondition);
+
+    // 検証
+    Mockito.verify(repository, times(1)).searchStudentByCondition(studentSearchCondition);
+    Mockito.verify(studentNameIndex, never()).searchStudentIds(any());
+  }
+
+  @Test
+  void 受講生詳細の条件検索_受講生名インデックスが作成前の場合は名前で検索せずにServiceUnavailableExceptionが発生すること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setName("スズキ");
+    Mockito.when(studentNameIndex.isReady()).thenReturn(false);
+
+    assertThrows(ServiceUnavailableException.class, () -> sut.searchStudentListByCondition(studentSearchCondition));
+    Mockito.verify(studentNameIndex, never()).searchStudentIds(any());
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test
+  void 受講生詳細の条件検索_最小年齢が最大年齢より大きい場合は検索せずにBadRequestExceptionが発生すること() {
+    StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
+    studentSearchCondition.setMinAge(40);
+    studentSearchCondition.setMaxAge(30);
+
+    assertThrows(BadRequestException.class, () -> sut.searchStudentListByCondition(studentSearchCondition));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentListWithStatusByCondition(studentSearchCondition));
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test
+  void 受講生詳細の絞り込み検索_ビットマップ索引で一致した受講生の分だけ取得されること() {
+    // 事前準備
+    StudentFilter studentFilter = new StudentFilter();
+    studentFilter.setCity("東京都");
+    List<Student> studentList = List.of(new Student());
+    List<StudentCourse> studentCourseList = List.of();
+    List<StudentCourseStatus> studentCourseStatusList = List.of();
+    Mockito.when(studentBitmapIndex.isReady()).thenReturn(true);
+    Mockito.when(studentBitmapIndex.searchStudentIds(studentFilter)).thenReturn(List.of("1", "5"));
+    Mockito.when(repository.searchStudentByConditionInIds(any(), eq(List.of("1", "5")))).thenReturn(studentList);
+    Mockito.when(repository.searchStudentCourseListByStudentIds(any())).thenReturn(studentCourseList);
+    Mockito.when(repository.searchStudentCourseStatusListByStudentIds(any())).thenReturn(studentCourseStatusList);
+    Mockito.when(studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList))
+        .thenReturn(studentCourseList);
+
+    // 実行
+    sut.searchStudentListWithStatusByFilter(studentFilter);
+
+    // 検証
+    Mockito.verify(repository, never()).searchStudentByCondition(any());
+    Mockito.verify(converter, times(1)).convertStudentDetails(studentList, studentCourseList);
+  }
+
+  @Test
+  void 受講生詳細の絞り込み検索_ビットマップ索引が作成前の場合はServiceUnavailableExceptionが発生すること() {
+    Mockito.when(studentBitmapIndex.isReady()).thenReturn(false);
+
+    assertThrows(ServiceUnavailableException.class, () -> sut.searchStudentListWithStatusByFilter(new StudentFilter()));
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test
+  void 受講生の集計_カウンターの件数が返され受講生の一覧は取得されないこと() {
+    // 事前準備
+    StudentStatistics studentStatistics = new StudentStatistics(2, Map.of("東京都", 2L), Map.of("男性", 1L, "女性", 1L),
+        Map.of("Java基礎", 2L), Map.of("受講中", 2L));
+    Mockito.when(studentStatisticsCounter.isReady()).thenReturn(true);
+    Mockito.when(studentStatisticsCounter.statistics()).thenReturn(studentStatistics);
+
+    // 実行 & 検証
+    assertThat(sut.getStudentStatistics()).isSameAs(studentStatistics);
+    assertThat(sut.getStudentStatistics("city")).isEqualTo(Map.of("東京都", 2L));
+    assertThat(sut.getStudentStatistics("course")).isEqualTo(Map.of("Java基礎", 2L));
+    assertThrows(ResourceNotFoundException.class, () -> sut.getStudentStatistics("email"));
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test
+  void 受講生の集計_カウンターが作成前の場合はServiceUnavailableExceptionが発生すること() {
+    Mockito.when(studentStatisticsCounter.isReady()).thenReturn(false);
+
+    assertThrows(ServiceUnavailableException.class, () -> sut.getStudentStatistics());
+    Mockito.verify(studentStatisticsCounter, never()).statistics();
+  }
+
+  @Test
+  void ふりがなの入力補完_トライ木の検索結果が返されること() {
+    // 事前準備
+    List<StudentSuggestion> suggestions = List.of(new StudentSuggestion("1", "鈴木大介", "すずきだいすけ"));
+    Mockito.when(studentFuriganaTrie.isReady()).thenReturn(true);
+    Mockito.when(studentFuriganaTrie.suggest("すず", 10)).thenReturn(suggestions);
+
+    // 実行
+    List<StudentSuggestion> actual = sut.suggestStudents("すず", 10);
+
+    // 検証
+    assertThat(actual).isEqualTo(suggestions);
+    Mockito.verifyNoInteractions(repository);
+  }
+
+  @Test
+  void ふりがなの入力補完_トライ木が作成前の場合は空の一覧が返されること() {
+    // 事前準備
+    Mockito.when(studentFuriganaTrie.isReady()).thenReturn(false);
+
+    // 実行
+    List<StudentSuggestion> actual = sut.suggestStudents("すず", 10);
+
+    // 検証
+    assertThat(actual).isEmpty();
+    Mockito.verify(studentFuriganaTrie, never()).suggest(any(), Mockito.anyInt());
+  }
+
+  @Test
+  void ふりがなの入力補完_prefixが空か件数が範囲外の場合は例外が発生すること() {
+    assertThrows(BadRequestException.class, () -> sut.suggestStudents(" ", 10));
+    assertThrows(BadRequestException.class, () -> sut.suggestStudents("すず", 0));
+    assertThrows(BadRequestException.class,
+        () -> sut.suggestStudents("すず", StudentService.MAX_SUGGEST_LIMIT + 1));
+    Mockito.verifyNoInteractions(studentFuriganaTrie);
+  }
+
+  @Test
+  void 受講生詳細のストリーミング出力_カーソルから読み込んだ順に受講生詳細が渡されてカーソルが閉じられること() throws Exception {
+    // 事前準備
+    StudentDetail studentDetail1 = new StudentDetail();
+    StudentDetail studentDetail2 = new StudentDetail();
+    Cursor<StudentDetail> cursor = Mockito.mock(Cursor.class);
+    Mockito.when(cursor.iterator()).thenReturn(List.of(studentDetail1, studentDetail2).iterator());
+    Mockito.when(repository.searchStudentDetailCursor()).thenReturn(cursor);
+    List<StudentDetail> actual = new ArrayList<>();
+
+    // 実行
+    sut.streamStudentList(actual::add);
+
+    // 検証
+    assertThat(actual).containsExactly(studentDetail1, studentDetail2);
+    Mockito.verify(cursor, times(1)).close();
+    Mockito.verify(repository, never()).searchStudent();
+  }
+
+  @Test
+  void 受講生詳細のページ検索_次のページがある場合はページの最後の受講生IDからカーソルが作られること() {
+    // 事前準備
+    Student student1 = new Student();
+    student1.setStudentId("1");
+    Student student2 = new Student();
+    student2.setStudentId("2");
+    Student student3 = new Student();
+    student3.setStudentId("3");
+    Mockito.when(repository.searchStudentPage(null, 3)).thenReturn(List.of(student1, student2, student3));
+    Mockito.when(repository.searchStudentCourseListByStudentIds(List.of("1", "2"))).thenReturn(List.of());
+    Mockito.when(converter.convertStudentDetails(List.of(student1, student2), List.of()))
+        .thenReturn(List.of(new StudentDetail(student1, List.of()), new StudentDetail(student2, List.of())));
+
+    // 実行
+    StudentPage firstPage = sut.searchStudentPage(null, 2);
+
+    // 検証
+    assertThat(firstPage.getStudentDetailList()).hasSize(2);
+    assertThat(firstPage.getNextCursor()).isNotNull();
+
+    Mockito.when(repository.searchStudentPage("2", 3)).thenReturn(List.of(student3));
+    Mockito.when(repository.searchStudentCourseListByStudentIds(List.of("3"))).thenReturn(List.of());
+    Mockito.when(converter.convertStudentDetails(List.of(student3), List.of()))
+        .thenReturn(List.of(new StudentDetail(student3, List.of())));
+
+    StudentPage secondPage = sut.searchStudentPage(firstPage.getNextCursor(), 2);
+
+    assertThat(secondPage.getStudentDetailList()).hasSize(1);
+    assertThat(secondPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  void コース申込状況を含む受講生詳細のページ検索_最後のページではカーソルがnullになること() {
+    // 事前準備
+    Student student = new Student();
+    student.setStudentId("1");
+    List<StudentDetail> studentDetailList = List.of(new StudentDetail(student, List.of()));
+    Mockito.when(repository.searchStudentDetailPageWithStatus(null, 11)).thenReturn(studentDetailList);
+
+    // 実行
+    StudentPage actual = sut.searchStudentPageWithStatus(null, 10);
+
+    // 検証
+    assertThat(actual.getStudentDetailList()).isEqualTo(studentDetailList);
+    assertThat(actual.getNextCursor()).isNull();
+  }
+
+  @Test
+  void 受講生詳細のページ検索_不正なカーソルや件数の場合はBadRequestExceptionが発生すること() {
+    assertThrows(BadRequestException.class, () -> sut.searchStudentPage("不正なカーソル", 10));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentPage(null, 0));
+    assertThrows(BadRequestException.class, () -> sut.searchStudentPageWithStatus(null, StudentService.MAX_PAGE_LIMIT + 1));
+  }
+
   @Test
   void コース申込状況を含む受講生コース情報の一覧検索_リポジトリとアセンブラーの処理が適切に呼び出されていること(){
     // 事前準備
@@ -101,36 +428,27 @@ class StudentServiceTest {
   }
 
   @Test
-  void コース申込状況を含む受講生詳細の一覧検索_リポジトリとアセンブラーとコンバーターらの依存コンポーネントが正しく呼び出せていること(){
+  void コース申込状況を含む受講生詳細の一覧検索_結合クエリの結果がそのまま返されること(){
     // 事前準備
-    List<Student> studentList = new ArrayList<>();
-    List<StudentCourse> studentCourseList = new ArrayList<>();
-    List<StudentCourseStatus> studentCourseStatusList = new ArrayList<>();
-    List<StudentCourse> assembledList = new ArrayList<>();
     List<StudentDetail> expected = new ArrayList<>();
-
-    Mockito.when(repository.searchStudent()).thenReturn(studentList);
-    Mockito.when(repository.searchStudentCourseList()).thenReturn(studentCourseList);
-    Mockito.when(repository.searchStudentCourseStatusList()).thenReturn(studentCourseStatusList);
-    Mockito.when(studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList)).thenReturn(assembledList);
-    Mockito.when(converter.convertStudentDetails(studentList, assembledList)).thenReturn(expected);
+    Mockito.when(repository.searchStudentDetailListWithStatus()).thenReturn(expected);
 
     // 実行
     List<StudentDetail> actual = sut.searchStudentListWithStatus();
 
     // 検証
-    Mockito.verify(repository, times(1)).searchStudent();
-    Mockito.verify(repository, times(1)).searchStudentCourseList();
-    Mockito.verify(repository, times(1)).searchStudentCourseStatusList();
-    Mockito.verify(studentCourseAssembler, times(1)).assembleCourseListWithStatus(studentCourseList, studentCourseStatusList);
-    Mockito.verify(converter, times(1)).convertStudentDetails(studentList, assembledList);
+    Mockito.verify(repository, times(1)).searchStudentDetailListWithStatus();
+    Mockito.verifyNoMoreInteractions(repository);
+    Mockito.verifyNoInteractions(studentCourseAssembler, converter);
     assertThat(actual).isSameAs(expected);
   }
 
   @Test
-  void コース申込状況を含む受講生詳細の条件検索_リポジトリとアセンブラーとコンバーターらの依存コンポーネントが正しく呼び出せていること(){
+  void コース申込状況を含む受講生詳細の条件検索_条件に一致した受講生のコース情報と申込状況だけを検索していること(){
     // 事前準備
-    List<Student> studentListByCondition = new ArrayList<>();
+    Student student = new Student();
+    student.setStudentId("test-id-123");
+    List<Student> studentListByCondition = List.of(student);
     List<StudentCourse> studentCourseList = new ArrayList<>();
     List<StudentCourseStatus> studentCourseStatusList = new ArrayList<>();
     List<StudentCourse> assembledList = new ArrayList<>();
@@ -138,8 +456,8 @@ class StudentServiceTest {
     StudentSearchCondition studentSearchCondition = new StudentSearchCondition();
 
     Mockito.when(repository.searchStudentByCondition(studentSearchCondition)).thenReturn(studentListByCondition);
-    Mockito.when(repository.searchStudentCourseList()).thenReturn(studentCourseList);
-    Mockito.when(repository.searchStudentCourseStatusList()).thenReturn(studentCourseStatusList);
+    Mockito.when(repository.searchStudentCourseListByStudentIds(List.of("test-id-123"))).thenReturn(studentCourseList);
+    Mockito.when(repository.searchStudentCourseStatusListByStudentIds(List.of("test-id-123"))).thenReturn(studentCourseStatusList);
     Mockito.when(studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList)).thenReturn(assembledList);
     Mockito.when(converter.convertStudentDetails(studentListByCondition, assembledList)).thenReturn(expected);
 
@@ -148,8 +466,10 @@ class StudentServiceTest {
 
     // 検証
     Mockito.verify(repository, times(1)).searchStudentByCondition(studentSearchCondition);
-    Mockito.verify(repository, times(1)).searchStudentCourseList();
-    Mockito.verify(repository, times(1)).searchStudentCourseStatusList();
+    Mockito.verify(repository, times(1)).searchStudentCourseListByStudentIds(List.of("test-id-123"));
+    Mockito.verify(repository, times(1)).searchStudentCourseStatusListByStudentIds(List.of("test-id-123"));
+    Mockito.verify(repository, never()).searchStudentCourseList();
+    Mockito.verify(repository, never()).searchStudentCourseStatusList();
     Mockito.verify(studentCourseAssembler, times(1)).assembleCourseListWithStatus(studentCourseList, studentCourseStatusList);
     Mockito.verify(converter, times(1)).convertStudentDetails(studentListByCondition, assembledList);
     assertThat(actual).isSameAs(expected);
@@ -209,28 +529,19 @@ class StudentServiceTest {
   }
 
   @Test
-  void コース申込状況を含む受講生詳細検索_リポジトリの呼び出しが適切に呼び出されていること(){
+  void コース申込状況を含む受講生詳細検索_結合クエリ1回で取得していること(){
     // 事前準備
-    Student student = new Student();
     String studentId = "test-id-123";
-    student.setStudentId(studentId);
-    List<StudentCourse> studentCourseList = new ArrayList<>();
-    List<StudentCourseStatus> studentCourseStatusList = new ArrayList<>();
-    List<StudentCourse> assembledList = new ArrayList<>();
-
-    Mockito.when(repository.searchStudentById(studentId)).thenReturn(student);
-    Mockito.when(repository.searchStudentCourseListById(student.getStudentId())).thenReturn(studentCourseList);
-    Mockito.when(repository.searchStudentCourseStatusList()).thenReturn(studentCourseStatusList);
-    Mockito.when(studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList)).thenReturn(assembledList);
+    StudentDetail studentDetail = new StudentDetail();
+    Mockito.when(repository.searchStudentDetailByIdWithStatus(studentId)).thenReturn(studentDetail);
 
     // 実行
     sut.searchStudentByIdWithStatus(studentId);
 
     // 検証
-    Mockito.verify(repository, times(1)).searchStudentById(studentId);
-    Mockito.verify(repository, times(1)).searchStudentCourseListById(student.getStudentId());
-    Mockito.verify(repository, times(1)).searchStudentCourseStatusList();
-    Mockito.verify(studentCourseAssembler, times(1)).assembleCourseListWithStatus(studentCourseList, studentCourseStatusList);
+    Mockito.verify(repository, times(1)).searchStudentDetailByIdWithStatus(studentId);
+    Mockito.verifyNoMoreInteractions(repository);
+    Mockito.verifyNoInteractions(studentCourseAssembler);
   }
 
   @Test
@@ -240,29 +551,18 @@ class StudentServiceTest {
     student.setStudentId("test-id-123");
     student.setName("テスト太郎");
 
-    StudentCourse studentCourse = new StudentCourse();
-    studentCourse.setCourseId("test-courseId-456");
-    studentCourse.setCourseName("テストコース");
-    List<StudentCourse> studentCourseList = List.of(studentCourse);
-
-    StudentCourse assembledCourse = new StudentCourse();
-    assembledCourse.setCourseId("test-courseId-456");
-    assembledCourse.setCourseName("テストコース");
-
     StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
     studentCourseStatus.setStatusId("test-statusId-789");
     studentCourseStatus.setCourseId("test-courseId-456");
     studentCourseStatus.setStatus("仮申込");
 
-    assembledCourse.setCourseStatus(studentCourseStatus);
-
-    List<StudentCourseStatus> studentCourseStatusList = List.of(studentCourseStatus);
-    List<StudentCourse> assembledList = List.of(assembledCourse);
+    StudentCourse studentCourse = new StudentCourse();
+    studentCourse.setCourseId("test-courseId-456");
+    studentCourse.setCourseName("テストコース");
+    studentCourse.setCourseStatus(studentCourseStatus);
 
-    Mockito.when(repository.searchStudentById("test-id-123")).thenReturn(student);
-    Mockito.when(repository.searchStudentCourseListById(student.getStudentId())).thenReturn(studentCourseList);
-    Mockito.when(repository.searchStudentCourseStatusList()).thenReturn(studentCourseStatusList);
-    Mockito.when(studentCourseAssembler.assembleCourseListWithStatus(studentCourseList, studentCourseStatusList)).thenReturn(assembledList);
+    Mockito.when(repository.searchStudentDetailByIdWithStatus("test-id-123"))
+        .thenReturn(new StudentDetail(student, List.of(studentCourse)));
 
     // 実行
     StudentDetail actual= sut.searchStudentByIdWithStatus("test-id-123");
@@ -272,6 +572,18 @@ class StudentServiceTest {
     assertThat(actual.getStudentCourseList().get(0).getCourseStatus().getStatus()).isEqualTo("仮申込");
   }
 
+  @Test
+  void コース申込状況を含む受講生詳細検索_存在しないIDの場合はResourceNotFoundExceptionが発生すること(){
+    // 事前準備
+    String studentId = "存在しないID";
+    Mockito.when(repository.searchStudentDetailByIdWithStatus(studentId)).thenReturn(null);
+
+    // 実行 & 検証
+    assertThrows(ResourceNotFoundException.class, () -> {
+      sut.searchStudentByIdWithStatus(studentId);
+    });
+  }
+
   @Test
   void 受講生詳細登録_リポジトリが適切に呼び出されていること(){
     // 事前準備
@@ -353,6 +665,24 @@ class StudentServiceTest {
     Mockito.verify(repository, times(1)).updateStudentCourseStatus(studentCourseStatus);
   }
 
+  @Test
+  void コース申込状況の更新_コースを受講している受講生の変更イベントが発行されること(){
+    // 事前準備
+    StudentCourseStatus studentCourseStatus = new StudentCourseStatus();
+    studentCourseStatus.setStatusId("test-id-123");
+    studentCourseStatus.setStatus("受講中");
+    Mockito.when(repository.searchStudentIdByStatusId("test-id-123")).thenReturn("test-student-id-456");
+
+    // 実行
+    sut.updateStudentCourseStatus(studentCourseStatus);
+
+    // 検証
+    ArgumentCaptor<StudentChangedEvent> captor = ArgumentCaptor.forClass(StudentChangedEvent.class);
+    Mockito.verify(eventPublisher, times(1)).publishEvent(captor.capture());
+    assertThat(captor.getValue().getChangeType()).isEqualTo(ChangeType.UPDATED);
+    assertThat(captor.getValue().getStudentIds()).containsExactly("test-student-id-456");
+  }
+
   @Test
   void 受講生詳細の論理削除_リポジトリが適切に呼び出されていること(){
     // 事前準備
@@ -363,6 +693,10 @@ class StudentServiceTest {
 
     // 検証
     Mockito.verify(repository, times(1)).localDeleteStudent(studentId);
+    Mockito.verify(eventPublisher, times(1)).publishEvent(argThat((Object event) ->
+        event instanceof StudentChangedEvent studentChangedEvent
+            && studentChangedEvent.getChangeType() == ChangeType.DELETED
+            && studentChangedEvent.getStudentIds().equals(List.of(studentId))));
   }
 
 }
\ No newline at end of file
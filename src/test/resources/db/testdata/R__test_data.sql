@@ -1,3 +1,4 @@
+-- テスト用の初期データ（テストでは db/migration のマイグレーションの後に投入する）
 INSERT INTO students(student_id,name, furigana, nickname, email, city, age, gender)
 VALUES('1', '鈴木大介', 'すずきだいすけ', 'だいちゃん', 'suzuki@example.com', '東京都', 51, '男性'),
       ('2', '中田花奈', 'なかだかな', 'かなりん', 'nakada@example.com', '埼玉県', 31, '女性'),